@@ -1,15 +1,23 @@
 package collections;
 
+import io.github.palexdev.materialfx.collections.ColumnarProjection.IntColumn;
+import io.github.palexdev.materialfx.collections.IndexedPredicate;
 import io.github.palexdev.materialfx.collections.TransformableList;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
 
-import java.util.Comparator;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,4 +74,352 @@ public void testJavaFX2() {
 		assertEquals(filtered.getSourceIndex(1), 2);
 		assertTrue(filtered.getViewIndex(1) < 0);
 	}
+
+	//================================================================================
+	// Incremental, Async and Parallel modes
+	//================================================================================
+	private static final Predicate<Quote> NOT_DIV_3 = q -> q.price % 3 != 0;
+	private static final Comparator<Quote> BY_PRICE = Comparator.comparingInt(q -> q.price);
+
+	@Test
+	public void incrementalRandomChanges() {
+		QuoteList quotes = QuoteList.of(200, 1);
+		TransformableList<Quote> incremental = new TransformableList<>(quotes, NOT_DIV_3::test, BY_PRICE::compare);
+		incremental.setIncremental(true);
+		TransformableList<Quote> full = new TransformableList<>(quotes, NOT_DIV_3::test, BY_PRICE::compare);
+		List<Quote> mirror = mirror(incremental);
+
+		Random random = new Random(42);
+		for (int i = 0; i < 500; i++) {
+			randomChange(quotes, random);
+			check(quotes, incremental, mirror, NOT_DIV_3, BY_PRICE);
+			assertEquals(new ArrayList<>(full), new ArrayList<>(incremental));
+		}
+	}
+
+	@Test
+	public void incrementalRemoveAndAddInOneChange() {
+		QuoteList quotes = QuoteList.of(50, 2);
+		TransformableList<Quote> list = new TransformableList<>(quotes, NOT_DIV_3::test, BY_PRICE::compare);
+		list.setIncremental(true);
+		List<Quote> mirror = mirror(list);
+
+		quotes.batch(() -> {
+			quotes.remove(3);
+			quotes.add(0, new Quote("new1", 7));
+			quotes.subList(10, 15).clear();
+			quotes.add(20, new Quote("new2", 1000));
+			quotes.set(5, new Quote("new3", 1));
+		});
+		check(quotes, list, mirror, NOT_DIV_3, BY_PRICE);
+	}
+
+	@Test
+	public void incrementalUpdates() {
+		QuoteList quotes = QuoteList.of(100, 3);
+		TransformableList<Quote> list = new TransformableList<>(quotes, NOT_DIV_3::test, BY_PRICE::compare);
+		list.setIncremental(true);
+		List<Quote> mirror = mirror(list);
+
+		// Bulk update of a range, items move, get filtered out and accepted again
+		for (int i = 10; i < 60; i++) quotes.get(i).price = (quotes.get(i).price * 7 + 11) % 500;
+		quotes.update(10, 60);
+		check(quotes, list, mirror, NOT_DIV_3, BY_PRICE);
+
+		// Update that does not change the position fires an update
+		int[] updates = new int[1];
+		list.addListener((ListChangeListener<? super Quote>) c -> {
+			while (c.next()) if (c.wasUpdated()) updates[0]++;
+		});
+		Quote quote = list.get(0);
+		quotes.update(quotes.indexOf(quote), quotes.indexOf(quote) + 1);
+		assertEquals(1, updates[0]);
+		check(quotes, list, mirror, NOT_DIV_3, BY_PRICE);
+	}
+
+	@Test
+	public void incrementalPermutationUnderSorter() {
+		QuoteList quotes = QuoteList.of(100, 4);
+		TransformableList<Quote> list = new TransformableList<>(quotes, NOT_DIV_3::test, BY_PRICE::compare);
+		list.setIncremental(true);
+		List<Quote> mirror = mirror(list);
+
+		quotes.permute(Comparator.comparing(q -> q.name));
+		check(quotes, list, mirror, NOT_DIV_3, BY_PRICE);
+		quotes.permute(Comparator.comparing((Quote q) -> q.name).reversed());
+		check(quotes, list, mirror, NOT_DIV_3, BY_PRICE);
+	}
+
+	@Test
+	public void asyncCancelledJob() {
+		QuoteList quotes = QuoteList.of(100, 5);
+		TransformableList<Quote> list = new TransformableList<>(quotes);
+		List<Quote> mirror = mirror(list);
+		List<Runnable> jobs = new ArrayList<>();
+		list.setExecutor(jobs::add);
+
+		Predicate<Quote> even = q -> q.price % 2 == 0;
+		list.setPredicate(NOT_DIV_3::test);
+		list.setComparator(BY_PRICE::compare);
+		list.setPredicate(even::test);
+		assertTrue(list.isTransforming());
+		assertEquals(3, jobs.size());
+
+		int[] changes = new int[1];
+		list.addListener((ListChangeListener<? super Quote>) c -> changes[0]++);
+		jobs.forEach(Runnable::run);
+		WaitForAsyncUtils.waitForFxEvents();
+
+		assertFalse(list.isTransforming());
+		assertEquals(1, changes[0]);
+		check(quotes, list, mirror, even, BY_PRICE);
+	}
+
+	@Test
+	public void asyncSourceChangeRestartsJob() {
+		QuoteList quotes = QuoteList.of(100, 6);
+		TransformableList<Quote> list = new TransformableList<>(quotes);
+		List<Quote> mirror = mirror(list);
+		List<Runnable> jobs = new ArrayList<>();
+		list.setExecutor(jobs::add);
+
+		list.setComparator(BY_PRICE::compare);
+		quotes.add(0, new Quote("new", 50));
+		quotes.remove(10);
+		assertEquals(3, jobs.size());
+		jobs.forEach(Runnable::run);
+		WaitForAsyncUtils.waitForFxEvents();
+
+		assertFalse(list.isTransforming());
+		check(quotes, list, mirror, q -> true, BY_PRICE);
+	}
+
+	@Test
+	public void parallelFilterRetainsOrder() {
+		QuoteList quotes = QuoteList.of(20_000, 7);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			TransformableList<Quote> list = new TransformableList<>(quotes);
+			list.setForkJoinPool(pool);
+			list.setParallelThreshold(0);
+			List<Quote> mirror = mirror(list);
+
+			list.setPredicate(NOT_DIV_3::test);
+			check(quotes, list, mirror, NOT_DIV_3, null);
+			list.setComparator(BY_PRICE::compare);
+			check(quotes, list, mirror, NOT_DIV_3, BY_PRICE);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void projectionDisabled() {
+		QuoteList quotes = QuoteList.of(100, 8);
+		TransformableList<Quote> list = new TransformableList<>(quotes);
+		list.setIncremental(true);
+		list.setProjectionEnabled(true);
+		List<Quote> mirror = mirror(list);
+
+		IntColumn<Quote> prices = list.getProjection().projectInt(q -> q.price);
+		list.setPredicate(new IndexedPredicate<>() {
+			@Override
+			public boolean testIndex(int index) {
+				return prices.getInt(index) % 3 != 0;
+			}
+
+			@Override
+			public boolean test(Quote quote) {
+				return NOT_DIV_3.test(quote);
+			}
+		});
+		list.setComparator(prices.comparator());
+		check(quotes, list, mirror, NOT_DIV_3, BY_PRICE);
+
+		// The columns are not kept in sync anymore, the predicate and the comparator must still work
+		list.setProjectionEnabled(false);
+		assertTrue(prices.isDisposed());
+		for (int i = 0; i < 10; i++) quotes.add(new Quote("new" + i, i * 37 % 500));
+		for (int i = 0; i < 20; i++) quotes.get(i).price = i * 13 % 500;
+		quotes.update(0, 20);
+		check(quotes, list, mirror, NOT_DIV_3, BY_PRICE);
+	}
+
+	/**
+	 * Checks that the transformed list and the mirror built by replaying its changes are equal to the
+	 * expected view, computed by filtering and stable sorting the source. Also checks that the index mappings
+	 * are consistent.
+	 */
+	private static void check(List<Quote> source, TransformableList<Quote> list, List<Quote> mirror, Predicate<Quote> filter, Comparator<Quote> sorter) {
+		List<Quote> expected = source.stream()
+				.filter(filter)
+				.sorted(sorter != null ? sorter : (q1, q2) -> 0)
+				.collect(Collectors.toList());
+		assertEquals(expected, new ArrayList<>(list));
+		assertEquals(expected, mirror);
+
+		int visible = 0;
+		for (int i = 0; i < source.size(); i++) {
+			int viewIndex = list.sourceToView(i);
+			if (viewIndex < 0) continue;
+			visible++;
+			assertEquals(i, list.viewToSource(viewIndex));
+		}
+		assertEquals(list.size(), visible);
+	}
+
+	/**
+	 * @return a copy of the given list which is kept in sync by replaying its changes, removed items
+	 * are checked against the copy
+	 */
+	private static <E> List<E> mirror(ObservableList<E> list) {
+		List<E> mirror = new ArrayList<>(list);
+		list.addListener((ListChangeListener<? super E>) c -> {
+			while (c.next()) {
+				int from = c.getFrom();
+				if (c.wasPermutated()) {
+					List<E> old = new ArrayList<>(mirror.subList(from, c.getTo()));
+					for (int i = from; i < c.getTo(); i++) {
+						mirror.set(c.getPermutation(i), old.get(i - from));
+					}
+				} else if (!c.wasUpdated()) {
+					List<E> removed = mirror.subList(from, from + c.getRemovedSize());
+					assertEquals(c.getRemoved(), removed);
+					removed.clear();
+					mirror.addAll(from, c.getAddedSubList());
+				}
+			}
+		});
+		return mirror;
+	}
+
+	private static void randomChange(QuoteList quotes, Random random) {
+		int size = quotes.size();
+		switch (random.nextInt(6)) {
+			case 0:
+				quotes.add(random.nextInt(size + 1), new Quote("a" + random.nextInt(), random.nextInt(500)));
+				break;
+			case 1:
+				if (size > 0) quotes.remove(random.nextInt(size));
+				break;
+			case 2:
+				if (size > 0) quotes.set(random.nextInt(size), new Quote("s" + random.nextInt(), random.nextInt(500)));
+				break;
+			case 3:
+				// Positions never decrease, the JavaFX change builder can report wrong
+				// changes for some sequences of additions and removals at arbitrary positions
+				quotes.batch(() -> {
+					int cursor = 0;
+					for (int i = 0; i < 5; i++) {
+						cursor += random.nextInt(size / 5 + 1);
+						if (random.nextBoolean() && cursor < quotes.size()) {
+							quotes.remove(cursor);
+						} else {
+							cursor = Math.min(cursor, quotes.size());
+							quotes.add(cursor++, new Quote("b" + random.nextInt(), random.nextInt(500)));
+						}
+					}
+				});
+				break;
+			case 4: {
+				if (size == 0) break;
+				int from = random.nextInt(size);
+				int to = Math.min(size, from + 1 + random.nextInt(20));
+				for (int i = from; i < to; i++) quotes.get(i).price = random.nextInt(500);
+				quotes.update(from, to);
+				break;
+			}
+			case 5: {
+				int salt = random.nextInt();
+				quotes.permute(Comparator.comparingInt(q -> q.name.hashCode() ^ salt));
+				break;
+			}
+		}
+	}
+
+	private static class Quote {
+		private final String name;
+		private int price;
+
+		Quote(String name, int price) {
+			this.name = name;
+			this.price = price;
+		}
+
+		@Override
+		public String toString() {
+			return name + "=" + price;
+		}
+	}
+
+	/**
+	 * Observable list which allows to fire changes which can't be obtained with the JavaFX's lists:
+	 * add/remove combinations in a single change, updates of a range and permutations.
+	 */
+	private static class QuoteList extends ModifiableObservableListBase<Quote> {
+		private final List<Quote> data = new ArrayList<>();
+
+		static QuoteList of(int size, long seed) {
+			Random random = new Random(seed);
+			QuoteList list = new QuoteList();
+			for (int i = 0; i < size; i++) list.data.add(new Quote("q" + i, random.nextInt(500)));
+			return list;
+		}
+
+		void batch(Runnable action) {
+			beginChange();
+			try {
+				action.run();
+			} finally {
+				endChange();
+			}
+		}
+
+		void update(int from, int to) {
+			beginChange();
+			for (int i = from; i < to; i++) nextUpdate(i);
+			endChange();
+		}
+
+		void permute(Comparator<Quote> comparator) {
+			Integer[] order = new Integer[data.size()];
+			for (int i = 0; i < order.length; i++) order[i] = i;
+			List<Quote> old = new ArrayList<>(data);
+			Arrays.sort(order, (o1, o2) -> comparator.compare(old.get(o1), old.get(o2)));
+
+			int[] perm = new int[order.length];
+			for (int i = 0; i < order.length; i++) {
+				data.set(i, old.get(order[i]));
+				perm[order[i]] = i;
+			}
+			beginChange();
+			nextPermutation(0, perm.length, perm);
+			endChange();
+		}
+
+		@Override
+		public Quote get(int index) {
+			return data.get(index);
+		}
+
+		@Override
+		public int size() {
+			return data.size();
+		}
+
+		@Override
+		protected void doAdd(int index, Quote element) {
+			data.add(index, element);
+		}
+
+		@Override
+		protected Quote doSet(int index, Quote element) {
+			return data.set(index, element);
+		}
+
+		@Override
+		protected Quote doRemove(int index) {
+			return data.remove(index);
+		}
+	}
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package collections;
+
+import io.github.palexdev.materialfx.collections.TreeRowsList;
+import io.github.palexdev.materialfx.controls.MFXTreeItem;
+import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
+import io.github.palexdev.materialfx.utils.TreeItemStream;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(ApplicationExtension.class)
+public class TreeRowsListTest {
+
+	@Test
+	public void testExpandCollapse() {
+		MFXTreeItem<String> root = tree();
+		TreeRowsList<String> rows = new TreeRowsList<>(root, true);
+		List<AbstractMFXTreeItem<String>> mirror = mirror(rows);
+		check(rows, mirror, root, true);
+
+		item(root, 1).setExpanded(true);
+		check(rows, mirror, root, true);
+
+		root.setExpanded(true);
+		check(rows, mirror, root, true);
+
+		item(root, 1).setExpanded(true);
+		item(root, 1, 0).setExpanded(true);
+		item(root, 2).setExpanded(true);
+		check(rows, mirror, root, true);
+
+		item(root, 1).setExpanded(false);
+		check(rows, mirror, root, true);
+
+		root.setExpanded(false);
+		check(rows, mirror, root, true);
+	}
+
+	@Test
+	public void testChildrenChanged() {
+		MFXTreeItem<String> root = tree();
+		root.setExpanded(true);
+		item(root, 0).setExpanded(true);
+		item(root, 2).setExpanded(true);
+		TreeRowsList<String> rows = new TreeRowsList<>(root, false);
+		List<AbstractMFXTreeItem<String>> mirror = mirror(rows);
+		check(rows, mirror, root, false);
+
+		item(root, 0).getItems().add(1, new MFXTreeItem<>("N1"));
+		check(rows, mirror, root, false);
+
+		MFXTreeItem<String> subtree = branch("S", 2, 2);
+		subtree.setExpanded(true);
+		root.getItems().add(0, subtree);
+		check(rows, mirror, root, false);
+
+		item(root, 3).getItems().remove(1);
+		check(rows, mirror, root, false);
+
+		// Move a subtree
+		AbstractMFXTreeItem<String> moved = root.getItems().remove(0);
+		check(rows, mirror, root, false);
+		item(root, 1).getItems().add(moved);
+		check(rows, mirror, root, false);
+
+		item(root, 1).getItems().clear();
+		check(rows, mirror, root, false);
+
+		rows.setShowRoot(true);
+		check(rows, mirror, root, true);
+	}
+
+	@Test
+	public void testChildrenChangedRegions() {
+		MFXTreeItem<String> root = tree();
+		root.setExpanded(true);
+		item(root, 1).setExpanded(true);
+		TreeRowsList<String> rows = new TreeRowsList<>(root, true);
+		List<AbstractMFXTreeItem<String>> mirror = mirror(rows);
+		List<String> changes = new ArrayList<>();
+		rows.addListener((ListChangeListener<AbstractMFXTreeItem<String>>) change -> {
+			while (change.next()) {
+				changes.add(change.getFrom() + ":-" + change.getRemovedSize() + "+" + change.getAddedSize());
+			}
+		});
+
+		// R, R0, R1, R1-0, R1-1, R1-2, R2
+		MFXTreeItem<String> added = branch("A", 2, 1);
+		added.setExpanded(true);
+		item(root, 1).getItems().add(1, added);
+		check(rows, mirror, root, true);
+		assertEquals(List.of("4:-0+3"), changes);
+
+		changes.clear();
+		item(root, 1).getItems().remove(0);
+		check(rows, mirror, root, true);
+		assertEquals(List.of("3:-1+0"), changes);
+
+		// Removals of non-adjacent children, only their subtrees are touched
+		changes.clear();
+		item(root, 1).getItems().removeAll(added, item(root, 1, 2));
+		check(rows, mirror, root, true);
+		assertEquals(List.of("3:-3+0", "4:-1+0"), changes);
+
+		// Leaf to non-leaf, only the item's row is replaced
+		MFXTreeItem<String> leaf = item(root, 1, 0, 0);
+		item(root, 1, 0).setExpanded(true);
+		changes.clear();
+		int leafRow = rows.rowOf(leaf);
+		leaf.getItems().add(new MFXTreeItem<>("L"));
+		check(rows, mirror, root, true);
+		assertEquals(List.of(leafRow + ":-1+1"), changes);
+
+		// Expanded leaf to non-leaf, the item's row is replaced and the child is added
+		leaf.setExpanded(true);
+		leaf.getItems().clear();
+		changes.clear();
+		leaf.getItems().add(new MFXTreeItem<>("L"));
+		check(rows, mirror, root, true);
+		assertEquals(List.of(leafRow + ":-1+2"), changes);
+
+		// Moving children falls back to replacing the region
+		item(root, 1, 0).getItems().setAll(item(root, 1, 0, 2), item(root, 1, 0, 1), item(root, 1, 0, 0));
+		check(rows, mirror, root, true);
+	}
+
+	@Test
+	public void testRandom() {
+		Random random = new Random(11);
+		MFXTreeItem<String> root = branch("R", 3, 3);
+		TreeRowsList<String> rows = new TreeRowsList<>(root, true);
+		List<AbstractMFXTreeItem<String>> mirror = mirror(rows);
+
+		for (int i = 0; i < 300; i++) {
+			List<AbstractMFXTreeItem<String>> all = TreeItemStream.flattenTree(root).collect(Collectors.toList());
+			MFXTreeItem<String> target = (MFXTreeItem<String>) all.get(random.nextInt(all.size()));
+			switch (random.nextInt(4)) {
+				case 0:
+				case 1:
+					target.setExpanded(!target.isExpanded());
+					break;
+				case 2:
+					target.getItems().add(random.nextInt(target.getItems().size() + 1), branch("N" + i, random.nextInt(3), 2));
+					break;
+				default:
+					if (!target.getItems().isEmpty()) target.getItems().remove(random.nextInt(target.getItems().size()));
+					break;
+			}
+			check(rows, mirror, root, true);
+		}
+	}
+
+	//================================================================================
+	// Helpers
+	//================================================================================
+
+	/**
+	 * Checks the rows, the changes fired by the list (replayed on the mirror), the rows' indexes
+	 * and depths against a flattening of the tree computed from scratch.
+	 */
+	private void check(TreeRowsList<String> rows, List<AbstractMFXTreeItem<String>> mirror, MFXTreeItem<String> root, boolean showRoot) {
+		List<AbstractMFXTreeItem<String>> expected = new ArrayList<>();
+		if (showRoot) {
+			expected.add(root);
+			if (root.isExpanded()) flatten(root, expected);
+		} else {
+			flatten(root, expected);
+		}
+
+		assertEquals(expected, rows);
+		assertEquals(expected, mirror);
+		for (int i = 0; i < expected.size(); i++) {
+			AbstractMFXTreeItem<String> item = expected.get(i);
+			assertEquals(i, rows.rowOf(item));
+			assertEquals(showRoot ? item.getLevel() : item.getLevel() - 1, rows.depthOf(item));
+		}
+		if (!showRoot) assertEquals(-1, rows.rowOf(root));
+	}
+
+	private void flatten(AbstractMFXTreeItem<String> item, List<AbstractMFXTreeItem<String>> out) {
+		for (AbstractMFXTreeItem<String> child : item.getItems()) {
+			out.add(child);
+			if (((MFXTreeItem<String>) child).isExpanded()) flatten(child, out);
+		}
+	}
+
+	/**
+	 * @return a list which replays the changes fired by the given rows list
+	 */
+	private List<AbstractMFXTreeItem<String>> mirror(TreeRowsList<String> rows) {
+		List<AbstractMFXTreeItem<String>> mirror = new ArrayList<>(rows);
+		rows.addListener((ListChangeListener<AbstractMFXTreeItem<String>>) change -> {
+			while (change.next()) {
+				if (change.wasPermutated() || change.wasUpdated()) continue;
+				List<AbstractMFXTreeItem<String>> region = mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize());
+				for (int i = 0; i < region.size(); i++) {
+					assertSame(change.getRemoved().get(i), region.get(i));
+				}
+				region.clear();
+				mirror.addAll(change.getFrom(), change.getAddedSubList());
+			}
+		});
+		return mirror;
+	}
+
+	private MFXTreeItem<String> tree() {
+		MFXTreeItem<String> root = new MFXTreeItem<>("R");
+		for (int i = 0; i < 3; i++) {
+			root.getItems().add(branch("R" + i, 3, 2));
+		}
+		return root;
+	}
+
+	private MFXTreeItem<String> branch(String name, int children, int depth) {
+		MFXTreeItem<String> item = new MFXTreeItem<>(name);
+		if (depth == 0) return item;
+		for (int i = 0; i < children; i++) {
+			item.getItems().add(branch(name + "-" + i, children, depth - 1));
+		}
+		return item;
+	}
+
+	private MFXTreeItem<String> item(MFXTreeItem<String> root, int... path) {
+		AbstractMFXTreeItem<String> item = root;
+		for (int i : path) item = item.getItems().get(i);
+		return (MFXTreeItem<String>) item;
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package selection;
+
+import io.github.palexdev.materialfx.selection.BitSetSelectionModel;
+import io.github.palexdev.materialfx.utils.FXCollectors;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.MapProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitSetSelectionModelTests {
+	private final ObservableList<String> strings = IntStream.rangeClosed(0, 30)
+			.mapToObj(i -> "String " + i)
+			.collect(FXCollectors.toList());
+	private final BitSetSelectionModel<String> selectionModel = new BitSetSelectionModel<>(strings);
+
+	private final List<String> mapChanges = new ArrayList<>();
+	private final List<ObservableMap<Integer, String>> valueChanges = new ArrayList<>();
+	private int invalidations = 0;
+
+	@BeforeEach
+	public void setUp() {
+		selectionModel.clearSelection();
+		MapProperty<Integer, String> property = selectionModel.selectionProperty();
+		property.addListener((MapChangeListener<Integer, String>) change -> {
+			assertSame(property, change.getMap());
+			mapChanges.add(change.wasAdded() ? "+" + change.getKey() + "=" + change.getValueAdded() : "-" + change.getKey() + "=" + change.getValueRemoved());
+		});
+		property.addListener((ChangeListener<ObservableMap<Integer, String>>) (observable, oldValue, newValue) -> {
+			assertSame(oldValue, newValue);
+			valueChanges.add(newValue);
+		});
+		property.addListener((InvalidationListener) observable -> invalidations++);
+	}
+
+	@Test
+	public void testSelectRange() {
+		selectionModel.selectRange(2, 5);
+
+		assertEquals(List.of("+2=String 2", "+3=String 3", "+4=String 4"), mapChanges);
+		assertEquals(1, valueChanges.size());
+		assertSame(selectionModel.getSelection(), valueChanges.get(0));
+		assertEquals(1, invalidations);
+		assertEquals(3, selectionModel.selectionProperty().get().size());
+	}
+
+	@Test
+	public void testDeselect() {
+		selectionModel.selectRange(2, 5);
+		mapChanges.clear();
+
+		selectionModel.deselectIndex(3);
+		assertEquals(List.of("-3=String 3"), mapChanges);
+		assertEquals(2, valueChanges.size());
+		assertEquals(2, invalidations);
+
+		// Nothing changes, nothing is notified
+		selectionModel.deselectIndex(3);
+		assertEquals(1, mapChanges.size());
+		assertEquals(2, valueChanges.size());
+		assertEquals(2, invalidations);
+	}
+
+	@Test
+	public void testClear() {
+		selectionModel.selectIndexes(List.of(1, 7, 8));
+		mapChanges.clear();
+
+		selectionModel.clearSelection();
+		assertEquals(List.of("-1=String 1", "-7=String 7", "-8=String 8"), mapChanges);
+		assertEquals(2, valueChanges.size());
+		assertEquals(2, invalidations);
+		assertTrue(selectionModel.selectionProperty().get().isEmpty());
+	}
+
+	@Test
+	public void testRemoveListeners() {
+		MapChangeListener<Integer, String> mapListener = change -> fail();
+		ChangeListener<ObservableMap<Integer, String>> changeListener = (observable, oldValue, newValue) -> fail();
+		InvalidationListener invalidationListener = observable -> fail();
+		MapProperty<Integer, String> property = selectionModel.selectionProperty();
+		property.addListener(mapListener);
+		property.addListener(changeListener);
+		property.addListener(invalidationListener);
+		property.removeListener(mapListener);
+		property.removeListener(changeListener);
+		property.removeListener(invalidationListener);
+
+		selectionModel.selectIndex(0);
+		assertEquals(List.of("+0=String 0"), mapChanges);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package theming;
+
+import io.github.palexdev.materialfx.theming.UserAgentBuilder;
+import io.github.palexdev.materialfx.theming.base.Theme;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures {@link UserAgentBuilder#build()} on generated stylesheets of increasing size, to make sure the processing
+ * time grows linearly with the input.
+ * <p>
+ * Each size is built several times after a warm-up and the median is taken. With a linear processor, building
+ * a stylesheet 8 times bigger should take about 8 times as long; the check is loose (a quadratic processor would
+ * be around 64 times slower) to account for the noise of the environment.
+ * <p>
+ * Since it depends on the machine, it's tagged as "benchmark" and excluded from the default test task,
+ * run it with the "benchmark" task. The output is checked by {@link UserAgentBuilderTests}.
+ */
+@Tag("benchmark")
+public class UserAgentBuilderBenchmark {
+	private static final int BASE_SIZE = 256 * 1024;
+	private static final int RUNS = 7;
+	private static Path dir;
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		dir = Files.createTempDirectory("uab-benchmark");
+	}
+
+	@AfterAll
+	public static void cleanup() throws IOException {
+		try (var files = Files.list(dir)) {
+			for (Path file : files.toList()) Files.delete(file);
+		}
+		Files.delete(dir);
+	}
+
+	@Test
+	public void buildIsLinear() throws IOException {
+		Theme small = theme("small", BASE_SIZE);
+		Theme big = theme("big", BASE_SIZE * 8);
+
+		for (int i = 0; i < 3; i++) {
+			build(small);
+			build(big);
+		}
+		long smallTime = median(small);
+		long bigTime = median(big);
+		double ratio = (double) bigTime / smallTime;
+		assertTrue(ratio < 24, () -> String.format(
+				"Build time is not linear in the input size: %d KB in %.2f ms, %d KB in %.2f ms, ratio %.2f",
+				BASE_SIZE / 1024, smallTime / 1e6, BASE_SIZE * 8 / 1024, bigTime / 1e6, ratio
+		));
+	}
+
+	private long median(Theme theme) {
+		long[] times = new long[RUNS];
+		for (int i = 0; i < RUNS; i++) {
+			long start = System.nanoTime();
+			build(theme);
+			times[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(times);
+		return times[RUNS / 2];
+	}
+
+	private void build(Theme theme) {
+		UserAgentBuilder.builder()
+				.themes(theme)
+				.build();
+	}
+
+	/**
+	 * Generates a well-formatted stylesheet of (at least) the given size, with comments, blocks
+	 * and URL resources, and returns a {@link Theme} pointing to it.
+	 */
+	private Theme theme(String name, int size) throws IOException {
+		StringBuilder sb = new StringBuilder(size + 256);
+		for (int i = 0; sb.length() < size; i++) {
+			sb.append("/* Rule ").append(i).append(" */\n")
+					.append(".rule-").append(i).append(" {\n")
+					.append("    -fx-background-color: #").append(Integer.toHexString(0x100000 + i)).append(";\n")
+					.append("    -fx-padding: 5 10 5 10;\n")
+					.append("    -fx-background-image: url(\"image-").append(i % 16).append(".png\");\n")
+					.append("}\n\n");
+		}
+		Path file = dir.resolve(name + ".css");
+		Files.writeString(file, sb);
+		URL url = file.toUri().toURL();
+		return new Theme() {
+			@Override
+			public String name() {
+				return name;
+			}
+
+			@Override
+			public String path() {
+				return file.toString();
+			}
+
+			@Override
+			public URL get() {
+				return url;
+			}
+		};
+	}
+}
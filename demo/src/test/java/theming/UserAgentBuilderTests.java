@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package theming;
+
+import io.github.palexdev.materialfx.theming.Deployer;
+import io.github.palexdev.materialfx.theming.UserAgentBuilder;
+import io.github.palexdev.materialfx.theming.base.Theme;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link UserAgentBuilder#build()} produces the same output as the line based processor it replaced,
+ * see {@link #legacyPreProcess(String)} and {@link #legacyResolve(Theme, String)}.
+ */
+public class UserAgentBuilderTests {
+	private static Path dir;
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		dir = Files.createTempDirectory("uab-tests");
+	}
+
+	@AfterAll
+	public static void cleanup() throws IOException {
+		try (var files = Files.list(dir)) {
+			for (Path file : files.toList()) Files.delete(file);
+		}
+		Files.delete(dir);
+	}
+
+	@Test
+	public void testFixture() throws IOException {
+		String data = fixture();
+		assertEquals(legacy(data), build(theme("fixture", data)));
+	}
+
+	@Test
+	public void testCRLF() throws IOException {
+		String data = fixture().replace("\n", "\r\n");
+		assertEquals(legacy(data), build(theme("crlf", data)));
+	}
+
+	@Test
+	public void testNoTrailingNewline() throws IOException {
+		String data = fixture().stripTrailing();
+		assertEquals(legacy(data), build(theme("trailing", data)));
+	}
+
+	@Test
+	public void testMultipleThemes() throws IOException {
+		String data = fixture();
+		String other = ".other {\n    -fx-opacity: 0.5;\n}\n/* Unclosed comment\n.hidden { }\n";
+		assertEquals(legacy(data, other, data), build(theme("first", data), theme("second", other), theme("third", data)));
+	}
+
+	@Test
+	public void testEmpty() throws IOException {
+		assertEquals(legacy("", "\n\n   \n"), build(theme("empty", ""), theme("blank", "\n\n   \n")));
+	}
+
+	@Test
+	public void testResolveAssets() throws IOException {
+		String data = fixture() +
+				".resolved {\n" +
+				"\t-fx-background-image: url(images/background.png);\n" +
+				"  \t-fx-border-image-source: url(local.png);\n" +
+				"-fx-graphic: url(local.png);\n" +
+				"    -fx-image: url(local.png): url(images/background.png);\n" +
+				"    -fx-missing: url(missing.png);\n" +
+				"}\n";
+		Theme theme = assetsTheme("resolve", data);
+		try {
+			String built = buildResolved(theme);
+			assertEquals(legacyResolve(theme, data), built);
+			assertTrue(built.startsWith("@import \"file:///"));
+			assertTrue(built.contains(Deployer.instance().getDeployed(theme).get("local.png").toString()));
+		} finally {
+			theme.clean();
+		}
+	}
+
+	@Test
+	public void testResolveUnseparatedURL() throws IOException {
+		String data = ".a {\n    -fx-background-image:url(local.png);\n}\n.b {\n    -fx-background-image: url(local.png);\n}\n";
+		Theme theme = assetsTheme("unseparated", data);
+		try {
+			String built = buildResolved(theme);
+			Path local = Deployer.instance().getDeployed(theme).get("local.png");
+			String expected = ".a {\n    -fx-background-image:url(local.png);\n}\n\n" +
+					".b {\n        -fx-background-image: url(" + local + ");\n}\n\n\n"; /* The indentation is repeated as it always was */
+			assertEquals(expected, built);
+		} finally {
+			theme.clean();
+		}
+	}
+
+	//================================================================================
+	// Helpers
+	//================================================================================
+	private String build(Theme... themes) {
+		return UserAgentBuilder.builder()
+				.themes(themes)
+				.build()
+				.toString();
+	}
+
+	private String buildResolved(Theme theme) {
+		return UserAgentBuilder.builder()
+				.themes(theme)
+				.setDeploy(true)
+				.setResolveAssets(true)
+				.build()
+				.toString();
+	}
+
+	/**
+	 * Merges the given stylesheets as the old {@link UserAgentBuilder#build()} did, without resolving assets.
+	 */
+	private String legacy(String... data) {
+		StringBuilder sb = new StringBuilder();
+		for (String d : data) {
+			sb.append(legacyPreProcess(d)).append("\n\n");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The pre-processing of the old line based processor, without resolving assets (so imports and URLs are copied as they are).
+	 */
+	private String legacyPreProcess(String data) {
+		String[] lines = data.split("\n");
+		StringBuilder sb = new StringBuilder();
+		boolean insideComment = false;
+		for (String line : lines) {
+			if (line.isBlank()) continue;
+			String trim = line.trim();
+
+			if (trim.startsWith("/*")) {
+				if (trim.endsWith("*/")) continue;
+				insideComment = true;
+				continue;
+			}
+			if (trim.endsWith("*/")) {
+				insideComment = false;
+				continue;
+			}
+			if (insideComment) continue;
+
+			if (sb.toString().endsWith("}\n")) sb.append("\n");
+			sb.append(line).append("\n");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The old line based processor, resolving the assets of the given deployed theme. The resolved imports are added
+	 * at the top as the old post-processing did.
+	 */
+	private String legacyResolve(Theme theme, String data) {
+		Map<String, Path> deployed = Deployer.instance().getDeployed(theme);
+		Set<String> imports = new LinkedHashSet<>();
+		String[] lines = data.split("\n");
+		StringBuilder sb = new StringBuilder();
+		boolean insideComment = false;
+		for (String line : lines) {
+			if (line.isBlank()) continue;
+			String trim = line.trim();
+
+			if (trim.startsWith("/*")) {
+				if (trim.endsWith("*/")) continue;
+				insideComment = true;
+				continue;
+			}
+			if (trim.endsWith("*/")) {
+				insideComment = false;
+				continue;
+			}
+			if (insideComment) continue;
+
+			if (trim.startsWith("@import")) {
+				String[] split = line.replace("\"", "")
+						.replace("'", "")
+						.replace(";", "")
+						.replace("../", "")
+						.split(" ");
+				Path path = deployed.get(split[1]);
+				if (path == null || !Files.exists(path)) continue;
+				imports.add("@import \"file:///" + path.toString().replace("\\", "/") + "\";");
+				continue;
+			}
+
+			if (trim.contains("url(")) {
+				if (!line.contains("http://") && !line.contains("https://") && !line.contains("www.")) {
+					String[] split = line.split(": ");
+					Path path = deployed.get(split[1].replace("url(", "").replace(");", ""));
+					if (path == null || !Files.exists(path)) continue;
+					line = line.replaceAll("^(\\s+).+", "$1") + split[0] + ": url(" + path + ");";
+				}
+			}
+
+			if (sb.toString().endsWith("}\n")) sb.append("\n");
+			sb.append(line).append("\n");
+		}
+		sb.append("\n\n");
+
+		int offset = 0;
+		for (String imp : imports) {
+			sb.insert(offset, imp + "\n");
+			offset += imp.length() + 1;
+		}
+		return sb.toString();
+	}
+
+	private String fixture() throws IOException {
+		try (InputStream is = UserAgentBuilderTests.class.getResourceAsStream("/UserAgentBuilderFixture.css")) {
+			return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private Theme theme(String name, String data) throws IOException {
+		Path file = dir.resolve(name + ".css");
+		Files.writeString(file, data);
+		URL url = file.toUri().toURL();
+		return new Theme() {
+			@Override
+			public String name() {
+				return name;
+			}
+
+			@Override
+			public String path() {
+				return file.toString();
+			}
+
+			@Override
+			public URL get() {
+				return url;
+			}
+		};
+	}
+
+	/**
+	 * @return a theme whose assets contain: "fonts/Fonts.css", "images/background.png" and "local.png"
+	 */
+	private Theme assetsTheme(String name, String data) throws IOException {
+		Theme theme = theme(name, data);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+			for (String entry : new String[]{"fonts/Fonts.css", "images/background.png", "local.png"}) {
+				zip.putNextEntry(new ZipEntry(entry));
+				zip.write(entry.getBytes(StandardCharsets.UTF_8));
+				zip.closeEntry();
+			}
+		}
+		byte[] assets = bytes.toByteArray();
+		return new Theme() {
+			@Override
+			public String name() {
+				return theme.name();
+			}
+
+			@Override
+			public String path() {
+				return theme.path();
+			}
+
+			@Override
+			public URL get() {
+				return theme.get();
+			}
+
+			@Override
+			public InputStream assets() {
+				return new ByteArrayInputStream(assets);
+			}
+
+			@Override
+			public String deployName() {
+				return "uab-tests-" + name;
+			}
+		};
+	}
+}
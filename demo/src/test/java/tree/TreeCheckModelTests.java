@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package tree;
+
+import io.github.palexdev.materialfx.controls.MFXCheckTreeItem;
+import io.github.palexdev.materialfx.controls.MFXCheckTreeItem.CheckTreeItemEvent;
+import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
+import io.github.palexdev.materialfx.selection.TreeCheckModel;
+import io.github.palexdev.materialfx.utils.TreeItemStream;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+public class TreeCheckModelTests {
+	private final TreeCheckModel<String> model = new TreeCheckModel<>();
+
+	@Test
+	public void testCheckLeaves() {
+		MFXCheckTreeItem<String> root = branch("R", 3, 3);
+		Map<MFXCheckTreeItem<String>, Boolean> leaves = leaves(root);
+
+		toggle(leaves, item(root, 0, 0, 0));
+		check(root, leaves);
+		assertTrue(item(root, 0, 0).isIndeterminate());
+		assertTrue(item(root, 0).isIndeterminate());
+		assertTrue(root.isIndeterminate());
+
+		toggle(leaves, item(root, 0, 0, 1));
+		toggle(leaves, item(root, 0, 0, 2));
+		check(root, leaves);
+		assertTrue(item(root, 0, 0).isChecked());
+		assertFalse(item(root, 0, 0).isIndeterminate());
+		assertTrue(item(root, 0).isIndeterminate());
+
+		toggle(leaves, item(root, 0, 0, 1));
+		check(root, leaves);
+		assertFalse(item(root, 0, 0).isChecked());
+		assertTrue(item(root, 0, 0).isIndeterminate());
+	}
+
+	@Test
+	public void testCheckSubtrees() {
+		MFXCheckTreeItem<String> root = branch("R", 3, 3);
+		Map<MFXCheckTreeItem<String>, Boolean> leaves = leaves(root);
+
+		toggle(leaves, item(root, 1));
+		check(root, leaves);
+		assertTrue(root.isIndeterminate());
+
+		toggle(leaves, item(root, 0));
+		toggle(leaves, item(root, 2));
+		check(root, leaves);
+		assertTrue(root.isChecked());
+		assertEquals(40, model.getCheckedItems().size());
+
+		// Unchecking a leaf of a fully checked tree
+		toggle(leaves, item(root, 2, 1, 0));
+		check(root, leaves);
+		assertTrue(root.isIndeterminate());
+
+		// An indeterminate item gets checked
+		toggle(leaves, item(root, 2));
+		check(root, leaves);
+		assertTrue(root.isChecked());
+
+		toggle(leaves, root);
+		check(root, leaves);
+		assertTrue(model.getCheckedItems().isEmpty());
+	}
+
+	@Test
+	public void testRandom() {
+		Random random = new Random(5);
+		MFXCheckTreeItem<String> root = branch("R", 3, 4);
+		Map<MFXCheckTreeItem<String>, Boolean> leaves = leaves(root);
+		List<MFXCheckTreeItem<String>> all = TreeItemStream.flattenTree(root)
+				.map(item -> (MFXCheckTreeItem<String>) item)
+				.collect(Collectors.toList());
+
+		for (int i = 0; i < 300; i++) {
+			toggle(leaves, all.get(random.nextInt(all.size())));
+			check(root, leaves);
+		}
+	}
+
+	@Test
+	public void testSingleChange() {
+		MFXCheckTreeItem<String> root = branch("R", 3, 3);
+		Map<MFXCheckTreeItem<String>, Boolean> leaves = leaves(root);
+		int[] changes = {0};
+		model.getCheckedItems().addListener((ListChangeListener<MFXCheckTreeItem<String>>) change -> changes[0]++);
+
+		toggle(leaves, item(root, 1));
+		assertEquals(1, changes[0]);
+
+		toggle(leaves, item(root, 1, 2, 0));
+		assertEquals(2, changes[0]);
+		check(root, leaves);
+	}
+
+	@Test
+	public void testScanTree() {
+		MFXCheckTreeItem<String> root = branch("R", 3, 3);
+		Map<MFXCheckTreeItem<String>, Boolean> leaves = leaves(root);
+		item(root, 0).setChecked(true);
+		item(root, 1, 1, 1).setChecked(true);
+		model.scanTree(root);
+
+		TreeItemStream.stream(item(root, 0)).forEach(item -> leaves.computeIfPresent((MFXCheckTreeItem<String>) item, (k, v) -> true));
+		leaves.put(item(root, 1, 1, 1), true);
+		assertTrue(item(root, 0, 2, 2).isChecked());
+		assertEquals(14, model.getCheckedItems().size());
+
+		// Scanning resets the counters, following checks must be consistent
+		toggle(leaves, item(root, 1, 1, 0));
+		toggle(leaves, item(root, 1, 1, 2));
+		check(root, leaves);
+		assertTrue(item(root, 1, 1).isChecked());
+		assertTrue(root.isIndeterminate());
+	}
+
+	//================================================================================
+	// Helpers
+	//================================================================================
+
+	/**
+	 * Toggles the given item the same way the CHECK_EVENT does, calling the model for the item
+	 * and all its ancestors, and applies the toggle to the given reference leaves.
+	 */
+	private void toggle(Map<MFXCheckTreeItem<String>, Boolean> leaves, MFXCheckTreeItem<String> item) {
+		boolean checked = !item.isChecked() || item.isIndeterminate();
+		TreeItemStream.stream(item).forEach(treeItem -> leaves.computeIfPresent((MFXCheckTreeItem<String>) treeItem, (k, v) -> checked));
+
+		CheckTreeItemEvent<String> event = new CheckTreeItemEvent<>(CheckTreeItemEvent.CHECK_EVENT, item);
+		for (AbstractMFXTreeItem<String> current = item; current != null; current = current.getItemParent()) {
+			model.check((MFXCheckTreeItem<String>) current, event);
+		}
+	}
+
+	/**
+	 * Checks the state of every item and the checked items list against the states computed
+	 * bottom-up from the given reference leaves: an item is checked if all its children are checked,
+	 * indeterminate if it's not checked and at least one child is checked or indeterminate.
+	 */
+	private void check(MFXCheckTreeItem<String> root, Map<MFXCheckTreeItem<String>, Boolean> leaves) {
+		Set<MFXCheckTreeItem<String>> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+		expected(root, leaves, expected);
+
+		Set<MFXCheckTreeItem<String>> actual = Collections.newSetFromMap(new IdentityHashMap<>());
+		actual.addAll(model.getCheckedItems());
+		assertEquals(model.getCheckedItems().size(), actual.size());
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * @return whether the given item is expected to be checked (first) or indeterminate (second)
+	 */
+	private boolean[] expected(MFXCheckTreeItem<String> item, Map<MFXCheckTreeItem<String>, Boolean> leaves, Set<MFXCheckTreeItem<String>> checkedItems) {
+		boolean checked;
+		boolean indeterminate;
+		if (item.getItems().isEmpty()) {
+			checked = leaves.get(item);
+			indeterminate = false;
+		} else {
+			int checkedChildren = 0;
+			int indeterminateChildren = 0;
+			for (AbstractMFXTreeItem<String> child : item.getItems()) {
+				boolean[] state = expected((MFXCheckTreeItem<String>) child, leaves, checkedItems);
+				if (state[0]) checkedChildren++;
+				if (state[1]) indeterminateChildren++;
+			}
+			checked = checkedChildren == item.getItems().size();
+			indeterminate = !checked && (checkedChildren != 0 || indeterminateChildren != 0);
+		}
+
+		assertEquals(checked, item.isChecked(), item.getData());
+		assertEquals(indeterminate, item.isIndeterminate(), item.getData());
+		if (checked) checkedItems.add(item);
+		return new boolean[]{checked, indeterminate};
+	}
+
+	private Map<MFXCheckTreeItem<String>, Boolean> leaves(MFXCheckTreeItem<String> root) {
+		Map<MFXCheckTreeItem<String>, Boolean> leaves = new IdentityHashMap<>();
+		TreeItemStream.flattenTree(root)
+				.filter(item -> item.getItems().isEmpty())
+				.forEach(item -> leaves.put((MFXCheckTreeItem<String>) item, false));
+		return leaves;
+	}
+
+	private MFXCheckTreeItem<String> branch(String name, int children, int depth) {
+		MFXCheckTreeItem<String> item = new MFXCheckTreeItem<>(name);
+		if (depth == 0) return item;
+		for (int i = 0; i < children; i++) {
+			item.getItems().add(branch(name + "-" + i, children, depth - 1));
+		}
+		return item;
+	}
+
+	private MFXCheckTreeItem<String> item(MFXCheckTreeItem<String> root, int... path) {
+		AbstractMFXTreeItem<String> item = root;
+		for (int i : path) item = item.getItems().get(i);
+		return (MFXCheckTreeItem<String>) item;
+	}
+}
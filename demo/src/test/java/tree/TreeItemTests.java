@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package tree;
+
+import io.github.palexdev.materialfx.controls.MFXTreeItem;
+import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
+import io.github.palexdev.materialfx.utils.TreeItemStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(ApplicationExtension.class)
+public class TreeItemTests {
+
+	@Test
+	public void testBuild() {
+		MFXTreeItem<String> root = branch("R", 3, 3);
+		check(root);
+	}
+
+	@Test
+	public void testAddRemoveMove() {
+		MFXTreeItem<String> root = branch("R", 3, 3);
+
+		root.getItems().get(1).getItems().add(0, branch("A", 2, 2));
+		check(root);
+
+		AbstractMFXTreeItem<String> removed = root.getItems().remove(0);
+		check(root);
+		check(removed);
+
+		root.getItems().get(1).getItems().get(2).getItems().add(removed);
+		check(root);
+
+		root.getItems().get(0).getItems().set(1, branch("S", 1, 3));
+		check(root);
+
+		root.getItems().get(0).getItems().sort(Comparator.comparing(AbstractMFXTreeItem::getData, Comparator.reverseOrder()));
+		check(root);
+
+		root.getItems().get(0).getItems().clear();
+		check(root);
+	}
+
+	@Test
+	public void testRandom() {
+		Random random = new Random(3);
+		MFXTreeItem<String> root = branch("R", 3, 3);
+		for (int i = 0; i < 300; i++) {
+			List<AbstractMFXTreeItem<String>> all = TreeItemStream.flattenTree(root).collect(Collectors.toList());
+			AbstractMFXTreeItem<String> target = all.get(random.nextInt(all.size()));
+			switch (random.nextInt(3)) {
+				case 0:
+					target.getItems().add(random.nextInt(target.getItems().size() + 1), branch("N" + i, random.nextInt(3), 2));
+					break;
+				case 1:
+					if (!target.getItems().isEmpty()) target.getItems().remove(random.nextInt(target.getItems().size()));
+					break;
+				default:
+					// Move a subtree which does not contain the target
+					AbstractMFXTreeItem<String> moved = all.get(random.nextInt(all.size()));
+					if (moved.isRoot() || TreeItemStream.stream(moved).anyMatch(item -> item == target)) break;
+					moved.getItemParent().getItems().remove(moved);
+					target.getItems().add(random.nextInt(target.getItems().size() + 1), moved);
+					break;
+			}
+			check(root);
+		}
+	}
+
+	//================================================================================
+	// Helpers
+	//================================================================================
+
+	/**
+	 * Checks the cached structural data of every item in the given tree against the definitions
+	 * based on the tree's traversal.
+	 */
+	private void check(AbstractMFXTreeItem<String> root) {
+		List<AbstractMFXTreeItem<String>> flat = TreeItemStream.flattenTree(root).collect(Collectors.toList());
+		for (int i = 0; i < flat.size(); i++) {
+			AbstractMFXTreeItem<String> item = flat.get(i);
+			assertSame(root, item.getRoot());
+			assertEquals(i, item.getIndex());
+			assertEquals(TreeItemStream.stream(item).count(), item.getItemsCount());
+
+			int level = 0;
+			for (AbstractMFXTreeItem<String> par = item.getItemParent(); par != null; par = par.getItemParent()) level++;
+			assertEquals(level, item.getLevel());
+
+			AbstractMFXTreeItem<String> parent = item.getItemParent();
+			if (parent == null) continue;
+			List<AbstractMFXTreeItem<String>> siblings = parent.getItems();
+			int position = siblings.indexOf(item);
+			assertSame(position > 0 ? siblings.get(position - 1) : null, item.getPreviousSibling());
+			assertSame(position < siblings.size() - 1 ? siblings.get(position + 1) : null, item.getNextSibling());
+		}
+	}
+
+	private MFXTreeItem<String> branch(String name, int children, int depth) {
+		MFXTreeItem<String> item = new MFXTreeItem<>(name);
+		if (depth == 0) return item;
+		for (int i = 0; i < children; i++) {
+			item.getItems().add(branch(name + "-" + i, children, depth - 1));
+		}
+		return item;
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package utils;
+
+import io.github.palexdev.materialfx.utils.ListChangeHelper;
+import io.github.palexdev.materialfx.utils.ListChangeProcessor;
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class ListChangeProcessorTests {
+
+	@Test
+	public void testAddition() {
+		int[] selected = {3, 5, 9};
+		assertRemap(20, selected, list -> list.addAll(0, List.of("A", "B", "C")), true);
+		assertRemap(20, selected, list -> list.addAll(1, List.of("A", "B")), false);
+		assertRemap(20, selected, list -> list.add(3, "A"), true);
+		assertRemap(20, selected, list -> list.add(7, "A"), false);
+		assertRemap(20, selected, list -> list.add("A"), false);
+	}
+
+	@Test
+	public void testRemoval() {
+		int[] selected = {3, 5, 9};
+		assertRemap(20, selected, list -> list.remove(0, 2), true);
+		assertRemap(20, selected, list -> list.remove(6, 8), true);
+		assertRemap(20, selected, list -> list.removeAll(List.of("String 1", "String 4", "String 12")), true);
+	}
+
+	@Test
+	public void testRemoveSelected() {
+		int[] selected = {3, 5, 9, 10};
+		assertRemap(20, selected, list -> list.remove(3), false);
+		assertRemap(20, selected, list -> list.remove(4, 10), false);
+		assertRemap(20, selected, list -> list.removeAll(List.of("String 0", "String 5", "String 10")), false);
+		assertRemap(20, selected, List::clear, false);
+	}
+
+	@Test
+	public void testReplacement() {
+		int[] selected = {3, 5, 9, 10};
+		assertRemap(20, selected, list -> list.set(5, "A"), false);
+		assertRemap(20, selected, list -> list.batch(() -> {
+			list.remove(4, 6);
+			list.addAll(4, List.of("A", "B", "C"));
+		}), false);
+		assertRemap(20, selected, list -> list.batch(() -> {
+			list.remove(2, 11);
+			list.add(2, "A");
+		}), false);
+	}
+
+	@Test
+	public void testInterleaved() {
+		int[] selected = {0, 3, 5, 9, 10, 15, 19};
+		assertRemap(20, selected, list -> list.batch(() -> {
+			list.add(1, "A");
+			list.remove(5);
+			list.set(9, "B");
+			list.addAll(12, List.of("C", "D"));
+			list.remove(16, 18);
+		}), false);
+		assertRemap(20, selected, list -> list.batch(() -> {
+			list.remove(19);
+			list.remove(0);
+			list.add(0, "A");
+			list.set(4, "B");
+			list.set(5, "C");
+		}), false);
+	}
+
+	@Test
+	public void testRandom() {
+		Random random = new Random(7);
+		for (int run = 0; run < 200; run++) {
+			int size = 1 + random.nextInt(40);
+			int[] selected = IntStream.range(0, size).filter(i -> random.nextInt(3) == 0).toArray();
+			int ops = 1 + random.nextInt(6);
+			long seed = random.nextLong();
+			assertRemap(size, selected, list -> list.batch(() -> {
+				Random r = new Random(seed);
+				for (int i = 0; i < ops; i++) {
+					int op = list.isEmpty() ? 0 : r.nextInt(3);
+					switch (op) {
+						case 0:
+							list.add(r.nextInt(list.size() + 1), "N" + i);
+							break;
+						case 1:
+							list.remove(r.nextInt(list.size()));
+							break;
+						default:
+							list.set(r.nextInt(list.size()), "S" + i);
+							break;
+					}
+				}
+			}), false);
+		}
+	}
+
+	@Test
+	public void testPermutation() {
+		int[] selected = {1, 4, 7};
+		assertRemap(10, selected, list -> list.permute(Comparator.reverseOrder()), false);
+		assertRemap(10, selected, list -> list.permute(Comparator.comparing(s -> s.hashCode() % 7)), false);
+	}
+
+	@Test
+	public void testUpdate() {
+		int[] selected = {1, 4, 7};
+		assertRemap(10, selected, list -> list.update(0, 10), false);
+	}
+
+	//================================================================================
+	// Helpers
+	//================================================================================
+
+	/**
+	 * Applies the given action to a list of the given size, then checks that {@link ListChangeProcessor#remap(int[], ListChangeListener.Change)}
+	 * gives the same result as the expected selection, computed by replaying the change on a list of selection flags.
+	 * <p>
+	 * If legacy is true, the result is also compared to the one of the old {@link ListChangeProcessor#computeAddition(int, int)}
+	 * and {@link ListChangeProcessor#computeRemoval(Set, int)} algorithm, which was only correct for additions before
+	 * the first selected index and for removals of not selected indexes. Even then, the old addition lost the indexes
+	 * which were shifted onto another selected index, e.g. adding two items before the selection {3, 5}.
+	 */
+	private void assertRemap(int size, int[] selected, Consumer<StringList> action, boolean legacy) {
+		StringList list = StringList.of(size);
+		List<String> before = new ArrayList<>(list);
+		List<int[]> results = new ArrayList<>();
+		list.addListener((ListChangeListener<String>) change -> {
+			results.add(ListChangeProcessor.remap(selected, change));
+			results.add(expected(before, selected, change));
+			if (legacy) results.add(legacy(selected, change));
+		});
+		action.accept(list);
+
+		assertArrayEquals(results.get(1), results.get(0));
+		if (legacy) assertArrayEquals(results.get(2), results.get(0));
+	}
+
+	/**
+	 * Replays the change on a list of flags: removed indexes are dropped, added indexes are not selected,
+	 * and replaced indexes keep their state for the first min(removed, added) positions.
+	 * Permutations are resolved by identity.
+	 */
+	private int[] expected(List<String> before, int[] selected, ListChangeListener.Change<? extends String> change) {
+		List<Boolean> flags = new ArrayList<>(Collections.nCopies(before.size(), false));
+		for (int index : selected) flags.set(index, true);
+
+		change.reset();
+		boolean permutation = false;
+		while (change.next()) {
+			if (change.wasPermutated()) {
+				permutation = true;
+				continue;
+			}
+			if (change.wasUpdated()) continue;
+
+			int from = change.getFrom();
+			int removed = change.getRemovedSize();
+			int added = change.getAddedSize();
+			int kept = change.wasReplaced() ? Math.min(removed, added) : 0;
+			List<Boolean> range = flags.subList(from, from + removed);
+			List<Boolean> replacement = new ArrayList<>(range.subList(0, kept));
+			replacement.addAll(Collections.nCopies(added - kept, false));
+			range.clear();
+			flags.addAll(from, replacement);
+		}
+		change.reset();
+
+		if (permutation) {
+			Set<String> items = Arrays.stream(selected).mapToObj(before::get).collect(Collectors.toSet());
+			List<? extends String> list = change.getList();
+			return IntStream.range(0, list.size()).filter(i -> items.contains(list.get(i))).toArray();
+		}
+		return IntStream.range(0, flags.size()).filter(flags::get).toArray();
+	}
+
+	/**
+	 * The algorithm used by the list views before {@link ListChangeProcessor#remap(int[], ListChangeListener.Change)}.
+	 */
+	private int[] legacy(int[] selected, ListChangeListener.Change<? extends String> change) {
+		change.reset();
+		ListChangeHelper.Change c = ListChangeHelper.processChange(change, IntegerRange.of(0, Integer.MAX_VALUE));
+		change.reset();
+		ListChangeProcessor updater = new ListChangeProcessor(Arrays.stream(selected).boxed().collect(Collectors.toSet()));
+		c.processAddition((from, to, added) -> updater.computeAddition(added.size(), from));
+		c.processRemoval((from, to, removed) -> updater.computeRemoval(removed, from));
+		return updater.getIndexes().stream().mapToInt(Integer::intValue).sorted().toArray();
+	}
+
+	private static class StringList extends ModifiableObservableListBase<String> {
+		private final List<String> data = new ArrayList<>();
+
+		static StringList of(int size) {
+			StringList list = new StringList();
+			for (int i = 0; i < size; i++) list.data.add("String " + i);
+			return list;
+		}
+
+		void batch(Runnable action) {
+			beginChange();
+			try {
+				action.run();
+			} finally {
+				endChange();
+			}
+		}
+
+		void update(int from, int to) {
+			beginChange();
+			for (int i = from; i < to; i++) nextUpdate(i);
+			endChange();
+		}
+
+		void permute(Comparator<String> comparator) {
+			List<String> old = new ArrayList<>(data);
+			data.sort(comparator);
+			int[] perm = new int[old.size()];
+			for (int i = 0; i < perm.length; i++) perm[i] = data.indexOf(old.get(i));
+			beginChange();
+			nextPermutation(0, perm.length, perm);
+			endChange();
+		}
+
+		@Override
+		public String get(int index) {
+			return data.get(index);
+		}
+
+		@Override
+		public int size() {
+			return data.size();
+		}
+
+		@Override
+		protected void doAdd(int index, String element) {
+			data.add(index, element);
+		}
+
+		@Override
+		protected String doSet(int index, String element) {
+			return data.set(index, element);
+		}
+
+		@Override
+		protected String doRemove(int index) {
+			return data.remove(index);
+		}
+	}
+}
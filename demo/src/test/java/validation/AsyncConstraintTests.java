@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package validation;
+
+import io.github.palexdev.materialfx.validation.AsyncConstraint;
+import io.github.palexdev.materialfx.validation.MFXValidator;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.util.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+public class AsyncConstraintTests {
+	private final StringProperty source = new SimpleStringProperty("valid");
+	private final List<String> checked = new ArrayList<>();
+
+	@Test
+	public void testPendingToValid() {
+		AsyncConstraint<String> constraint = constraint();
+		constraint.setPendingMessage("Pending");
+
+		// Nothing runs until the constraint is used
+		assertTrue(constraint.isPending());
+		assertEquals("Pending", constraint.getMessage());
+		assertTrue(checked.isEmpty());
+
+		MFXValidator validator = new MFXValidator();
+		fx(() -> validator.constraint(constraint));
+		assertEquals(List.of("valid"), checked);
+		assertFalse(constraint.isPending());
+		assertTrue(constraint.isValid());
+		assertEquals("Invalid", constraint.getMessage());
+		assertTrue(validator.isValid());
+		assertFalse(validator.isPending());
+
+		fx(() -> source.set("wrong"));
+		assertEquals(List.of("valid", "wrong"), checked);
+		assertFalse(constraint.isValid());
+		assertFalse(validator.isValid());
+	}
+
+	@Test
+	public void testExecutorBeforeFirstEvaluation() {
+		List<Runnable> tasks = new ArrayList<>();
+		AsyncConstraint<String> constraint = new AsyncConstraint<>("Invalid", source, this::check);
+		constraint.setExecutor(tasks::add);
+		constraint.setDelay(Duration.ZERO);
+
+		fx(constraint::getCondition);
+		assertEquals(1, tasks.size());
+		assertTrue(checked.isEmpty());
+
+		fx(() -> tasks.get(0).run());
+		assertEquals(List.of("valid"), checked);
+		assertTrue(constraint.isValid());
+	}
+
+	@Test
+	public void testDebounce() throws Exception {
+		AsyncConstraint<String> constraint = constraint();
+		constraint.setDelay(Duration.millis(200));
+		fx(constraint::evaluate);
+		checked.clear();
+
+		fx(() -> {
+			source.set("a");
+			source.set("ab");
+			source.set("wrong");
+		});
+		assertTrue(constraint.isPending());
+		assertFalse(constraint.getCondition().get());
+		assertTrue(checked.isEmpty());
+
+		WaitForAsyncUtils.sleep(500, TimeUnit.MILLISECONDS);
+		WaitForAsyncUtils.waitForFxEvents();
+		assertEquals(List.of("wrong"), checked);
+		assertFalse(constraint.isPending());
+		assertFalse(constraint.isValid());
+	}
+
+	@Test
+	public void testSupersession() {
+		List<Runnable> tasks = new ArrayList<>();
+		AsyncConstraint<String> constraint = new AsyncConstraint<>("Invalid", source, this::check);
+		constraint.setExecutor(tasks::add);
+		constraint.setDelay(Duration.ZERO);
+
+		// A queued evaluation which is superseded is never executed
+		fx(() -> {
+			constraint.evaluate();
+			source.set("wrong");
+		});
+		assertEquals(2, tasks.size());
+		fx(() -> tasks.forEach(Runnable::run));
+		assertEquals(List.of("wrong"), checked);
+		assertFalse(constraint.isValid());
+		assertFalse(constraint.isPending());
+
+		// A completed evaluation which is superseded before its result is applied is discarded
+		tasks.clear();
+		checked.clear();
+		fx(() -> {
+			source.set("valid");
+			tasks.get(0).run();
+			source.set("wrong again");
+		});
+		assertEquals(List.of("valid"), checked);
+		assertTrue(constraint.isPending());
+		assertFalse(constraint.getCondition().get());
+
+		fx(() -> tasks.get(1).run());
+		assertEquals(List.of("valid", "wrong again"), checked);
+		assertFalse(constraint.isPending());
+		assertFalse(constraint.isValid());
+	}
+
+	@Test
+	public void testError() {
+		AsyncConstraint<String> constraint = constraint();
+		fx(() -> constraint.setCheck(value -> {
+			throw new IllegalStateException("Unreachable");
+		}));
+		fx(constraint::evaluate);
+		assertFalse(constraint.isPending());
+		assertFalse(constraint.isValid());
+		assertInstanceOf(IllegalStateException.class, constraint.getError());
+	}
+
+	//================================================================================
+	// Helpers
+	//================================================================================
+
+	/**
+	 * @return a new constraint which runs the check synchronously, without delay
+	 */
+	private AsyncConstraint<String> constraint() {
+		Executor synchronous = Runnable::run;
+		return new AsyncConstraint<>("Invalid", source, this::check)
+				.setExecutor(synchronous)
+				.setDelay(Duration.ZERO);
+	}
+
+	private boolean check(String value) {
+		checked.add(value);
+		return value.equals("valid");
+	}
+
+	/**
+	 * Runs the given action on the JavaFX thread, then waits for the events it generated to be processed.
+	 */
+	private void fx(Runnable action) {
+		WaitForAsyncUtils.waitForAsyncFx(5000, action);
+		WaitForAsyncUtils.waitForFxEvents();
+	}
+}
@@ -0,0 +1,543 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import javafx.collections.ListChangeListener;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@code ColumnarProjection} stores the values extracted from the items of a {@link TransformableList}'s source
+ * in arrays, one for each extractor function, which are called columns.
+ * <p>
+ * Columns are maintained incrementally as the source list changes (the {@link TransformableList} forwards its changes
+ * to the projection before processing them), so extractors are invoked only for added or updated items.
+ * <p>
+ * Columns can produce {@link IndexedComparator}s and values can be tested by {@link IndexedPredicate}s, this way
+ * the {@link TransformableList} can filter and sort by reading the arrays rather than invoking the extractors every time.
+ * <p>
+ * Primitive columns are available for int, long and double values, other values are stored in an Object array.
+ * Columns are identified by the extractor function instance, projecting the same extractor twice returns the same column.
+ * Extractors which return boxed numbers can be stored in primitive columns too, see {@link #unboxInt(Function)},
+ * {@link #unboxLong(Function)} and {@link #unboxDouble(Function)}.
+ * <p></p>
+ * To get a projection use {@link TransformableList#setProjectionEnabled(boolean)} and {@link TransformableList#getProjection()}.
+ * When the projection is disabled, it is disposed, see {@link #isDisposed()}.
+ * <p>
+ * <b>N.B:</b> columns are not thread-safe, they must be read and modified on the thread which modifies the source list.
+ *
+ * @param <T> the items' type
+ */
+public class ColumnarProjection<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final List<? extends T> source;
+	private final Map<Object, Column<T>> columns = new IdentityHashMap<>();
+	private final Map<Object, Column<T>> unboxed = new IdentityHashMap<>();
+	private boolean disposed = false;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	ColumnarProjection(List<? extends T> source) {
+		this.source = source;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the int column for the given extractor, built if not already present
+	 */
+	public IntColumn<T> projectInt(ToIntFunction<? super T> extractor) {
+		return column(columns, extractor, () -> new IntColumn<>(source, extractor));
+	}
+
+	/**
+	 * @return the long column for the given extractor, built if not already present
+	 */
+	public LongColumn<T> projectLong(ToLongFunction<? super T> extractor) {
+		return column(columns, extractor, () -> new LongColumn<>(source, extractor));
+	}
+
+	/**
+	 * @return the double column for the given extractor, built if not already present
+	 */
+	public DoubleColumn<T> projectDouble(ToDoubleFunction<? super T> extractor) {
+		return column(columns, extractor, () -> new DoubleColumn<>(source, extractor));
+	}
+
+	/**
+	 * @return the object column for the given extractor, built if not already present
+	 */
+	public <U> ObjectColumn<T, U> project(Function<? super T, U> extractor) {
+		return column(columns, extractor, () -> new ObjectColumn<>(source, extractor));
+	}
+
+	/**
+	 * @return the int column for the given extractor of boxed numbers, built if not already present
+	 * @see #unboxDouble(Function)
+	 */
+	public IntColumn<T> unboxInt(Function<? super T, ? extends Number> extractor) {
+		return column(unboxed, extractor, () -> new IntColumn<>(source, t -> extractor.apply(t).intValue()));
+	}
+
+	/**
+	 * @return the long column for the given extractor of boxed numbers, built if not already present
+	 * @see #unboxDouble(Function)
+	 */
+	public LongColumn<T> unboxLong(Function<? super T, ? extends Number> extractor) {
+		return column(unboxed, extractor, () -> new LongColumn<>(source, t -> extractor.apply(t).longValue()));
+	}
+
+	/**
+	 * @return the double column for the given extractor of boxed numbers, built if not already present
+	 * <p>
+	 * Unboxed columns are identified by the extractor instance too, but they are kept apart from the columns built by
+	 * {@link #project(Function)}, so the same extractor can have both an object and a primitive column.
+	 * An extractor can be unboxed to only one primitive type, and it must not return null values.
+	 */
+	public DoubleColumn<T> unboxDouble(Function<? super T, ? extends Number> extractor) {
+		return column(unboxed, extractor, () -> new DoubleColumn<>(source, t -> extractor.apply(t).doubleValue()));
+	}
+
+	/**
+	 * Returns the column of the given extractor from the given map, built with the given factory if not already present.
+	 * <p>
+	 * If the projection is disposed, a new column is returned which is not stored and extracts the values at each access.
+	 */
+	@SuppressWarnings("unchecked")
+	private <C extends Column<T>> C column(Map<Object, Column<T>> map, Object extractor, Supplier<C> factory) {
+		if (disposed) {
+			C column = factory.get();
+			column.dispose();
+			return column;
+		}
+		return (C) map.computeIfAbsent(extractor, e -> {
+			C column = factory.get();
+			column.build();
+			return column;
+		});
+	}
+
+	/**
+	 * Removes the columns of the given extractor, if present.
+	 */
+	public void remove(Object extractor) {
+		columns.remove(extractor);
+		unboxed.remove(extractor);
+	}
+
+	/**
+	 * Removes all the columns.
+	 */
+	public void clear() {
+		columns.clear();
+		unboxed.clear();
+	}
+
+	/**
+	 * @return the number of columns
+	 */
+	public int size() {
+		return columns.size() + unboxed.size();
+	}
+
+	/**
+	 * Disposes all the columns and removes them, called by the {@link TransformableList} when the projection is disabled,
+	 * since from then on the columns would not be kept in sync with the source list anymore.
+	 * <p>
+	 * Predicates and comparators built from the columns keep working, but the values are extracted at each access.
+	 */
+	void dispose() {
+		disposed = true;
+		columns.values().forEach(Column::dispose);
+		unboxed.values().forEach(Column::dispose);
+		clear();
+	}
+
+	/**
+	 * @return whether the projection has been disposed, in which case its columns are not kept in sync with
+	 * the source list, and they extract the values at each access instead
+	 */
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	/**
+	 * Applies the given source change to all the columns.
+	 * <p>
+	 * The change is consumed, the caller is responsible for resetting it.
+	 */
+	void sourceChanged(ListChangeListener.Change<? extends T> c) {
+		if (columns.isEmpty() && unboxed.isEmpty()) return;
+		List<Column<T>> values = new ArrayList<>(columns.values());
+		values.addAll(unboxed.values());
+		while (c.next()) {
+			int from = c.getFrom();
+			int to = c.getTo();
+			if (c.wasPermutated()) {
+				int[] perm = new int[to - from];
+				for (int i = from; i < to; i++) {
+					perm[i - from] = c.getPermutation(i);
+				}
+				values.forEach(column -> column.permute(from, to, perm));
+				continue;
+			}
+			if (c.wasUpdated()) {
+				values.forEach(column -> column.update(from, to));
+				continue;
+			}
+
+			int removedSize = c.getRemovedSize();
+			int addedSize = c.wasAdded() ? c.getAddedSize() : 0;
+			for (Column<T> column : values) {
+				if (removedSize > 0) column.remove(from, removedSize);
+				if (addedSize > 0) column.insert(from, addedSize);
+			}
+		}
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Base class for all columns, manages a growable array of values, one for each item in the source list.
+	 * <p>
+	 * Implementations only have to specify how to allocate the array and how to extract a value.
+	 */
+	public abstract static class Column<T> {
+		protected final List<? extends T> source;
+		protected Object data;
+		protected int size;
+		protected boolean disposed = false;
+
+		protected Column(List<? extends T> source) {
+			this.source = source;
+		}
+
+		/**
+		 * Allocates a new array of the given length.
+		 */
+		protected abstract Object newArray(int length);
+
+		/**
+		 * Extracts the value for the item at the given index and stores it in the array.
+		 */
+		protected abstract void extract(int index);
+
+		/**
+		 * Builds the array by extracting the values for all the items in the source list.
+		 */
+		protected void build() {
+			size = source.size();
+			data = newArray(size);
+			for (int i = 0; i < size; i++) {
+				extract(i);
+			}
+		}
+
+		/**
+		 * Makes room for the given number of values at the given index and extracts them.
+		 */
+		protected void insert(int from, int count) {
+			if (size + count > Array.getLength(data)) {
+				Object grown = newArray(Math.max(size + count, size + (size >> 1)));
+				System.arraycopy(data, 0, grown, 0, size);
+				data = grown;
+			}
+			System.arraycopy(data, from, data, from + count, size - from);
+			size += count;
+			for (int i = from; i < from + count; i++) {
+				extract(i);
+			}
+		}
+
+		/**
+		 * Removes the given number of values starting from the given index.
+		 */
+		protected void remove(int from, int count) {
+			System.arraycopy(data, from + count, data, from, size - from - count);
+			size -= count;
+			if (data instanceof Object[]) Arrays.fill((Object[]) data, size, size + count, null);
+		}
+
+		/**
+		 * Re-extracts the values in the given range.
+		 */
+		protected void update(int from, int to) {
+			for (int i = from; i < to; i++) {
+				extract(i);
+			}
+		}
+
+		/**
+		 * Moves the values in the given range according to the given permutation, the value at index {@code i}
+		 * is moved to {@code perm[i - from]}.
+		 */
+		protected void permute(int from, int to, int[] perm) {
+			Object tmp = newArray(to - from);
+			System.arraycopy(data, from, tmp, 0, to - from);
+			for (int i = 0; i < perm.length; i++) {
+				System.arraycopy(tmp, i, data, perm[i], 1);
+			}
+		}
+
+		/**
+		 * Releases the values, from now on they are extracted from the source list at each access.
+		 */
+		protected void dispose() {
+			disposed = true;
+			data = null;
+			size = 0;
+		}
+
+		/**
+		 * @return the number of values in the column
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * @return whether the column has been disposed, see {@link ColumnarProjection#isDisposed()}
+		 */
+		public boolean isDisposed() {
+			return disposed;
+		}
+	}
+
+	/**
+	 * Column for int values.
+	 */
+	public static class IntColumn<T> extends Column<T> {
+		private final ToIntFunction<? super T> extractor;
+
+		IntColumn(List<? extends T> source, ToIntFunction<? super T> extractor) {
+			super(source);
+			this.extractor = extractor;
+		}
+
+		@Override
+		protected Object newArray(int length) {
+			return new int[length];
+		}
+
+		@Override
+		protected void extract(int index) {
+			((int[]) data)[index] = extractor.applyAsInt(source.get(index));
+		}
+
+		/**
+		 * @return the value for the item at the given index
+		 */
+		public int getInt(int index) {
+			if (disposed) return extractor.applyAsInt(source.get(index));
+			Objects.checkIndex(index, size);
+			return ((int[]) data)[index];
+		}
+
+		/**
+		 * @return an {@link IndexedComparator} that compares the values of this column in ascending order
+		 */
+		public IndexedComparator<T> comparator() {
+			return new IndexedComparator<>() {
+				@Override
+				public int compareIndexes(int index1, int index2) {
+					if (disposed) return compare(source.get(index1), source.get(index2));
+					int[] values = (int[]) data;
+					return Integer.compare(values[index1], values[index2]);
+				}
+
+				@Override
+				public int compare(T o1, T o2) {
+					return Integer.compare(extractor.applyAsInt(o1), extractor.applyAsInt(o2));
+				}
+			};
+		}
+	}
+
+	/**
+	 * Column for long values.
+	 */
+	public static class LongColumn<T> extends Column<T> {
+		private final ToLongFunction<? super T> extractor;
+
+		LongColumn(List<? extends T> source, ToLongFunction<? super T> extractor) {
+			super(source);
+			this.extractor = extractor;
+		}
+
+		@Override
+		protected Object newArray(int length) {
+			return new long[length];
+		}
+
+		@Override
+		protected void extract(int index) {
+			((long[]) data)[index] = extractor.applyAsLong(source.get(index));
+		}
+
+		/**
+		 * @return the value for the item at the given index
+		 */
+		public long getLong(int index) {
+			if (disposed) return extractor.applyAsLong(source.get(index));
+			Objects.checkIndex(index, size);
+			return ((long[]) data)[index];
+		}
+
+		/**
+		 * @return an {@link IndexedComparator} that compares the values of this column in ascending order
+		 */
+		public IndexedComparator<T> comparator() {
+			return new IndexedComparator<>() {
+				@Override
+				public int compareIndexes(int index1, int index2) {
+					if (disposed) return compare(source.get(index1), source.get(index2));
+					long[] values = (long[]) data;
+					return Long.compare(values[index1], values[index2]);
+				}
+
+				@Override
+				public int compare(T o1, T o2) {
+					return Long.compare(extractor.applyAsLong(o1), extractor.applyAsLong(o2));
+				}
+			};
+		}
+	}
+
+	/**
+	 * Column for double values.
+	 */
+	public static class DoubleColumn<T> extends Column<T> {
+		private final ToDoubleFunction<? super T> extractor;
+
+		DoubleColumn(List<? extends T> source, ToDoubleFunction<? super T> extractor) {
+			super(source);
+			this.extractor = extractor;
+		}
+
+		@Override
+		protected Object newArray(int length) {
+			return new double[length];
+		}
+
+		@Override
+		protected void extract(int index) {
+			((double[]) data)[index] = extractor.applyAsDouble(source.get(index));
+		}
+
+		/**
+		 * @return the value for the item at the given index
+		 */
+		public double getDouble(int index) {
+			if (disposed) return extractor.applyAsDouble(source.get(index));
+			Objects.checkIndex(index, size);
+			return ((double[]) data)[index];
+		}
+
+		/**
+		 * @return an {@link IndexedComparator} that compares the values of this column in ascending order
+		 */
+		public IndexedComparator<T> comparator() {
+			return new IndexedComparator<>() {
+				@Override
+				public int compareIndexes(int index1, int index2) {
+					if (disposed) return compare(source.get(index1), source.get(index2));
+					double[] values = (double[]) data;
+					return Double.compare(values[index1], values[index2]);
+				}
+
+				@Override
+				public int compare(T o1, T o2) {
+					return Double.compare(extractor.applyAsDouble(o1), extractor.applyAsDouble(o2));
+				}
+			};
+		}
+	}
+
+	/**
+	 * Column for any other type of value, for example Strings.
+	 */
+	public static class ObjectColumn<T, U> extends Column<T> {
+		private final Function<? super T, U> extractor;
+
+		ObjectColumn(List<? extends T> source, Function<? super T, U> extractor) {
+			super(source);
+			this.extractor = extractor;
+		}
+
+		@Override
+		protected Object newArray(int length) {
+			return new Object[length];
+		}
+
+		@Override
+		protected void extract(int index) {
+			((Object[]) data)[index] = extractor.apply(source.get(index));
+		}
+
+		/**
+		 * @return the value for the item at the given index
+		 */
+		@SuppressWarnings("unchecked")
+		public U get(int index) {
+			if (disposed) return extractor.apply(source.get(index));
+			Objects.checkIndex(index, size);
+			return (U) ((Object[]) data)[index];
+		}
+
+		/**
+		 * @return an {@link IndexedComparator} that compares the values of this column with the given comparator
+		 */
+		@SuppressWarnings("unchecked")
+		public IndexedComparator<T> comparator(Comparator<? super U> comparator) {
+			return new IndexedComparator<>() {
+				@Override
+				public int compareIndexes(int index1, int index2) {
+					if (disposed) return compare(source.get(index1), source.get(index2));
+					Object[] values = (Object[]) data;
+					return comparator.compare((U) values[index1], (U) values[index2]);
+				}
+
+				@Override
+				public int compare(T o1, T o2) {
+					return comparator.compare(extractor.apply(o1), extractor.apply(o2));
+				}
+			};
+		}
+
+		/**
+		 * @return the function used to extract the values
+		 */
+		public Function<? super T, U> getExtractor() {
+			return extractor;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Utility class to sort arrays of indexes without boxing them.
+ * <p>
+ * The algorithm is a stable merge sort which uses insertion sort for small ranges and
+ * skips the merge step when two halves are already in order. This means that sorting
+ * an already (or almost) sorted array is close to linear.
+ */
+class IndexSorter {
+	private static final int INSERTION_THRESHOLD = 16;
+
+	private IndexSorter() {
+	}
+
+	/**
+	 * Sorts the first {@code size} elements of the given array with the given comparator.
+	 * <p>
+	 * The comparator receives two elements of the array (not their positions) and must behave like a
+	 * {@link java.util.Comparator}.
+	 */
+	static void sort(int[] indexes, int size, IntBinaryOperator comparator) {
+		if (size < 2) return;
+		int[] buffer = new int[size];
+		sort(indexes, buffer, 0, size, comparator);
+	}
+
+	/**
+	 * Sorts the elements of the given array from the given start (inclusive) to the given end (exclusive)
+	 * with the given comparator.
+	 * <p>
+	 * The given buffer must be at least as long as the array, it can be reused to sort several ranges
+	 * of the same array without allocating.
+	 */
+	static void sort(int[] a, int[] buffer, int from, int to, IntBinaryOperator comparator) {
+		if (to - from <= INSERTION_THRESHOLD) {
+			insertionSort(a, from, to, comparator);
+			return;
+		}
+
+		int mid = (from + to) >>> 1;
+		sort(a, buffer, from, mid, comparator);
+		sort(a, buffer, mid, to, comparator);
+		if (comparator.applyAsInt(a[mid - 1], a[mid]) <= 0) return;
+
+		System.arraycopy(a, from, buffer, from, to - from);
+		int i = from;
+		int j = mid;
+		int k = from;
+		while (i < mid && j < to) {
+			a[k++] = comparator.applyAsInt(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+		}
+		while (i < mid) a[k++] = buffer[i++];
+		while (j < to) a[k++] = buffer[j++];
+	}
+
+	private static void insertionSort(int[] a, int from, int to, IntBinaryOperator comparator) {
+		for (int i = from + 1; i < to; i++) {
+			int val = a[i];
+			int j = i - 1;
+			while (j >= from && comparator.applyAsInt(a[j], val) > 0) {
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = val;
+		}
+	}
+}
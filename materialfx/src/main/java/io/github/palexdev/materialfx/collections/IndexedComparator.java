@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.Comparator;
+
+/**
+ * Special type of {@link Comparator} which is also capable of comparing two items given their indexes in the source list
+ * of a {@link TransformableList}, rather than the items themselves.
+ * <p>
+ * This is typically implemented by reading values previously extracted in a {@link ColumnarProjection},
+ * which is much faster than invoking the extractor functions every time.
+ *
+ * @param <T> the items' type
+ */
+public interface IndexedComparator<T> extends Comparator<T> {
+
+	/**
+	 * Compares the items at the given indexes in the source list.
+	 */
+	int compareIndexes(int index1, int index2);
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Overridden to return an {@link IndexedComparator}.
+	 */
+	@Override
+	default IndexedComparator<T> reversed() {
+		IndexedComparator<T> comparator = this;
+		return new IndexedComparator<>() {
+			@Override
+			public int compareIndexes(int index1, int index2) {
+				return comparator.compareIndexes(index2, index1);
+			}
+
+			@Override
+			public int compare(T o1, T o2) {
+				return comparator.compare(o2, o1);
+			}
+
+			@Override
+			public IndexedComparator<T> reversed() {
+				return comparator;
+			}
+		};
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.function.Predicate;
+
+/**
+ * Special type of {@link Predicate} which is also capable of testing an item given its index in the source list
+ * of a {@link TransformableList}, rather than the item itself.
+ * <p>
+ * This is typically implemented by reading values previously extracted in a {@link ColumnarProjection},
+ * which is much faster than invoking the extractor functions every time.
+ *
+ * @param <T> the items' type
+ */
+public interface IndexedPredicate<T> extends Predicate<T> {
+
+	/**
+	 * Tests the item at the given index in the source list.
+	 */
+	boolean testIndex(int index);
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * A {@link Comparator} which compares items by a list of {@link SortKey}s, in order of priority.
+ * Items are compared by the first key, if equal by the second, and so on.
+ * <p>
+ * When a {@code SortChain} is set as the comparator of a {@link TransformableList}, the keys are converted to
+ * primitive comparisons, see {@link SortKey}. Moreover, if the new chain just appends keys to the previously applied one
+ * (and the predicate did not change), the list does not sort again from scratch, rather it only sorts the ranges of items
+ * which are equal for the previous keys, by the appended keys.
+ *
+ * @param <T> the items' type
+ */
+public class SortChain<T> implements Comparator<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final List<SortKey<T>> keys;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+
+	/**
+	 * Builds a chain from the given comparators, comparators which are not {@link SortKey}s are wrapped
+	 * with {@link SortKey#of(Comparator)}.
+	 */
+	public SortChain(List<? extends Comparator<? super T>> comparators) {
+		List<SortKey<T>> keys = new ArrayList<>(comparators.size());
+		for (Comparator<? super T> comparator : comparators) {
+			keys.add(SortKey.of(comparator));
+		}
+		this.keys = List.copyOf(keys);
+	}
+
+	@SafeVarargs
+	public SortChain(Comparator<? super T>... comparators) {
+		this(Arrays.asList(comparators));
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return whether the first keys of this chain are equal to the keys of the given chain
+	 */
+	public boolean startsWith(SortChain<?> other) {
+		if (other.keys.size() > keys.size()) return false;
+		return keys.subList(0, other.keys.size()).equals(other.keys);
+	}
+
+	/**
+	 * @return a new chain with the keys of this chain from the given start (inclusive) to the given end (exclusive)
+	 */
+	public SortChain<T> subChain(int from, int to) {
+		return new SortChain<>(keys.subList(from, to));
+	}
+
+	/**
+	 * Converts this chain to an {@link IntBinaryOperator} which compares the items at the given indexes of the given list.
+	 *
+	 * @see SortKey#bind(List, ColumnarProjection, boolean, boolean)
+	 */
+	IntBinaryOperator bind(List<? extends T> list, ColumnarProjection<T> projection, boolean indexed, boolean extract) {
+		if (keys.size() == 1) return keys.get(0).bind(list, projection, indexed, extract);
+		IntBinaryOperator[] operators = new IntBinaryOperator[keys.size()];
+		for (int i = 0; i < operators.length; i++) {
+			operators[i] = keys.get(i).bind(list, projection, indexed, extract);
+		}
+		return (i1, i2) -> {
+			for (IntBinaryOperator operator : operators) {
+				int res = operator.applyAsInt(i1, i2);
+				if (res != 0) return res;
+			}
+			return 0;
+		};
+	}
+
+	/**
+	 * @return the number of keys
+	 */
+	public int size() {
+		return keys.size();
+	}
+
+	/**
+	 * @return the unmodifiable list of keys
+	 */
+	public List<SortKey<T>> getKeys() {
+		return keys;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public int compare(T o1, T o2) {
+		for (SortKey<T> key : keys) {
+			int res = key.compare(o1, o2);
+			if (res != 0) return res;
+		}
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		return keys.equals(((SortChain<?>) o).keys);
+	}
+
+	@Override
+	public int hashCode() {
+		return keys.hashCode();
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import io.github.palexdev.materialfx.collections.ColumnarProjection.DoubleColumn;
+import io.github.palexdev.materialfx.collections.ColumnarProjection.IntColumn;
+import io.github.palexdev.materialfx.collections.ColumnarProjection.LongColumn;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@code SortKey} is a {@link Comparator} which also declares how the compared values are obtained.
+ * <p>
+ * Keys built with {@link #ofInt(ToIntFunction)}, {@link #ofLong(ToLongFunction)} and {@link #ofDouble(ToDoubleFunction)}
+ * compare primitive values. When used by a {@link TransformableList} (alone or in a {@link SortChain}), the values
+ * are extracted only once per item in primitive arrays (or read from the {@link ColumnarProjection} if enabled),
+ * so that the sort never boxes values nor invokes the extractors for every comparison.
+ * <p>
+ * Any other comparator can be wrapped with {@link #of(Comparator)}.
+ * <p></p>
+ * Keys are equal if they have the same type, the same extractor (or comparator) and the same direction.
+ * This allows the {@link TransformableList} to recognize when a {@link SortChain} is just an extension of the previous one.
+ *
+ * @param <T> the items' type
+ */
+public class SortKey<T> implements Comparator<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Type type;
+	private final Object extractor;
+	private final boolean descending;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	private SortKey(Type type, Object extractor, boolean descending) {
+		this.type = type;
+		this.extractor = extractor;
+		this.descending = descending;
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * @return an ascending key which compares the int values extracted by the given function
+	 */
+	public static <T> SortKey<T> ofInt(ToIntFunction<? super T> extractor) {
+		return new SortKey<>(Type.INT, Objects.requireNonNull(extractor), false);
+	}
+
+	/**
+	 * @return an ascending key which compares the long values extracted by the given function
+	 */
+	public static <T> SortKey<T> ofLong(ToLongFunction<? super T> extractor) {
+		return new SortKey<>(Type.LONG, Objects.requireNonNull(extractor), false);
+	}
+
+	/**
+	 * @return an ascending key which compares the double values extracted by the given function
+	 */
+	public static <T> SortKey<T> ofDouble(ToDoubleFunction<? super T> extractor) {
+		return new SortKey<>(Type.DOUBLE, Objects.requireNonNull(extractor), false);
+	}
+
+	/**
+	 * Wraps the given comparator in a {@code SortKey}, if it is already a {@code SortKey} it is returned as is.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> SortKey<T> of(Comparator<? super T> comparator) {
+		if (comparator instanceof SortKey) return (SortKey<T>) comparator;
+		return new SortKey<>(Type.OBJECT, Objects.requireNonNull(comparator), false);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Converts this key to an {@link IntBinaryOperator} which compares the items at the given indexes of the given list.
+	 * <p>
+	 * If indexed is true, the list is the source of a {@link TransformableList}, so primitive values are read from the
+	 * given {@link ColumnarProjection} (if not null) and wrapped {@link IndexedComparator}s compare by index.
+	 * <p>
+	 * Otherwise, if extract is true, primitive values are extracted once from the whole list and stored in an array,
+	 * else they are extracted at each comparison. The latter is needed when the list may change while the operator is in use.
+	 */
+	@SuppressWarnings("unchecked")
+	IntBinaryOperator bind(List<? extends T> list, ColumnarProjection<T> projection, boolean indexed, boolean extract) {
+		if (!indexed) projection = null;
+		IntBinaryOperator operator;
+		switch (type) {
+			case INT: {
+				ToIntFunction<? super T> function = (ToIntFunction<? super T>) extractor;
+				if (projection != null) {
+					IntColumn<T> column = projection.projectInt(function);
+					operator = (i1, i2) -> Integer.compare(column.getInt(i1), column.getInt(i2));
+				} else if (extract) {
+					int[] values = new int[list.size()];
+					for (int i = 0; i < values.length; i++) values[i] = function.applyAsInt(list.get(i));
+					operator = (i1, i2) -> Integer.compare(values[i1], values[i2]);
+				} else {
+					operator = (i1, i2) -> Integer.compare(function.applyAsInt(list.get(i1)), function.applyAsInt(list.get(i2)));
+				}
+				break;
+			}
+			case LONG: {
+				ToLongFunction<? super T> function = (ToLongFunction<? super T>) extractor;
+				if (projection != null) {
+					LongColumn<T> column = projection.projectLong(function);
+					operator = (i1, i2) -> Long.compare(column.getLong(i1), column.getLong(i2));
+				} else if (extract) {
+					long[] values = new long[list.size()];
+					for (int i = 0; i < values.length; i++) values[i] = function.applyAsLong(list.get(i));
+					operator = (i1, i2) -> Long.compare(values[i1], values[i2]);
+				} else {
+					operator = (i1, i2) -> Long.compare(function.applyAsLong(list.get(i1)), function.applyAsLong(list.get(i2)));
+				}
+				break;
+			}
+			case DOUBLE: {
+				ToDoubleFunction<? super T> function = (ToDoubleFunction<? super T>) extractor;
+				if (projection != null) {
+					DoubleColumn<T> column = projection.projectDouble(function);
+					operator = (i1, i2) -> Double.compare(column.getDouble(i1), column.getDouble(i2));
+				} else if (extract) {
+					double[] values = new double[list.size()];
+					for (int i = 0; i < values.length; i++) values[i] = function.applyAsDouble(list.get(i));
+					operator = (i1, i2) -> Double.compare(values[i1], values[i2]);
+				} else {
+					operator = (i1, i2) -> Double.compare(function.applyAsDouble(list.get(i1)), function.applyAsDouble(list.get(i2)));
+				}
+				break;
+			}
+			default: {
+				Comparator<? super T> comparator = (Comparator<? super T>) extractor;
+				if (indexed && comparator instanceof IndexedComparator) {
+					operator = ((IndexedComparator<?>) comparator)::compareIndexes;
+				} else {
+					operator = (i1, i2) -> comparator.compare(list.get(i1), list.get(i2));
+				}
+				break;
+			}
+		}
+
+		if (!descending) return operator;
+		IntBinaryOperator ascending = operator;
+		return (i1, i2) -> ascending.applyAsInt(i2, i1);
+	}
+
+	/**
+	 * @return whether this key sorts in descending order
+	 */
+	public boolean isDescending() {
+		return descending;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@SuppressWarnings("unchecked")
+	@Override
+	public int compare(T o1, T o2) {
+		if (descending) {
+			T tmp = o1;
+			o1 = o2;
+			o2 = tmp;
+		}
+		switch (type) {
+			case INT: {
+				ToIntFunction<? super T> function = (ToIntFunction<? super T>) extractor;
+				return Integer.compare(function.applyAsInt(o1), function.applyAsInt(o2));
+			}
+			case LONG: {
+				ToLongFunction<? super T> function = (ToLongFunction<? super T>) extractor;
+				return Long.compare(function.applyAsLong(o1), function.applyAsLong(o2));
+			}
+			case DOUBLE: {
+				ToDoubleFunction<? super T> function = (ToDoubleFunction<? super T>) extractor;
+				return Double.compare(function.applyAsDouble(o1), function.applyAsDouble(o2));
+			}
+			default:
+				return ((Comparator<? super T>) extractor).compare(o1, o2);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Overridden to return a {@code SortKey} with the same extractor and the opposite direction.
+	 */
+	@Override
+	public SortKey<T> reversed() {
+		return new SortKey<>(type, extractor, !descending);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		SortKey<?> sortKey = (SortKey<?>) o;
+		return descending == sortKey.descending && type == sortKey.type && extractor.equals(sortKey.extractor);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(type, extractor, descending);
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+	private enum Type {
+		INT, LONG, DOUBLE, OBJECT
+	}
+}
@@ -21,6 +21,9 @@
 import io.github.palexdev.materialfx.beans.properties.functional.ComparatorProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.PredicateProperty;
 import io.github.palexdev.materialfx.collections.NonIterableChange.GenericAddRemoveChange;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -28,9 +31,16 @@
 import javafx.collections.transformation.TransformationList;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * A {@code TransformableList} is a particular type of List which wraps another
@@ -67,11 +77,25 @@
  * }
  * </pre>
  * <p>
- * Check {@link #computeIndexes()} documentation to see how indexes are calculated.
+ * Check {@link #computeIndexes(int, IntPredicate, IntBinaryOperator, ForkJoinPool, BooleanSupplier)} documentation to see how indexes are calculated.
  * <p></p>
- * <b>IMPORTANT:</b> If using a reversed comparator please use {@link #setComparator(Comparator, boolean)} with 'true' as argument,
- * as {@link #setComparator(Comparator)} will always assume it is a natural order comparator. This is needed to make {@link #sourceToView(int)}
- * properly work as it uses a binary search algorithm to find the right index.
+ * The transformed indexes are stored in a primitive array, the inverse mapping (source to view) is another primitive
+ * array which is lazily built the first time {@link #sourceToView(int)} is called after a change. This way both mappings
+ * are O(1) and work regardless of the comparator, so {@link #setComparator(Comparator, boolean)} and {@link #setReversed(boolean)}
+ * are not needed anymore and are kept only for compatibility.
+ * <p></p>
+ * By default, every change in the source list triggers a full re-computation of the indexes, see {@link #computeIndexes(int, IntPredicate, IntBinaryOperator, ForkJoinPool, BooleanSupplier)},
+ * and the list fires a single change that replaces all of its content. For big and frequently changing sources this
+ * can be quite expensive, in such cases consider enabling the incremental mode with {@link #setIncremental(boolean)}.
+ * <p></p>
+ * Filtering and sorting big lists can also be slow, to avoid blocking the UI the list can compute the indexes
+ * asynchronously, see {@link #setExecutor(Executor)}.
+ * <p>
+ * For items with expensive getters, extracting the values to filter and sort by can dominate the computation.
+ * In such cases, the values can be extracted once and stored in a {@link ColumnarProjection}, see {@link #setProjectionEnabled(boolean)}.
+ * <p>
+ * To sort by multiple keys use a {@link SortChain}, keys declared as primitive with {@link SortKey} are compared without boxing,
+ * and appending a key to the current chain only sorts the ranges of items which are equal for the previous keys.
  *
  * @param <T> the items' type
  */
@@ -79,8 +103,24 @@
 	//================================================================================
 	// Constructors
 	//================================================================================
-	private final List<Integer> indexes = new ArrayList<>();
+	private static final int CANCEL_CHECK_MASK = 0x3FF;
+	private static final int PARALLEL_CHUNK_SIZE = 4096;
+
+	private int[] indexes = new int[0];
+	private int size = 0;
+	private int[] viewIndexes;
 	private boolean reversed = false;
+	private boolean incremental = false;
+	private boolean sourceChanging = false;
+
+	private Predicate<? super T> appliedPredicate;
+	private Comparator<? super T> appliedComparator;
+	private Executor executor;
+	private ColumnarProjection<T> projection;
+	private int parallelThreshold = -1;
+	private ForkJoinPool forkJoinPool;
+	private final AtomicLong generation = new AtomicLong();
+	private final ReadOnlyBooleanWrapper transforming = new ReadOnlyBooleanWrapper(false);
 
 	private final PredicateProperty<T> predicate = new PredicateProperty<>() {
 		@Override
@@ -139,39 +179,531 @@ public int sourceToView(int index) {
 	/**
 	 * Responsible for updating the transformed indexes when the
 	 * predicate or the comparator change.
+	 * <p>
+	 * If an {@link #getExecutor()} is set, the indexes are computed asynchronously, see {@link #transformAsync()}.
+	 * Otherwise, they are computed on the calling thread, and any in-flight asynchronous transformation is cancelled.
 	 */
 	private void update() {
-		indexes.clear();
-		indexes.addAll(computeIndexes());
+		if (executor != null) {
+			transformAsync();
+			return;
+		}
+
+		generation.incrementAndGet();
+		transforming.set(false);
+		Predicate<? super T> filter = getPredicate();
+		Comparator<? super T> sorter = getComparator();
+		if (filter == appliedPredicate && sorter instanceof SortChain && appliedComparator instanceof SortChain) {
+			SortChain<? super T> chain = (SortChain<? super T>) sorter;
+			SortChain<?> applied = (SortChain<?>) appliedComparator;
+			if (chain.size() > applied.size() && chain.startsWith(applied)) {
+				refine(chain, applied.size());
+				return;
+			}
+		}
+
+		int[] computed = computeIndexes(
+				getSource().size(),
+				tester(getSource(), filter, true),
+				comparer(getSource(), sorter, true, true),
+				parallelPool(getSource().size()),
+				() -> false
+		);
+		setIndexes(computed, filter, sorter);
+	}
+
+	/**
+	 * Computes the transformed indexes on the {@link #getExecutor()}.
+	 * <p>
+	 * The computation works on a snapshot of the source list, taken on the calling thread, (for this reason
+	 * {@link IndexedPredicate}s and {@link IndexedComparator}s are used as regular ones), and the result is
+	 * published on the JavaFX thread all at once, by {@link #setIndexes(int[], Predicate, Comparator)}.
+	 * <p>
+	 * Every call to this method (as well as every synchronous update) makes any previous in-flight computation obsolete,
+	 * obsolete computations are stopped as soon as possible and their result is discarded.
+	 * <p>
+	 * While a computation is in progress, the {@link #transformingProperty()} is true.
+	 */
+	private void transformAsync() {
+		long job = generation.incrementAndGet();
+		BooleanSupplier cancelled = () -> generation.get() != job;
+		List<T> snapshot = new ArrayList<>(getSource());
+		Predicate<? super T> filter = getPredicate();
+		Comparator<? super T> sorter = getComparator();
+		ForkJoinPool pool = parallelPool(snapshot.size());
+		transforming.set(true);
+
+		executor.execute(() -> {
+			int[] computed;
+			try {
+				computed = computeIndexes(
+						snapshot.size(),
+						tester(snapshot, filter, false),
+						comparer(snapshot, sorter, false, true),
+						pool,
+						cancelled
+				);
+			} catch (CancellationException ex) {
+				return;
+			} catch (RuntimeException ex) {
+				Platform.runLater(() -> {
+					if (!cancelled.getAsBoolean()) transforming.set(false);
+				});
+				throw ex;
+			}
+
+			Platform.runLater(() -> {
+				if (cancelled.getAsBoolean()) return;
+				setIndexes(computed, filter, sorter);
+				transforming.set(false);
+			});
+		});
+	}
+
+	/**
+	 * Called by {@link #update()} when the new comparator is a {@link SortChain} which extends the previously applied one
+	 * by appending keys, and the predicate did not change.
+	 * <p>
+	 * The current indexes are already sorted by the first (prefix) keys, and items which are equal for them are in
+	 * ascending order. So, rather than sorting everything again, the indexes are scanned to find the ranges of items equal by the
+	 * prefix, and only those ranges are sorted by the appended keys. Finally, a permutation change is fired.
+	 */
+	private void refine(SortChain<? super T> chain, int prefix) {
+		IntBinaryOperator head = comparer(getSource(), chain.subChain(0, prefix), true, true);
+		IntBinaryOperator tail = comparer(getSource(), chain.subChain(prefix, chain.size()), true, true);
+		int[] old = Arrays.copyOf(indexes, size);
+		int[] order = new int[size];
+		int[] buffer = new int[size];
+		for (int i = 0; i < size; i++) order[i] = i;
+
+		int start = 0;
+		for (int i = 1; i <= size; i++) {
+			if (i < size && head.applyAsInt(old[i - 1], old[i]) == 0) continue;
+			if (i - start > 1) IndexSorter.sort(order, buffer, start, i, (o1, o2) -> tail.applyAsInt(old[o1], old[o2]));
+			start = i;
+		}
+
+		int[] perm = new int[size];
+		for (int i = 0; i < size; i++) {
+			indexes[i] = old[order[i]];
+			perm[order[i]] = i;
+		}
+		viewIndexes = null;
+		appliedComparator = chain;
 		if (this.hasListeners()) {
-			this.fireChange(new GenericAddRemoveChange<>(0, size(), new ArrayList<>(this), this));
+			beginChange();
+			nextPermutation(0, size, perm);
+			endChange();
+		}
+	}
+
+	/**
+	 * Replaces the transformed indexes with the given ones, computed with the given predicate and comparator,
+	 * and fires a change that replaces all the list's content.
+	 * <p>
+	 * The previous content is reported as removed, unless the source list changed in the meantime (non-incremental mode),
+	 * in which case the old indexes are not valid anymore and the new content is reported instead.
+	 */
+	private void setIndexes(int[] computed, Predicate<? super T> filter, Comparator<? super T> sorter) {
+		boolean notify = this.hasListeners();
+		List<T> removed = notify && !sourceChanging ? new ArrayList<>(this) : null;
+		indexes = computed;
+		size = computed.length;
+		viewIndexes = null;
+		appliedPredicate = filter;
+		appliedComparator = sorter;
+		if (notify) {
+			this.fireChange(new GenericAddRemoveChange<>(0, size(), removed != null ? removed : new ArrayList<>(this), this));
 		}
 	}
 
 	/**
 	 * Core method of TransformableLists. This is responsible for computing
-	 * the transformed indexes by creating a {@link SortedMap} and mapping every index from 0 to source size
-	 * to its item. Before mapping, items are filtered with the given predicate, {@link #predicateProperty()}.
-	 * Before returning, the map's entry set is sorted by its values with the given comparator, {@link #comparatorProperty()}.
-	 * Finally, returns the map's key set, this set contains the transformed indexes, filtered and sorted.
-	 */
-	private Collection<Integer> computeIndexes() {
-		Predicate<? super T> filter = this.getPredicate();
-		Comparator<? super T> sorter = this.getComparator();
-		SortedMap<Integer, T> sourceMap;
-		if (filter != null) {
-			sourceMap = IntStream.range(0, getSource().size())
-					.filter((index) -> filter.test(getSource().get(index)))
-					.collect(TreeMap::new, (map, index) -> map.put(index, getSource().get(index)), TreeMap::putAll);
+	 * the transformed indexes. Every index from 0 to source size is tested against the given predicate,
+	 * accepted indexes are collected in a primitive array.
+	 * Then, the array is sorted by the items at those indexes with the given comparator,
+	 * since the sort is stable equal items retain their original order.
+	 * <p>
+	 * Both the predicate and the comparator work on indexes, see {@link #tester(List, Predicate, boolean)} and
+	 * {@link #comparer(List, Comparator, boolean, boolean)}.
+	 * <p>
+	 * If a {@link ForkJoinPool} is given, the predicate is evaluated in parallel, see {@link #filterParallel(int, IntPredicate, int[], ForkJoinPool, BooleanSupplier)}.
+	 * <p>
+	 * The given {@link BooleanSupplier} is periodically checked, if it returns true the computation is
+	 * aborted by throwing a {@link CancellationException}.
+	 */
+	private static int[] computeIndexes(int sourceSize, IntPredicate filter, IntBinaryOperator sorter, ForkJoinPool pool, BooleanSupplier cancelled) {
+		int[] computed = new int[sourceSize];
+		int count = 0;
+		if (filter != null && pool != null) {
+			count = filterParallel(sourceSize, filter, computed, pool, cancelled);
 		} else {
-			sourceMap = IntStream.range(0, getSource().size())
-					.collect(TreeMap::new, (map, index) -> map.put(index, getSource().get(index)), TreeMap::putAll);
+			for (int i = 0; i < sourceSize; i++) {
+				if ((i & CANCEL_CHECK_MASK) == 0 && cancelled.getAsBoolean()) throw new CancellationException();
+				if (filter == null || filter.test(i)) computed[count++] = i;
+			}
+		}
+
+		if (sorter != null) {
+			int[] comparisons = new int[1];
+			IndexSorter.sort(computed, count, (i1, i2) -> {
+				if ((++comparisons[0] & CANCEL_CHECK_MASK) == 0 && cancelled.getAsBoolean()) throw new CancellationException();
+				return sorter.applyAsInt(i1, i2);
+			});
+		}
+		return count == sourceSize ? computed : Arrays.copyOf(computed, count);
+	}
+
+	/**
+	 * Evaluates the given predicate in parallel on the given {@link ForkJoinPool}.
+	 * <p>
+	 * The source list is split in chunks of {@value #PARALLEL_CHUNK_SIZE} items, each chunk is filtered by a {@link FilterTask}
+	 * which produces an ordered block of accepted indexes. Blocks are then copied in order into the given array.
+	 *
+	 * @return the number of accepted indexes
+	 */
+	private static int filterParallel(int sourceSize, IntPredicate filter, int[] out, ForkJoinPool pool, BooleanSupplier cancelled) {
+		List<FilterTask> tasks = new ArrayList<>(sourceSize / PARALLEL_CHUNK_SIZE + 1);
+		for (int from = 0; from < sourceSize; from += PARALLEL_CHUNK_SIZE) {
+			tasks.add(new FilterTask(filter, from, Math.min(from + PARALLEL_CHUNK_SIZE, sourceSize), cancelled));
+		}
+		pool.invoke(ForkJoinTask.adapt(() -> {
+			ForkJoinTask.invokeAll(tasks);
+		}));
+
+		int count = 0;
+		for (FilterTask task : tasks) {
+			int[] block = task.join();
+			System.arraycopy(block, 0, out, count, block.length);
+			count += block.length;
+		}
+		return count;
+	}
+
+	/**
+	 * Converts the given predicate to an {@link IntPredicate} which tests the item at the given index of the given list.
+	 * <p>
+	 * If indexed is true and the predicate is an {@link IndexedPredicate}, {@link IndexedPredicate#testIndex(int)}
+	 * is used instead.
+	 *
+	 * @return the converted predicate or null if the given predicate is null
+	 */
+	private static <T> IntPredicate tester(List<? extends T> list, Predicate<? super T> filter, boolean indexed) {
+		if (filter == null) return null;
+		if (indexed && filter instanceof IndexedPredicate) return ((IndexedPredicate<?>) filter)::testIndex;
+		return index -> filter.test(list.get(index));
+	}
+
+	/**
+	 * Converts the given comparator to an {@link IntBinaryOperator} which compares the items at the given indexes
+	 * of the given list.
+	 * <p>
+	 * If indexed is true and the comparator is an {@link IndexedComparator}, {@link IndexedComparator#compareIndexes(int, int)}
+	 * is used instead.
+	 * <p>
+	 * {@link SortKey}s and {@link SortChain}s are converted to primitive comparisons, see {@link SortKey#bind(List, ColumnarProjection, boolean, boolean)}.
+	 * The extract flag specifies whether their values can be extracted upfront, which is not the case when the list
+	 * can change while the operator is in use.
+	 *
+	 * @return the converted comparator or null if the given comparator is null
+	 */
+	@SuppressWarnings("unchecked")
+	private IntBinaryOperator comparer(List<? extends T> list, Comparator<? super T> sorter, boolean indexed, boolean extract) {
+		if (sorter == null) return null;
+		if (sorter instanceof SortChain) return ((SortChain<T>) sorter).bind(list, projection, indexed, extract);
+		if (sorter instanceof SortKey) return ((SortKey<T>) sorter).bind(list, projection, indexed, extract);
+		if (indexed && sorter instanceof IndexedComparator) return ((IndexedComparator<?>) sorter)::compareIndexes;
+		return (i1, i2) -> sorter.compare(list.get(i1), list.get(i2));
+	}
+
+	/**
+	 * @return the {@link ForkJoinPool} to use to filter a source of the given size, or null if the
+	 * predicate should be evaluated sequentially
+	 * @see #setParallelThreshold(int)
+	 */
+	private ForkJoinPool parallelPool(int sourceSize) {
+		if (parallelThreshold < 0 || sourceSize < parallelThreshold) return null;
+		return forkJoinPool != null ? forkJoinPool : ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Core method of the incremental mode, see {@link #setIncremental(boolean)}.
+	 * <p>
+	 * Rather than re-computing the indexes, the given source change is applied to the current ones, and
+	 * fine-grained changes are fired.
+	 * <p>
+	 * This is done in two passes:
+	 * <p> - In the first pass, for every sub-change, removed items are removed from the transformed indexes, and
+	 * the indexes after the changed range are shifted accordingly. Added and updated items are just collected
+	 * <p> - In the second pass, the indexes are all valid for the current state of the source list, so it is now
+	 * safe to use the predicate and the comparator. Updated items are re-tested, and when the list is sorted they are
+	 * re-positioned, see {@link #reinsertUpdated(List, IntPredicate, IntBinaryOperator)}. Added items
+	 * are tested and inserted at the right position by binary search, see {@link #findInsertionIndex(int, IntBinaryOperator)}
+	 * <p></p>
+	 * Permutations are handled by re-mapping the involved indexes and then re-sorting the transformed list, firing
+	 * a permutation change.
+	 */
+	private void applyChange(ListChangeListener.Change<? extends T> c) {
+		IntPredicate filter = tester(getSource(), appliedPredicate, true);
+		IntBinaryOperator sorter = comparer(getSource(), appliedComparator, true, false);
+		List<int[]> added = new ArrayList<>();
+		List<int[]> updated = new ArrayList<>();
+		boolean permutated = false;
+		viewIndexes = null;
+
+		while (c.next()) {
+			int from = c.getFrom();
+			int to = c.getTo();
+			if (c.wasPermutated()) {
+				for (int i = 0; i < size; i++) {
+					int index = indexes[i];
+					if (index >= from && index < to) indexes[i] = c.getPermutation(index);
+				}
+				permutated = true;
+				continue;
+			}
+			if (c.wasUpdated()) {
+				updated.add(new int[]{from, to});
+				continue;
+			}
+
+			List<? extends T> removed = c.getRemoved();
+			int removedSize = c.getRemovedSize();
+			int addedSize = c.wasAdded() ? c.getAddedSize() : 0;
+			int removedEnd = from + removedSize;
+			int shift = addedSize - removedSize;
+			int j = 0;
+			for (int i = 0; i < size; i++) {
+				int index = indexes[i];
+				if (index >= from && index < removedEnd) {
+					nextRemove(j, removed.get(index - from));
+					continue;
+				}
+				indexes[j++] = index >= removedEnd ? index + shift : index;
+			}
+			size = j;
+			if (addedSize > 0) added.add(new int[]{from, to});
+		}
+
+		if (permutated) resort(sorter);
+
+		if (sorter != null && !updated.isEmpty()) {
+			reinsertUpdated(updated, filter, sorter);
+		} else {
+			for (int[] range : updated) {
+				for (int index = range[0]; index < range[1]; index++) {
+					int viewIndex = findViewIndex(index);
+					boolean accepted = filter == null || filter.test(index);
+					if (viewIndex < 0) {
+						if (accepted) insert(index, sorter);
+						continue;
+					}
+					if (!accepted) {
+						removeAt(viewIndex);
+						nextRemove(viewIndex, getSource().get(index));
+						continue;
+					}
+					nextUpdate(viewIndex);
+				}
+			}
+		}
+
+		for (int[] range : added) {
+			for (int index = range[0]; index < range[1]; index++) {
+				if (filter == null || filter.test(index)) insert(index, sorter);
+			}
+		}
+	}
+
+	/**
+	 * Re-positions the updated items when the list is sorted.
+	 * <p>
+	 * Several items can change at once, so they cannot be moved one at a time: the binary search relies on the
+	 * other items being sorted, which is not true while the updated ones are still at their old positions.
+	 * <p>
+	 * For this reason, the position of the updated items is computed among the items that did not change, which are
+	 * still sorted. Items whose position did not change, also relative to the other updated items, are left in place and
+	 * an update is fired for them. All the others are removed in a single pass, then inserted by binary search
+	 * into the remaining indexes, see {@link #insert(int, IntBinaryOperator)}.
+	 */
+	private void reinsertUpdated(List<int[]> updated, IntPredicate filter, IntBinaryOperator sorter) {
+		BitSet changed = new BitSet();
+		for (int[] range : updated) {
+			changed.set(range[0], range[1]);
+		}
+
+		// For each updated item, the slot is the number of unchanged items before it
+		int[] kept = new int[size];
+		int keptSize = 0;
+		List<int[]> oldSlots = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			int index = indexes[i];
+			if (changed.get(index)) {
+				oldSlots.add(new int[]{index, keptSize});
+				continue;
+			}
+			kept[keptSize++] = index;
+		}
+		List<int[]> newSlots = new ArrayList<>();
+		for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+			if (filter == null || filter.test(index)) {
+				newSlots.add(new int[]{index, findInsertionIndex(kept, keptSize, index, sorter)});
+			}
+		}
+		newSlots.sort((s1, s2) -> s1[1] != s2[1] ? Integer.compare(s1[1], s2[1]) : compare(s1[0], s2[0], sorter));
+
+		// Items are left in place only if their slot contains the same items in the same order
+		BitSet stable = new BitSet();
+		int n = 0;
+		for (int o = 0; o < oldSlots.size(); ) {
+			int slot = oldSlots.get(o)[1];
+			int oEnd = o;
+			while (oEnd < oldSlots.size() && oldSlots.get(oEnd)[1] == slot) oEnd++;
+			while (n < newSlots.size() && newSlots.get(n)[1] < slot) n++;
+			int nEnd = n;
+			while (nEnd < newSlots.size() && newSlots.get(nEnd)[1] == slot) nEnd++;
+			boolean same = oEnd - o == nEnd - n;
+			for (int k = 0; same && k < oEnd - o; k++) {
+				same = oldSlots.get(o + k)[0] == newSlots.get(n + k)[0];
+			}
+			if (same) {
+				for (int k = o; k < oEnd; k++) stable.set(oldSlots.get(k)[0]);
+			}
+			o = oEnd;
+		}
+
+		int j = 0;
+		for (int i = 0; i < size; i++) {
+			int index = indexes[i];
+			if (changed.get(index) && !stable.get(index)) {
+				nextRemove(j, getSource().get(index));
+				continue;
+			}
+			indexes[j++] = index;
+		}
+		size = j;
+
+		for (int[] slot : newSlots) {
+			if (!stable.get(slot[0])) insert(slot[0], sorter);
+		}
+		if (stable.isEmpty()) return;
+		for (int i = 0; i < size; i++) {
+			if (stable.get(indexes[i])) nextUpdate(i);
+		}
+	}
+
+	/**
+	 * Inserts the given source index in the transformed indexes at the position
+	 * given by {@link #findInsertionIndex(int, IntBinaryOperator)}, and fires an addition.
+	 */
+	private void insert(int index, IntBinaryOperator sorter) {
+		int insertionIndex = findInsertionIndex(index, sorter);
+		insertAt(insertionIndex, index);
+		nextAdd(insertionIndex, insertionIndex + 1);
+	}
+
+	/**
+	 * Inserts the given value in the transformed indexes at the given position,
+	 * growing the array if needed.
+	 */
+	private void insertAt(int position, int value) {
+		if (size == indexes.length) {
+			indexes = Arrays.copyOf(indexes, Math.max(16, size + (size >> 1)));
+		}
+		System.arraycopy(indexes, position, indexes, position + 1, size - position);
+		indexes[position] = value;
+		size++;
+	}
+
+	/**
+	 * Removes the value at the given position from the transformed indexes.
+	 */
+	private void removeAt(int position) {
+		System.arraycopy(indexes, position + 1, indexes, position, size - position - 1);
+		size--;
+	}
+
+	/**
+	 * Performs a binary search on the transformed indexes to find the position at which the
+	 * given source index should be inserted.
+	 * <p>
+	 * Uses {@link #compare(int, int, IntBinaryOperator)} so the result is the same that would be obtained
+	 * by re-computing all the indexes with {@link #computeIndexes(int, IntPredicate, IntBinaryOperator, ForkJoinPool, BooleanSupplier)}.
+	 */
+	private int findInsertionIndex(int index, IntBinaryOperator sorter) {
+		return findInsertionIndex(indexes, size, index, sorter);
+	}
+
+	/**
+	 * Same as {@link #findInsertionIndex(int, IntBinaryOperator)} but searches the first {@code size}
+	 * values of the given array.
+	 */
+	private int findInsertionIndex(int[] indexes, int size, int index, IntBinaryOperator sorter) {
+		int low = 0;
+		int high = size - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (compare(indexes[mid], index, sorter) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Finds the position of the given source index in the transformed indexes, used when the list is not sorted,
+	 * in which case the indexes are in ascending order, so a binary search is used.
+	 *
+	 * @return the position or -1 if not present
+	 */
+	private int findViewIndex(int index) {
+		int viewIndex = Arrays.binarySearch(indexes, 0, size, index);
+		return viewIndex < 0 ? -1 : viewIndex;
+	}
+
+	/**
+	 * Re-sorts the transformed indexes after a permutation of the source list and fires a permutation change.
+	 */
+	private void resort(IntBinaryOperator sorter) {
+		int[] order = new int[size];
+		for (int i = 0; i < size; i++) order[i] = i;
+		int[] old = Arrays.copyOf(indexes, size);
+		IndexSorter.sort(order, size, (o1, o2) -> compare(old[o1], old[o2], sorter));
+
+		int[] perm = new int[size];
+		for (int i = 0; i < size; i++) {
+			indexes[i] = old[order[i]];
+			perm[order[i]] = i;
 		}
+		nextPermutation(0, size, perm);
+	}
 
-		return sorter != null ? sourceMap.entrySet().stream()
-				.sorted((o1, o2) -> sorter.compare(o1.getValue(), o2.getValue()))
-				.map(Map.Entry::getKey)
-				.collect(Collectors.toList()) : sourceMap.keySet();
+	/**
+	 * Builds the inverse mapping of the transformed indexes, for each index of the source
+	 * list stores its index in the transformed list, or -1 if it is not present.
+	 */
+	private void buildViewIndexes() {
+		int[] inverse = new int[getSource().size()];
+		Arrays.fill(inverse, -1);
+		for (int i = 0; i < size; i++) {
+			inverse[indexes[i]] = i;
+		}
+		viewIndexes = inverse;
+	}
+
+	/**
+	 * Compares the items at the given source indexes with the given comparator. If the
+	 * comparator is null or the items are equal, the indexes are compared, this way the
+	 * order is the same of the stable sort performed by {@link #computeIndexes(int, IntPredicate, IntBinaryOperator, ForkJoinPool, BooleanSupplier)}.
+	 */
+	private int compare(int index1, int index2, IntBinaryOperator sorter) {
+		if (sorter != null) {
+			int res = sorter.applyAsInt(index1, index2);
+			if (res != 0) return res;
+		}
+		return Integer.compare(index1, index2);
 	}
 
 	public Predicate<? super T> getPredicate() {
@@ -208,8 +740,10 @@ public void setComparator(Comparator<T> comparator) {
 	}
 
 	/**
-	 * This method is NECESSARY if using a reversed comparator,
-	 * a special flag is set to true and {@link #sourceToView(int)} behaves accordingly.
+	 * Sets the given comparator and the {@link #isReversed()} flag.
+	 * <p>
+	 * This is not needed anymore since {@link #sourceToView(int)} uses a reverse lookup table rather than
+	 * a binary search, but it's kept for compatibility.
 	 */
 	public void setComparator(Comparator<T> comparator, boolean reversed) {
 		this.reversed = reversed;
@@ -224,13 +758,146 @@ public boolean isReversed() {
 	}
 
 	/**
-	 * Communicates to the transformed list, specifically to {@link #getViewIndex(int)},
-	 * if the list is sorted in reversed order.
+	 * Communicates to the transformed list if it is sorted in reversed order.
+	 * <p>
+	 * This flag is merely informative, it does not affect {@link #getViewIndex(int)} anymore.
 	 */
 	public void setReversed(boolean reversed) {
 		this.reversed = reversed;
 	}
 
+	public boolean isTransforming() {
+		return transforming.get();
+	}
+
+	/**
+	 * Specifies whether the indexes are being computed asynchronously.
+	 * <p>
+	 * Can be used, for example, to show a progress indicator.
+	 *
+	 * @see #setExecutor(Executor)
+	 */
+	public ReadOnlyBooleanProperty transformingProperty() {
+		return transforming.getReadOnlyProperty();
+	}
+
+	/**
+	 * @return the {@link Executor} used to compute the indexes asynchronously, null if the list works synchronously
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to filter and sort the list asynchronously, null to disable the asynchronous mode.
+	 * <p>
+	 * When set, changes to the {@link #predicateProperty()} or the {@link #comparatorProperty()} do not block the calling thread.
+	 * The indexes are computed on the executor, over a snapshot of the source list, and then published on the JavaFX thread.
+	 * Until then, the list keeps showing the previous state. A newer change cancels the computation in progress.
+	 * <p>
+	 * Note that the predicate and the comparator are invoked on the executor's threads, so they must not access the scene graph
+	 * and should not depend on mutable state.
+	 * <p>
+	 * Changes of the source list are always applied incrementally in this mode, as if {@link #setIncremental(boolean)}
+	 * was enabled.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * @return the minimum size of the source list for which the predicate is evaluated in parallel, -1 if disabled
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Enables the parallel evaluation of the predicate for source lists that have at least the given number of items,
+	 * a negative value disables it (default).
+	 * <p>
+	 * When enabled, the source list is split in chunks which are filtered concurrently on the {@link #getForkJoinPool()},
+	 * the order of the indexes is retained.
+	 * <p>
+	 * <b>WARN:</b> the predicate will be invoked concurrently by multiple threads, it must be side-effect free and thread-safe.
+	 * Also, the source list must not be modified while it is being filtered.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * @return the {@link ForkJoinPool} used to evaluate the predicate in parallel, null means {@link ForkJoinPool#commonPool()}
+	 */
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
+	/**
+	 * Sets the {@link ForkJoinPool} used to evaluate the predicate in parallel, null to use {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @see #setParallelThreshold(int)
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * @return the {@link ColumnarProjection} of the source list, null if not enabled
+	 * @see #setProjectionEnabled(boolean)
+	 */
+	public ColumnarProjection<T> getProjection() {
+		return projection;
+	}
+
+	/**
+	 * @return whether the {@link ColumnarProjection} is enabled
+	 */
+	public boolean isProjectionEnabled() {
+		return projection != null;
+	}
+
+	/**
+	 * Enables or disables the {@link ColumnarProjection} of the source list.
+	 * <p>
+	 * When enabled, the projection is kept in sync with the source list, and {@link IndexedPredicate}s
+	 * and {@link IndexedComparator}s built from its columns can be used to filter and sort the list without
+	 * invoking the extractor functions every time.
+	 * <p>
+	 * Disabling the projection disposes it, see {@link ColumnarProjection#isDisposed()}: its columns are discarded
+	 * and not kept in sync with the source list anymore. The current predicate and comparator, and anything else built
+	 * from the columns, keep working, but the values are extracted at each access. To read from the arrays again,
+	 * they should be rebuilt from a new projection.
+	 */
+	public void setProjectionEnabled(boolean enabled) {
+		if (!enabled) {
+			if (projection != null) projection.dispose();
+			projection = null;
+		} else if (projection == null) {
+			projection = new ColumnarProjection<>(getSource());
+		}
+	}
+
+	/**
+	 * Specifies whether changes in the source list are applied incrementally.
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Enables or disables the incremental mode.
+	 * <p>
+	 * When enabled, changes in the source list do not cause a full re-computation of the indexes. Added,
+	 * removed, updated and permutated items are applied to the current indexes, sorted items are inserted by binary search,
+	 * and the list fires fine-grained changes rather than replacing all of its content.
+	 * <p>
+	 * Changes to the {@link #predicateProperty()} or the {@link #comparatorProperty()} still cause a full re-computation.
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
@@ -238,12 +905,31 @@ public void setReversed(boolean reversed) {
 	/**
 	 * {@inheritDoc}
 	 * <p></p>
-	 * Calls {@link #update()}.
+	 * Calls {@link #update()}, or {@link #applyChange(ListChangeListener.Change)} if
+	 * the incremental mode is enabled, see {@link #setIncremental(boolean)}.
+	 * <p>
+	 * In asynchronous mode, see {@link #setExecutor(Executor)}, the change is always applied incrementally,
+	 * and if a computation is in progress it is restarted since its snapshot of the source list is now outdated.
 	 */
 	@Override
 	protected void sourceChanged(ListChangeListener.Change<? extends T> c) {
+		if (projection != null) {
+			projection.sourceChanged(c);
+			c.reset();
+		}
+
 		beginChange();
-		update();
+		if (incremental || executor != null) {
+			applyChange(c);
+			if (isTransforming()) transformAsync();
+		} else {
+			sourceChanging = true;
+			try {
+				update();
+			} finally {
+				sourceChanging = false;
+			}
+		}
 		endChange();
 	}
 
@@ -252,7 +938,7 @@ protected void sourceChanged(ListChangeListener.Change<? extends T> c) {
 	 */
 	@Override
 	public int size() {
-		return indexes.size();
+		return size;
 	}
 
 	/**
@@ -262,27 +948,60 @@ public int size() {
 	 */
 	@Override
 	public T get(int index) {
-		if (index > size()) {
-			throw new IndexOutOfBoundsException(index);
-		} else {
-			return getSource().get(indexes.get(index));
-		}
+		Objects.checkIndex(index, size);
+		return getSource().get(indexes[index]);
 	}
 
 	@Override
 	public int getSourceIndex(int index) {
-		if (index > size()) {
-			throw new IndexOutOfBoundsException(index);
-		} else {
-			return indexes.get(index);
-		}
+		Objects.checkIndex(index, size);
+		return indexes[index];
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * The inverse mapping is built lazily after every change, subsequent calls are O(1).
+	 *
+	 * @return the index in the transformed list or -1 if the item is not present (filtered out)
+	 */
 	@Override
 	public int getViewIndex(int index) {
-		int viewIndex = reversed ?
-				Collections.binarySearch(indexes, index, Collections.reverseOrder()) :
-				Collections.binarySearch(indexes, index);
-		return viewIndex < 0 ? -1 : viewIndex;
+		if (index < 0 || index >= getSource().size()) return -1;
+		if (viewIndexes == null || viewIndexes.length != getSource().size()) buildViewIndexes();
+		return viewIndexes[index];
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Task used by {@link #filterParallel(int, IntPredicate, int[], ForkJoinPool, BooleanSupplier)} to filter
+	 * a chunk of the source list. The result is the block of accepted indexes, in ascending order.
+	 */
+	private static class FilterTask extends RecursiveTask<int[]> {
+		private final IntPredicate filter;
+		private final int from;
+		private final int to;
+		private final BooleanSupplier cancelled;
+
+		public FilterTask(IntPredicate filter, int from, int to, BooleanSupplier cancelled) {
+			this.filter = filter;
+			this.from = from;
+			this.to = to;
+			this.cancelled = cancelled;
+		}
+
+		@Override
+		protected int[] compute() {
+			if (cancelled.getAsBoolean()) throw new CancellationException();
+			int[] block = new int[to - from];
+			int count = 0;
+			for (int i = from; i < to; i++) {
+				if (filter.test(i)) block[count++] = i;
+			}
+			return count == block.length ? block : Arrays.copyOf(block, count);
+		}
 	}
 }
@@ -21,6 +21,7 @@
 import io.github.palexdev.materialfx.beans.properties.functional.ComparatorProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.PredicateProperty;
 import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.TransformationList;
@@ -28,6 +29,8 @@
 import java.util.AbstractList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 /**
@@ -332,6 +335,94 @@ public void setReversed(boolean reversed) {
 		transformableList.setReversed(reversed);
 	}
 
+	/**
+	 * Delegate for {@link TransformableList#isIncremental()}.
+	 */
+	public boolean isIncremental() {
+		return transformableList.isIncremental();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setIncremental(boolean)}.
+	 */
+	public void setIncremental(boolean incremental) {
+		transformableList.setIncremental(incremental);
+	}
+
+	public boolean isTransforming() {
+		return transformableList.isTransforming();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#transformingProperty()}.
+	 */
+	public ReadOnlyBooleanProperty transformingProperty() {
+		return transformableList.transformingProperty();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#getExecutor()}.
+	 */
+	public Executor getExecutor() {
+		return transformableList.getExecutor();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setExecutor(Executor)}.
+	 */
+	public void setExecutor(Executor executor) {
+		transformableList.setExecutor(executor);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#getParallelThreshold()}.
+	 */
+	public int getParallelThreshold() {
+		return transformableList.getParallelThreshold();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setParallelThreshold(int)}.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		transformableList.setParallelThreshold(parallelThreshold);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#getForkJoinPool()}.
+	 */
+	public ForkJoinPool getForkJoinPool() {
+		return transformableList.getForkJoinPool();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setForkJoinPool(ForkJoinPool)}.
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		transformableList.setForkJoinPool(forkJoinPool);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#getProjection()}.
+	 */
+	public ColumnarProjection<T> getProjection() {
+		return transformableList.getProjection();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#isProjectionEnabled()}.
+	 */
+	public boolean isProjectionEnabled() {
+		return transformableList.isProjectionEnabled();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setProjectionEnabled(boolean)}.
+	 */
+	public void setProjectionEnabled(boolean enabled) {
+		transformableList.setProjectionEnabled(enabled);
+	}
+
 	/**
 	 * @return the wrapped {@link TransformableList}
 	 */
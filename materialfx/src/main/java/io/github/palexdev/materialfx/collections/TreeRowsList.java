@@ -0,0 +1,410 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import io.github.palexdev.materialfx.controls.MFXTreeItem;
+import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
+import io.github.palexdev.materialfx.utils.TreeItemStream;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+import java.util.*;
+
+/**
+ * An {@link javafx.collections.ObservableList} which contains the visible items of a tree in the order
+ * they are displayed, that is every item whose ancestors are all expanded.
+ * <p>
+ * The list is meant to be used as the model of a virtual flow, so that a tree view only needs to build
+ * and lay out the rows in the viewport. Rather than being rebuilt, the list is patched when an item is expanded,
+ * collapsed or when its children change. When an item is expanded or collapsed, only its region, the item's
+ * visible descendants, is touched and a single change is fired for it. When its children change, only the rows
+ * of the added and removed children's subtrees are touched.
+ * <p>
+ * To do so, the list keeps listeners on the visible items only, they are added when an item becomes visible and removed
+ * when it's hidden, along with the item's depth, which is used to find the bounds of a region without
+ * walking the tree.
+ * <p>
+ * Trackers also store the row of their item. Rather than shifting all the following rows at every change, the indexes
+ * are repaired lazily: the list remembers up to which row they are known to be valid, and {@link #rowOf(AbstractMFXTreeItem)}
+ * only rescans from there when the stored row is stale. Lookups of rows before the last change are O(1).
+ * <p></p>
+ * The expanded state is given by {@link MFXTreeItem#expandedProperty()}, other {@link AbstractMFXTreeItem}s
+ * are considered as always collapsed. When the root is not shown, it is considered always expanded.
+ *
+ * @param <T> The type of the data within the items
+ */
+public class TreeRowsList<T> extends ObservableListBase<AbstractMFXTreeItem<T>> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final List<AbstractMFXTreeItem<T>> rows = new ArrayList<>();
+	private final Map<AbstractMFXTreeItem<T>, Tracker> trackers = new IdentityHashMap<>();
+	private AbstractMFXTreeItem<T> root;
+	private boolean showRoot = true;
+	private int validRows = 0;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public TreeRowsList() {
+	}
+
+	public TreeRowsList(AbstractMFXTreeItem<T> root, boolean showRoot) {
+		this.showRoot = showRoot;
+		setRoot(root);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Sets the tree to flatten and rebuilds the list.
+	 * <p>
+	 * Items that have {@link MFXTreeItem#startExpandedProperty()} set to true are expanded here.
+	 */
+	public void setRoot(AbstractMFXTreeItem<T> root) {
+		this.root = root;
+		if (root != null) expandStartExpanded(root);
+		rebuild();
+	}
+
+	public AbstractMFXTreeItem<T> getRoot() {
+		return root;
+	}
+
+	/**
+	 * Specifies whether the root is the first row or if the list should start from its children.
+	 */
+	public void setShowRoot(boolean showRoot) {
+		if (this.showRoot == showRoot) return;
+		this.showRoot = showRoot;
+		rebuild();
+	}
+
+	public boolean isShowRoot() {
+		return showRoot;
+	}
+
+	/**
+	 * @return the row at which the given item is displayed, -1 if it's not visible
+	 */
+	public int rowOf(AbstractMFXTreeItem<T> item) {
+		Tracker tracker = trackers.get(item);
+		if (tracker == null) return -1;
+		if (tracker.row >= 0 && tracker.row < rows.size() && rows.get(tracker.row) == item) return tracker.row;
+
+		while (validRows < rows.size()) {
+			AbstractMFXTreeItem<T> row = rows.get(validRows);
+			trackers.get(row).row = validRows;
+			validRows++;
+			if (row == item) return validRows - 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the depth of the given item relative to the first level of rows, -1 if it's not visible
+	 */
+	public int depthOf(AbstractMFXTreeItem<T> item) {
+		Tracker tracker = trackers.get(item);
+		if (tracker == null) return -1;
+		return showRoot ? tracker.depth : tracker.depth - 1;
+	}
+
+	/**
+	 * Removes all the listeners added on the tree.
+	 * The list is emptied and won't receive updates until a new root is set.
+	 */
+	public void dispose() {
+		root = null;
+		rebuild();
+	}
+
+	/**
+	 * Discards the current rows and flattens the tree again.
+	 */
+	private void rebuild() {
+		List<AbstractMFXTreeItem<T>> removed = new ArrayList<>(rows);
+		trackers.values().forEach(Tracker::dispose);
+		trackers.clear();
+		rows.clear();
+
+		if (root != null) {
+			if (showRoot) {
+				rows.add(root);
+				track(root, 0);
+				if (isExpanded(root)) collect(root, 0, rows);
+			} else {
+				track(root, 0);
+				collect(root, 0, rows);
+			}
+		}
+		validRows = 0;
+
+		beginChange();
+		if (!removed.isEmpty()) nextRemove(0, removed);
+		if (!rows.isEmpty()) nextAdd(0, rows.size());
+		endChange();
+	}
+
+	/**
+	 * Adds the visible descendants of the given item, at the given depth, to the given list,
+	 * and starts tracking them.
+	 */
+	private void collect(AbstractMFXTreeItem<T> item, int depth, List<AbstractMFXTreeItem<T>> out) {
+		for (AbstractMFXTreeItem<T> child : item.getItems()) {
+			out.add(child);
+			track(child, depth + 1);
+			if (isExpanded(child)) collect(child, depth + 1, out);
+		}
+	}
+
+	/**
+	 * Replaces the region of the given item, its row (if shown) and the rows of its visible descendants,
+	 * with the given list, firing a single change.
+	 * <p>
+	 * The old region is found by scanning the rows after the item while their depth is greater than the item's one.
+	 * The replacement items are expected to be already tracked, the removed ones which are not part of it are untracked.
+	 */
+	private void replaceRegion(AbstractMFXTreeItem<T> item, List<AbstractMFXTreeItem<T>> replacement) {
+		Tracker tracker = trackers.get(item);
+		int itemRow = (item == root && !showRoot) ? -1 : rowOf(item);
+		int from = Math.max(0, itemRow);
+		int to = itemRow + 1;
+		while (to < rows.size() && trackers.get(rows.get(to)).depth > tracker.depth) to++;
+
+		List<AbstractMFXTreeItem<T>> region = rows.subList(from, to);
+		List<AbstractMFXTreeItem<T>> removed = new ArrayList<>(region);
+		Set<AbstractMFXTreeItem<T>> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+		kept.addAll(replacement);
+		kept.add(item);
+		for (AbstractMFXTreeItem<T> old : removed) {
+			if (!kept.contains(old)) untrack(old);
+		}
+		region.clear();
+		rows.addAll(from, replacement);
+		if (replacement.size() != removed.size()) validRows = validRows < from ? validRows : from + replacement.size();
+		for (int i = 0; i < replacement.size(); i++) {
+			trackers.get(replacement.get(i)).row = from + i;
+		}
+
+		beginChange();
+		if (removed.isEmpty()) {
+			if (!replacement.isEmpty()) nextAdd(from, from + replacement.size());
+		} else if (replacement.isEmpty()) {
+			nextRemove(from, removed);
+		} else {
+			nextReplace(from, from + replacement.size(), removed);
+		}
+		endChange();
+	}
+
+	/**
+	 * Removes the rows in the given range, untracking their items, and fires a remove change.
+	 * <p>
+	 * Expected to be called between {@link #beginChange()} and {@link #endChange()}.
+	 */
+	private void removeRows(int from, int to) {
+		List<AbstractMFXTreeItem<T>> region = rows.subList(from, to);
+		List<AbstractMFXTreeItem<T>> removed = new ArrayList<>(region);
+		removed.forEach(this::untrack);
+		region.clear();
+		if (validRows > from) validRows = from;
+		nextRemove(from, removed);
+	}
+
+	/**
+	 * Inserts the given rows at the given index, and fires an add change. The items are expected to be already tracked.
+	 * <p>
+	 * Expected to be called between {@link #beginChange()} and {@link #endChange()}.
+	 */
+	private void addRows(int index, List<AbstractMFXTreeItem<T>> added) {
+		rows.addAll(index, added);
+		validRows = validRows < index ? validRows : index + added.size();
+		for (int i = 0; i < added.size(); i++) {
+			trackers.get(added.get(i)).row = index + i;
+		}
+		nextAdd(index, index + added.size());
+	}
+
+	/**
+	 * @return the index of the first row after the given one which is not a descendant of it,
+	 * given the depth of its item
+	 */
+	private int subtreeEnd(int row, int depth) {
+		int end = row + 1;
+		while (end < rows.size() && trackers.get(rows.get(end)).depth > depth) end++;
+		return end;
+	}
+
+	/**
+	 * Called when the given item is expanded or collapsed.
+	 * <p>
+	 * The item's row is replaced too, so that its cell can update the disclosure node.
+	 */
+	private void expandedChanged(AbstractMFXTreeItem<T> item) {
+		if (item == root && !showRoot) return;
+		List<AbstractMFXTreeItem<T>> replacement = new ArrayList<>();
+		replacement.add(item);
+		if (isExpanded(item)) collect(item, trackers.get(item).depth, replacement);
+		replaceRegion(item, replacement);
+	}
+
+	/**
+	 * Called when the children of the given item change.
+	 * <p>
+	 * If the children are visible, every sub-change is mapped to the rows of the children it involves:
+	 * the subtrees of the removed children are removed, and the ones of the added children are inserted after
+	 * the subtree of their previous sibling. The item's row is replaced only if the item goes from being a leaf
+	 * to having children or vice versa, so that its cell can update the disclosure node.
+	 * <p>
+	 * Permutations, and changes which move children by removing and adding them back, are rare, in such cases
+	 * the item's region is replaced as in {@link #expandedChanged(AbstractMFXTreeItem)}.
+	 */
+	private void childrenChanged(AbstractMFXTreeItem<T> item, ListChangeListener.Change<? extends AbstractMFXTreeItem<T>> change) {
+		List<? extends AbstractMFXTreeItem<T>> children = change.getList();
+		Set<AbstractMFXTreeItem<T>> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+		boolean reordered = false;
+		int oldSize = children.size();
+		while (change.next()) {
+			if (change.wasPermutated()) reordered = true;
+			oldSize += change.getRemovedSize() - change.getAddedSize();
+			removed.addAll(change.getRemoved());
+		}
+		change.reset();
+		while (change.next()) {
+			for (AbstractMFXTreeItem<T> added : change.getAddedSubList()) {
+				if (removed.contains(added)) reordered = true;
+				expandStartExpanded(added);
+			}
+		}
+
+		boolean itemShown = item != root || showRoot;
+		boolean childrenShown = !itemShown || isExpanded(item);
+		if (reordered && childrenShown) {
+			List<AbstractMFXTreeItem<T>> replacement = new ArrayList<>();
+			if (itemShown) replacement.add(item);
+			collect(item, trackers.get(item).depth, replacement);
+			replaceRegion(item, replacement);
+			return;
+		}
+
+		int itemRow = itemShown ? rowOf(item) : -1;
+		int depth = trackers.get(item).depth + 1;
+		beginChange();
+		if (itemShown && (oldSize == 0) != children.isEmpty()) nextSet(itemRow, item);
+		if (childrenShown) {
+			change.reset();
+			while (change.next()) {
+				if (change.wasPermutated() || change.wasUpdated()) continue;
+				int from = change.getFrom();
+				if (change.wasRemoved()) {
+					int start = rowOf(change.getRemoved().get(0));
+					int end = start;
+					for (int i = 0; i < change.getRemovedSize(); i++) {
+						end = subtreeEnd(end, depth);
+					}
+					removeRows(start, end);
+				}
+				if (change.wasAdded()) {
+					int index = from == 0 ? itemRow + 1 : subtreeEnd(rowOf(children.get(from - 1)), depth);
+					List<AbstractMFXTreeItem<T>> added = new ArrayList<>();
+					for (AbstractMFXTreeItem<T> child : change.getAddedSubList()) {
+						added.add(child);
+						track(child, depth);
+						if (isExpanded(child)) collect(child, depth, added);
+					}
+					addRows(index, added);
+				}
+			}
+		}
+		endChange();
+	}
+
+	private void expandStartExpanded(AbstractMFXTreeItem<T> item) {
+		TreeItemStream.flattenTree(item).forEach(treeItem -> {
+			if (treeItem instanceof MFXTreeItem && treeItem.isStartExpanded()) {
+				((MFXTreeItem<T>) treeItem).setExpanded(true);
+			}
+		});
+	}
+
+	private boolean isExpanded(AbstractMFXTreeItem<T> item) {
+		return item instanceof MFXTreeItem && ((MFXTreeItem<T>) item).isExpanded();
+	}
+
+	private void track(AbstractMFXTreeItem<T> item, int depth) {
+		Tracker tracker = trackers.get(item);
+		if (tracker != null) {
+			tracker.depth = depth;
+			return;
+		}
+		trackers.put(item, new Tracker(item, depth));
+	}
+
+	private void untrack(AbstractMFXTreeItem<T> item) {
+		Tracker tracker = trackers.remove(item);
+		if (tracker != null) tracker.dispose();
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public AbstractMFXTreeItem<T> get(int index) {
+		return rows.get(index);
+	}
+
+	@Override
+	public int size() {
+		return rows.size();
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Holds the listeners added on a visible item, its depth in the tree and its last known row.
+	 */
+	private class Tracker {
+		private final AbstractMFXTreeItem<T> item;
+		private final InvalidationListener expandedListener;
+		private final ListChangeListener<AbstractMFXTreeItem<T>> childrenListener;
+		private int depth;
+		private int row = -1;
+
+		private Tracker(AbstractMFXTreeItem<T> item, int depth) {
+			this.item = item;
+			this.depth = depth;
+			this.expandedListener = invalidated -> expandedChanged(item);
+			this.childrenListener = change -> childrenChanged(item, change);
+
+			if (item instanceof MFXTreeItem) ((MFXTreeItem<T>) item).expandedProperty().addListener(expandedListener);
+			item.getItems().addListener(childrenListener);
+		}
+
+		private void dispose() {
+			if (item instanceof MFXTreeItem) ((MFXTreeItem<T>) item).expandedProperty().removeListener(expandedListener);
+			item.getItems().removeListener(childrenListener);
+		}
+	}
+}
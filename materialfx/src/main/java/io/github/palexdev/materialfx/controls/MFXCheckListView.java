@@ -23,9 +23,7 @@
 import io.github.palexdev.materialfx.skins.MFXListViewSkin;
 import io.github.palexdev.materialfx.theming.MaterialFXStylesheets;
 import io.github.palexdev.materialfx.theming.base.Theme;
-import io.github.palexdev.materialfx.utils.ListChangeHelper;
 import io.github.palexdev.materialfx.utils.ListChangeProcessor;
-import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.virtualizedfx.unused.simple.SimpleVirtualFlow;
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ListChangeListener;
@@ -33,7 +31,7 @@
 import javafx.geometry.Orientation;
 import javafx.scene.control.Skin;
 
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -103,6 +101,11 @@ protected void initialize() {
 		getItems().addListener(this::itemsChanged);
 	}
 
+	/**
+	 * Responsible for updating the selection when the items list changes.
+	 * <p>
+	 * The selected indexes are remapped in a single pass by {@link ListChangeProcessor#remap(int[], ListChangeListener.Change)}.
+	 */
 	protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
 		if (getSelectionModel().getSelection().isEmpty()) return;
 
@@ -111,17 +114,9 @@ protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
 			return;
 		}
 
-		ListChangeHelper.Change c = ListChangeHelper.processChange(change, IntegerRange.of(0, Integer.MAX_VALUE));
-		ListChangeProcessor updater = new ListChangeProcessor(new HashSet<>(getSelectionModel().getSelection().keySet()));
-		c.processReplacement((changed, removed) -> getSelectionModel().replaceSelection(changed.toArray(new Integer[0])));
-		c.processAddition((from, to, added) -> {
-			updater.computeAddition(added.size(), from);
-			getSelectionModel().replaceSelection(updater.getIndexes().toArray(new Integer[0]));
-		});
-		c.processRemoval((from, to, removed) -> {
-			updater.computeRemoval(removed, from);
-			getSelectionModel().replaceSelection(updater.getIndexes().toArray(new Integer[0]));
-		});
+		int[] selected = getSelectionModel().getSelectedIndexes();
+		int[] remapped = ListChangeProcessor.remap(selected, change);
+		if (!Arrays.equals(selected, remapped)) getSelectionModel().replaceSelectionIndexes(remapped);
 	}
 
 	//================================================================================
@@ -133,7 +133,7 @@ public ITreeCheckModel<T> getSelectionModel() {
 	 */
 	@Override
 	protected void defaultCellFactory() {
-		super.cellFactory.set(cell -> new MFXCheckTreeCell<>(this));
+		super.cellFactory.set(item -> new MFXCheckTreeCell<>((MFXCheckTreeItem<T>) item));
 	}
 
 	/**
@@ -44,8 +44,6 @@
  * In addition to the base class futures this adds:
  * <p> - Uses a {@link TransformableListWrapper} to filter the items. You could even sort them by
  * retrieving the list instance and setting a comparator, {@link TransformableList#comparatorProperty()}.
- * Beware of this though, {@link TransformableList#setReversed(boolean)}, it's really important to specify that
- * the comparator is in reverse order otherwise indexes will be inconsistent.
  * <p> - A function that takes the typed search text as an input and builds a {@link Predicate} as a result to
  * filter the list. This means that the user can fully customize how the list is filtered.
  * <p></p>
@@ -19,8 +19,10 @@
 package io.github.palexdev.materialfx.controls;
 
 import io.github.palexdev.materialfx.beans.FilterBean;
+import io.github.palexdev.materialfx.collections.ColumnarProjection;
 import io.github.palexdev.materialfx.controls.base.Themable;
 import io.github.palexdev.materialfx.enums.ChainMode;
+import io.github.palexdev.materialfx.filter.FilterCompiler;
 import io.github.palexdev.materialfx.filter.base.AbstractFilter;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.skins.MFXFilterPaneSkin;
@@ -37,6 +39,7 @@
 import javafx.scene.control.Skin;
 import javafx.scene.input.MouseEvent;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -170,26 +173,24 @@ private void initialize() {
 	/**
 	 * Builds a predicate from the list of built filters (active filters).
 	 * <p></p>
-	 * The {@link FilterBean} are chained by using {@link PredicateUtils#chain(Predicate, Predicate, ChainMode)}.
+	 * The {@link FilterBean} are chained as if by using {@link PredicateUtils#chain(Predicate, Predicate, ChainMode)},
+	 * but the chain is compiled into a single optimized predicate by {@link FilterCompiler#compile(List)}.
 	 * <p></p>
 	 * If the list is empty by default a predicate that always returns true is built.
+	 * <p>
+	 * The built predicate is side-effect free as long as the filters' extractors are, so it can be safely evaluated
+	 * in parallel, see {@link io.github.palexdev.materialfx.collections.TransformableList#setParallelThreshold(int)}.
 	 */
 	public Predicate<T> filter() {
-		Predicate<T> filter = null;
-		ChainMode mode = null;
-
-		for (FilterBean<T, ?> activeFilter : activeFilters) {
-			if (filter == null) {
-				filter = activeFilter.predicate();
-				mode = activeFilter.getMode();
-				continue;
-			}
-
-			filter = PredicateUtils.chain(filter, activeFilter.predicate(), mode);
-			mode = activeFilter.getMode();
-		}
+		return FilterCompiler.compile(activeFilters);
+	}
 
-		return filter != null ? filter : t -> true;
+	/**
+	 * Builds a predicate from the list of built filters (active filters), same as {@link #filter()},
+	 * but the filters' fields are read from the given {@link ColumnarProjection}, see {@link FilterCompiler#compile(List, ColumnarProjection)}.
+	 */
+	public Predicate<T> filter(ColumnarProjection<T> projection) {
+		return FilterCompiler.compile(activeFilters, projection);
 	}
 
 	//================================================================================
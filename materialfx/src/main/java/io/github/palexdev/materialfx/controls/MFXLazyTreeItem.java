@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.controls;
+
+import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
+import io.github.palexdev.materialfx.controls.cell.MFXLoadingTreeCell;
+import io.github.palexdev.materialfx.enums.LoadState;
+import io.github.palexdev.materialfx.utils.ExecutionUtils;
+import io.github.palexdev.materialfx.utils.TreeItemStream;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.property.*;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * A {@link MFXTreeItem} whose children are loaded lazily, the first time the item is expanded.
+ * <p>
+ * The children are provided by the {@link #loaderProperty()} function, which receives the item's data and is executed
+ * on the {@link #executorProperty()}, so off the JavaFX thread. Until then, the item contains a single placeholder item
+ * (which allows to expand it), displayed by a {@link MFXLoadingTreeCell}. The loaded children are added
+ * to the item on the JavaFX thread in batches of {@link #batchSizeProperty()} items, one batch per pulse,
+ * and the placeholder is removed after the last one.
+ * <p>
+ * Since children are built by the loader, they can be lazy items as well, the typical usage is something like this:
+ * <pre>
+ * {@code
+ *     Function<File, List<? extends AbstractMFXTreeItem<File>>> loader = new Function<>() {
+ *         public List<? extends AbstractMFXTreeItem<File>> apply(File dir) {
+ *             return Arrays.stream(dir.listFiles())
+ *                     .map(file -> file.isDirectory() ? new MFXLazyTreeItem<>(file, this) : new MFXTreeItem<>(file))
+ *                     .collect(Collectors.toList());
+ *         }
+ *     };
+ *     MFXLazyTreeItem<File> root = new MFXLazyTreeItem<>(new File("/"), loader);
+ * }
+ * </pre>
+ * If the loader fails, the item goes back to the {@link LoadState#UNLOADED} state and is collapsed, the error can be
+ * retrieved with {@link #getLoadError()}. Expanding the item again retries the loading.
+ * <p></p>
+ * Optionally, the children can be unloaded to release memory when the item stays collapsed for the
+ * {@link #unloadDelayProperty()}. The item then goes back to the {@link LoadState#UNLOADED} state. The children are
+ * not unloaded if any of the items in the subtree is selected.
+ *
+ * @param <T> The type of the data within TreeItem.
+ */
+public class MFXLazyTreeItem<T> extends MFXTreeItem<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private static final Executor defaultExecutor = ExecutionUtils.newDaemonExecutor("MFXTreeLoaderThread");
+
+	private final String STYLE_CLASS = "mfx-lazy-tree-item";
+
+	private final ObjectProperty<Function<T, List<? extends AbstractMFXTreeItem<T>>>> loader = new SimpleObjectProperty<>();
+	private final ObjectProperty<Executor> executor = new SimpleObjectProperty<>(defaultExecutor);
+	private final IntegerProperty batchSize = new SimpleIntegerProperty(100);
+	private final ObjectProperty<Duration> unloadDelay = new SimpleObjectProperty<>();
+	private final ReadOnlyObjectWrapper<LoadState> loadState = new ReadOnlyObjectWrapper<>(LoadState.UNLOADED);
+	private final ReadOnlyObjectWrapper<Throwable> loadError = new ReadOnlyObjectWrapper<>();
+
+	private final MFXTreeItem<T> placeholder = new MFXTreeItem<>(null, MFXLoadingTreeCell::new);
+	private final PauseTransition unloadTimer = new PauseTransition();
+	private long generation = 0;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MFXLazyTreeItem(T data) {
+		this(data, null);
+	}
+
+	public MFXLazyTreeItem(T data, Function<T, List<? extends AbstractMFXTreeItem<T>>> loader) {
+		super(data);
+		setLoader(loader);
+		initialize();
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Sets the style class to "mfx-lazy-tree-item", adds the placeholder item and the listeners
+	 * to load the children on expand and to schedule the unloading on collapse.
+	 */
+	private void initialize() {
+		getStyleClass().add(STYLE_CLASS);
+		placeholder.getStyleClass().add("loading-item");
+		items.setAll(placeholder);
+
+		unloadTimer.setOnFinished(event -> {
+			if (!isExpanded()) unload();
+		});
+		expandedProperty().addListener((observable, oldValue, newValue) -> {
+			if (newValue) {
+				unloadTimer.stop();
+				if (getLoadState() == LoadState.UNLOADED) load();
+			} else if (getUnloadDelay() != null && getLoadState() == LoadState.LOADED) {
+				unloadTimer.setDuration(getUnloadDelay());
+				unloadTimer.playFromStart();
+			}
+		});
+	}
+
+	/**
+	 * Starts loading the children, if not already loading or loaded.
+	 * <p>
+	 * This is called automatically when the item is expanded, but can also be called to preload the children.
+	 */
+	public void load() {
+		Function<T, List<? extends AbstractMFXTreeItem<T>>> loader = getLoader();
+		if (loader == null || getLoadState() != LoadState.UNLOADED) return;
+
+		long job = ++generation;
+		T data = getData();
+		loadState.set(LoadState.LOADING);
+		loadError.set(null);
+		CompletableFuture.supplyAsync(() -> loader.apply(data), getExecutor())
+				.whenComplete((children, ex) -> Platform.runLater(() -> {
+					if (job != generation) return;
+					if (ex != null) {
+						failed(ex instanceof CompletionException ? ex.getCause() : ex);
+						return;
+					}
+					List<AbstractMFXTreeItem<T>> loaded = new ArrayList<>();
+					if (children != null) loaded.addAll(children);
+					populate(loaded, 0, job);
+				}));
+	}
+
+	/**
+	 * Adds the next batch of children starting from the given position. If there are more children to add,
+	 * the next batch is scheduled for the next pulse, otherwise the placeholder is removed.
+	 * <p>
+	 * Exits if the given job is obsolete, i.e. the children were unloaded in the meantime.
+	 */
+	private void populate(List<AbstractMFXTreeItem<T>> children, int from, long job) {
+		if (job != generation) return;
+
+		int to = Math.min(children.size(), from + Math.max(1, getBatchSize()));
+		items.addAll(items.size() - 1, children.subList(from, to));
+		if (to < children.size()) {
+			Platform.runLater(() -> populate(children, to, job));
+			return;
+		}
+		items.remove(placeholder);
+		loadState.set(LoadState.LOADED);
+	}
+
+	/**
+	 * Called when the loader fails, reverts the item to the {@link LoadState#UNLOADED} state, with only the placeholder
+	 * as child, and collapses it.
+	 */
+	private void failed(Throwable error) {
+		items.setAll(placeholder);
+		loadState.set(LoadState.UNLOADED);
+		loadError.set(error);
+		setExpanded(false);
+	}
+
+	/**
+	 * Removes the loaded children, replacing them with the placeholder, so that they are
+	 * loaded again the next time the item is expanded.
+	 * <p>
+	 * Any in-flight loading is discarded. Does nothing if the item is unloaded or if an item in the
+	 * subtree is selected.
+	 */
+	public void unload() {
+		if (getLoadState() == LoadState.UNLOADED) return;
+		boolean selection = items.stream()
+				.flatMap(TreeItemStream::flattenTree)
+				.anyMatch(AbstractMFXTreeItem::isSelected);
+		if (selection) return;
+
+		generation++;
+		unloadTimer.stop();
+		items.setAll(placeholder);
+		loadState.set(LoadState.UNLOADED);
+	}
+
+	public Function<T, List<? extends AbstractMFXTreeItem<T>>> getLoader() {
+		return loader.get();
+	}
+
+	/**
+	 * Specifies the function used to build the item's children from its data.
+	 * <p>
+	 * The function is executed off the JavaFX thread.
+	 */
+	public ObjectProperty<Function<T, List<? extends AbstractMFXTreeItem<T>>>> loaderProperty() {
+		return loader;
+	}
+
+	public void setLoader(Function<T, List<? extends AbstractMFXTreeItem<T>>> loader) {
+		this.loader.set(loader);
+	}
+
+	public Executor getExecutor() {
+		return executor.get();
+	}
+
+	/**
+	 * Specifies the {@link Executor} on which the {@link #loaderProperty()} is executed.
+	 * <p>
+	 * By default, a shared pool of daemon threads is used.
+	 */
+	public ObjectProperty<Executor> executorProperty() {
+		return executor;
+	}
+
+	public void setExecutor(Executor executor) {
+		this.executor.set(executor);
+	}
+
+	public int getBatchSize() {
+		return batchSize.get();
+	}
+
+	/**
+	 * Specifies how many children are added to the item per pulse once loaded.
+	 */
+	public IntegerProperty batchSizeProperty() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize.set(batchSize);
+	}
+
+	public Duration getUnloadDelay() {
+		return unloadDelay.get();
+	}
+
+	/**
+	 * Specifies after how much time the children of a collapsed item are unloaded.
+	 * <p>
+	 * Null by default, which means that children are never unloaded.
+	 */
+	public ObjectProperty<Duration> unloadDelayProperty() {
+		return unloadDelay;
+	}
+
+	public void setUnloadDelay(Duration unloadDelay) {
+		this.unloadDelay.set(unloadDelay);
+	}
+
+	public LoadState getLoadState() {
+		return loadState.get();
+	}
+
+	/**
+	 * Specifies whether the item's children are loaded, being loaded or not loaded.
+	 */
+	public ReadOnlyObjectProperty<LoadState> loadStateProperty() {
+		return loadState.getReadOnlyProperty();
+	}
+
+	public Throwable getLoadError() {
+		return loadError.get();
+	}
+
+	/**
+	 * Specifies the error thrown by the loader the last time it failed, null if
+	 * the last loading succeeded or is still in progress.
+	 */
+	public ReadOnlyObjectProperty<Throwable> loadErrorProperty() {
+		return loadError.getReadOnlyProperty();
+	}
+}
@@ -29,9 +29,11 @@
 import io.github.palexdev.materialfx.utils.ColorUtils;
 import io.github.palexdev.materialfx.utils.StyleablePropertiesUtils;
 import io.github.palexdev.materialfx.utils.others.FunctionalStringConverter;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.css.CssMetaData;
 import javafx.css.Styleable;
@@ -87,6 +89,10 @@
  *      });
  * }
  * </pre>
+ * <p></p>
+ * By default, the lens' view is captured by taking a snapshot of the portion of the content under the lens, at most once per pulse.
+ * For content that rarely changes, the {@link #cacheContentProperty()} can be enabled to take a single snapshot of the whole
+ * content, which is refreshed only when the content changes.
  */
 public class MFXMagnifierPane extends Control implements Themable {
 	//================================================================================
@@ -105,6 +111,7 @@ public void unbind() {
 
 	private final ReadOnlyObjectWrapper<Color> pickedColor = new ReadOnlyObjectWrapper<>();
 	private final ObjectProperty<StringConverter<Color>> colorConverter = new SimpleObjectProperty<>(FunctionalStringConverter.to(ColorUtils::rgb));
+	private final BooleanProperty cacheContent = new SimpleBooleanProperty(false);
 
 	//================================================================================
 	// Constructors
@@ -572,4 +579,24 @@ public ObjectProperty<StringConverter<Color>> colorConverterProperty() {
 	public void setColorConverter(StringConverter<Color> colorConverter) {
 		this.colorConverter.set(colorConverter);
 	}
+
+	public boolean isCacheContent() {
+		return cacheContent.get();
+	}
+
+	/**
+	 * Specifies whether the lens' view should be extracted from a cached snapshot of the whole content,
+	 * rather than taking a snapshot of the content every time the lens moves.
+	 * <p>
+	 * The cache is refreshed when the content requests a layout or its bounds change. Other changes that
+	 * do not affect the layout (a color change for example) are not detected, in such cases call
+	 * {@link MFXMagnifierPaneSkin#invalidateContentCache()}.
+	 */
+	public BooleanProperty cacheContentProperty() {
+		return cacheContent;
+	}
+
+	public void setCacheContent(boolean cacheContent) {
+		this.cacheContent.set(cacheContent);
+	}
 }
@@ -33,11 +33,13 @@
 import io.github.palexdev.materialfx.utils.ListChangeHelper;
 import io.github.palexdev.materialfx.utils.ListChangeHelper.Change;
 import io.github.palexdev.materialfx.utils.ListChangeProcessor;
-import io.github.palexdev.materialfx.utils.others.ReusableScheduledExecutor;
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.virtualizedfx.unused.simple.SimpleVirtualFlow;
-import javafx.beans.binding.Bindings;
-import javafx.beans.binding.LongBinding;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -48,10 +50,11 @@
 import javafx.scene.control.Label;
 import javafx.scene.control.Skin;
 import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
 
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.IntStream;
@@ -86,7 +89,7 @@
  * <p> - Has a flag to specify whether notifications should be set as READ when they are dismissed
  * <p> - Allows specifying the action to perform when the bell icon is pressed, by default inverts the value of the {@link #showingProperty()}
  * to inform the popup that it should open/hide
- * <p> Has an executor that runs every 60 seconds (by default, can be changed) that updates all the notifications.
+ * <p> Has a timeline that runs on the JavaFX thread every 60 seconds (by default, can be changed) and updates the visible notifications.
  * By update, I mean that {@link INotification#updateElapsed()} is called. The service can be stopped and started
  * whenever desired, by default it is always started.
  * <p></p>
@@ -106,7 +109,7 @@ public class MFXNotificationCenter extends Control implements MFXMenuControl, Th
 
 	private final BooleanProperty selectionMode = new SimpleBooleanProperty(false);
 	private final ReadOnlyLongWrapper unreadCount = new ReadOnlyLongWrapper(0);
-	private final LongBinding unreadCountBinding;
+	private final Map<INotification, StateTracker> trackers = new IdentityHashMap<>();
 
 	private final ObjectProperty<NotificationCounterStyle> counterStyle = new SimpleObjectProperty<>(NUMBER);
 	private final StringProperty headerTextProperty = new SimpleStringProperty(I18N.getOrDefault("notificationCenter.header"));
@@ -130,7 +133,7 @@ public void unbind() {
 
 	private EventHandler<MouseEvent> onIconClicked = event -> setShowing(!isShowing());
 
-	private final ReusableScheduledExecutor notificationsUpdater;
+	private final Timeline notificationsUpdater = new Timeline();
 
 	//================================================================================
 	// Constructors
@@ -142,21 +145,7 @@ public MFXNotificationCenter() {
 				Orientation.VERTICAL
 		);
 
-		unreadCountBinding = Bindings.createLongBinding(() ->
-						notifications.stream()
-								.filter(notification -> notification.getState() == NotificationState.UNREAD)
-								.count(),
-				notifications
-		);
-
-		notificationsUpdater = new ReusableScheduledExecutor(Executors.newScheduledThreadPool(
-				1,
-				r -> {
-					Thread thread = new Thread(r);
-					thread.setDaemon(true);
-					return thread;
-				}
-		));
+		notificationsUpdater.setCycleCount(Animation.INDEFINITE);
 		initialize();
 	}
 
@@ -168,8 +157,9 @@ private void initialize() {
 		setPrefSize(400, 550);
 		defaultContextMenu();
 
-		unreadCount.bind(unreadCountBinding);
 		notifications.addListener((ListChangeListener<? super INotification>) change -> {
+			updateUnreadCount(change);
+			change.reset();
 			if (!selectionModel.getSelection().isEmpty()) {
 				if (change.getList().isEmpty()) {
 					selectionModel.clearSelection();
@@ -200,6 +190,7 @@ private void initialize() {
 
 		showing.addListener((observable, oldValue, newValue) -> {
 			if (newValue && markAsReadOnShow) markVisibleNotificationsAs(NotificationState.READ);
+			if (newValue) updateVisibleNotifications();
 		});
 
 		startNotificationsUpdater(60, TimeUnit.SECONDS);
@@ -300,37 +291,84 @@ protected void defaultContextMenu() {
 	}
 
 	/**
-	 * Starts the notifications updater service to run the update task
-	 * periodically, according to the given period and time unit.
+	 * Starts the notifications updater to run the update task periodically, according to the given period and time unit.
+	 * <p>
+	 * The updater is a {@link Timeline}, so the task runs on the JavaFX thread, and at each pulse only the notifications
+	 * currently shown by the virtual flow are updated, see {@link #updateVisibleNotifications()}. Notifications scrolled
+	 * into view are updated by their cell, see {@link MFXNotificationCell#updateItem(INotification)}.
 	 *
 	 * @see INotification#updateElapsed()
 	 */
 	public void startNotificationsUpdater(long period, TimeUnit timeUnit) {
-		notificationsUpdater.scheduleAtFixedRate(
-				() -> notifications.forEach(INotification::updateElapsed),
-				0,
-				period,
-				timeUnit
+		notificationsUpdater.stop();
+		notificationsUpdater.getKeyFrames().setAll(
+				new KeyFrame(Duration.millis(timeUnit.toMillis(period)), event -> updateVisibleNotifications())
 		);
+		updateVisibleNotifications();
+		notificationsUpdater.play();
 	}
 
 	/**
-	 * Immediately stops the notifications updater service.
+	 * Immediately stops the notifications updater.
 	 */
 	public void stopNotificationsUpdater() {
-		notificationsUpdater.cancelNow();
+		notificationsUpdater.stop();
+	}
+
+	/**
+	 * Calls {@link INotification#updateElapsed()} on the notifications currently shown by the virtual flow.
+	 * Does nothing if the popup is not showing.
+	 */
+	protected void updateVisibleNotifications() {
+		if (!isShowing()) return;
+		for (MFXNotificationCell cell : getCells().values()) {
+			INotification notification = cell.getNotification();
+			if (notification != null) notification.updateElapsed();
+		}
+	}
+
+	/**
+	 * Updates the number of unread notifications from the given change.
+	 * <p>
+	 * Added notifications are tracked, a listener on their {@link INotification#notificationStateProperty()} keeps the
+	 * count up to date, removed notifications are untracked. Permutations don't change the count, so the cost is
+	 * proportional to the number of added/removed notifications rather than to the size of the list.
+	 */
+	private void updateUnreadCount(ListChangeListener.Change<? extends INotification> change) {
+		long count = unreadCount.get();
+		while (change.next()) {
+			if (change.wasPermutated()) continue;
+			for (INotification notification : change.getRemoved()) {
+				StateTracker tracker = trackers.get(notification);
+				if (tracker == null) continue;
+				if (notification.getState() == NotificationState.UNREAD) count--;
+				if (--tracker.occurrences == 0) {
+					notification.notificationStateProperty().removeListener(tracker);
+					trackers.remove(notification);
+				}
+			}
+			for (INotification notification : change.getAddedSubList()) {
+				StateTracker tracker = trackers.computeIfAbsent(notification, n -> {
+					StateTracker t = new StateTracker();
+					n.notificationStateProperty().addListener(t);
+					return t;
+				});
+				tracker.occurrences++;
+				if (notification.getState() == NotificationState.UNREAD) count++;
+			}
+		}
+		unreadCount.set(count);
 	}
 
 	/**
 	 * Sets all the given notifications' state to the given state.
 	 * <p>
-	 * At the end recomputes the number of unread notifications.
+	 * The number of unread notifications is updated automatically.
 	 */
 	public void markNotificationsAs(NotificationState state, INotification... notifications) {
 		for (INotification notification : notifications) {
 			notification.setNotificationState(state);
 		}
-		unreadCountBinding.invalidate();
 	}
 
 	/**
@@ -724,4 +762,28 @@ public Theme getTheme() {
 	protected Skin<?> createDefaultSkin() {
 		return new MFXNotificationCenterSkin(this, virtualFlow);
 	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Listener added to the state of each notification in the list, updates the number of
+	 * unread notifications when the state changes.
+	 * <p>
+	 * Also keeps track of how many times the notification is in the list.
+	 */
+	private class StateTracker implements ChangeListener<NotificationState> {
+		private int occurrences = 0;
+
+		@Override
+		public void changed(ObservableValue<? extends NotificationState> observable, NotificationState oldValue, NotificationState newValue) {
+			if (oldValue == newValue) return;
+			if (newValue == NotificationState.UNREAD) {
+				unreadCount.set(unreadCount.get() + occurrences);
+			} else if (oldValue == NotificationState.UNREAD) {
+				unreadCount.set(unreadCount.get() - occurrences);
+			}
+		}
+	}
 }
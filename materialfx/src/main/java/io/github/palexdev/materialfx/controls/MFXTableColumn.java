@@ -20,6 +20,7 @@
 
 import io.github.palexdev.materialfx.beans.properties.functional.ComparatorProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.FunctionProperty;
+import io.github.palexdev.materialfx.collections.SortKey;
 import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
 import io.github.palexdev.materialfx.enums.SortState;
 import io.github.palexdev.materialfx.skins.MFXTableColumnSkin;
@@ -49,7 +50,9 @@
  * Each column cell has the following responsibilities:
  * - <p> Has a row cell factory because each column knows how to build the corresponding row cell in each table row
  * - <p> Has a sort state and a comparator because each column knows how to sort the rows based on the given comparator, also
- * retains its sort state thus allowing switching between ASCENDING, DESCENDING, UNSORTED
+ * retains its sort state thus allowing switching between ASCENDING, DESCENDING, UNSORTED. Clicking on a column while holding SHIFT
+ * adds it to the sorted columns rather than replacing them (multi-column sort). For best performance with big tables, declare
+ * the column's key with {@link #sortKeyProperty()}, primitive keys are compared without boxing
  * <p></p>
  * Some side notes...
  * <p>
@@ -86,7 +89,7 @@ public void set(Function<T, MFXTableRowCell<T, ?>> newValue) {
 	private final ObjectProperty<SortState> sortState = new SimpleObjectProperty<>(SortState.UNSORTED) {
 		@Override
 		public void set(SortState newValue) {
-			if (getComparator() == null) {
+			if (getSortComparator() == null) {
 				super.set(SortState.UNSORTED);
 				return;
 			}
@@ -95,21 +98,25 @@ public void set(SortState newValue) {
 
 		@Override
 		protected void invalidated() {
-			SortState sortState = getSortState();
-			Comparator<T> comparator = (sortState == SortState.DESCENDING) ? getComparator().reversed() : getComparator();
-			fireEvent(new MFXTableColumnEvent<>(MFXTableColumnEvent.SORTING_EVENT, MFXTableColumn.this, comparator, sortState));
+			fireSortingEvent(multiSort);
 		}
 	};
 
 	private final ComparatorProperty<T> comparator = new ComparatorProperty<>() {
 		@Override
 		protected void invalidated() {
-			SortState sortState = getSortState();
-			Comparator<T> comparator = (sortState == SortState.DESCENDING) ? getComparator().reversed() : getComparator();
-			fireEvent(new MFXTableColumnEvent<>(MFXTableColumnEvent.SORTING_EVENT, MFXTableColumn.this, comparator, sortState));
+			fireSortingEvent(true);
 		}
 	};
 
+	private final ObjectProperty<SortKey<T>> sortKey = new SimpleObjectProperty<>() {
+		@Override
+		protected void invalidated() {
+			fireSortingEvent(true);
+		}
+	};
+
+	private boolean multiSort = false;
 	private final ReadOnlyBooleanWrapper dragged = new ReadOnlyBooleanWrapper();
 	private final BooleanProperty columnResizable = new SimpleBooleanProperty(false);
 	protected static final PseudoClass DRAGGED_PSEUDO_CLASS = PseudoClass.getPseudoClass("dragged");
@@ -161,11 +168,32 @@ private void initialize() {
 		addEventFilter(MouseEvent.MOUSE_RELEASED, event -> dragged.set(false));
 
 		addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
-			if (getComparator() == null || event.getButton() != MouseButton.PRIMARY) return;
+			if (getSortComparator() == null || event.getButton() != MouseButton.PRIMARY) return;
+			multiSort = event.isShiftDown();
 			setSortState(getSortState().next());
+			multiSort = false;
 		});
 	}
 
+	/**
+	 * Fires a {@link MFXTableColumnEvent#SORTING_EVENT} with the current sort state and the {@link #getSortComparator()},
+	 * reversed if the state is {@link SortState#DESCENDING}.
+	 */
+	private void fireSortingEvent(boolean multiSort) {
+		SortState sortState = getSortState();
+		Comparator<T> comparator = getSortComparator();
+		if (comparator != null && sortState == SortState.DESCENDING) comparator = comparator.reversed();
+		fireEvent(new MFXTableColumnEvent<>(MFXTableColumnEvent.SORTING_EVENT, MFXTableColumn.this, comparator, sortState, multiSort));
+	}
+
+	/**
+	 * @return the {@link #sortKeyProperty()} if set, otherwise the {@link #comparatorProperty()}, null if the column is not sortable
+	 */
+	public Comparator<T> getSortComparator() {
+		SortKey<T> key = getSortKey();
+		return key != null ? key : getComparator();
+	}
+
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
@@ -213,6 +241,8 @@ public Comparator<T> getComparator() {
 
 	/**
 	 * Specifies the {@link Comparator} used to sort the column.
+	 *
+	 * @see SortKey
 	 */
 	public ComparatorProperty<T> comparatorProperty() {
 		return comparator;
@@ -222,6 +252,25 @@ public void setComparator(Comparator<T> comparator) {
 		this.comparator.set(comparator);
 	}
 
+	public SortKey<T> getSortKey() {
+		return sortKey.get();
+	}
+
+	/**
+	 * Specifies the key used to sort the column, it takes precedence over the {@link #comparatorProperty()}.
+	 * <p>
+	 * Keys built with {@link SortKey#ofInt(java.util.function.ToIntFunction)}, {@link SortKey#ofLong(java.util.function.ToLongFunction)}
+	 * and {@link SortKey#ofDouble(java.util.function.ToDoubleFunction)} let the table sort by primitive values, extracted
+	 * only once per item, rather than invoking a comparator on boxed values.
+	 */
+	public ObjectProperty<SortKey<T>> sortKeyProperty() {
+		return sortKey;
+	}
+
+	public void setSortKey(SortKey<T> sortKey) {
+		this.sortKey.set(sortKey);
+	}
+
 	public boolean isDragged() {
 		return dragged.get();
 	}
@@ -258,21 +307,28 @@ public void setColumnResizable(boolean columnResizable) {
 
 	/**
 	 * This class introduces new {@link Event}s for {@link  MFXTableColumn}s, such as:
-	 * <p> - SORTING_EVENT: this event is used to tell the table view skin that the column is being sorted
+	 * <p> - SORTING_EVENT: this event is used to tell the table view skin that the column is being sorted,
+	 * {@link #isMultiSort()} specifies whether the other sorted columns should be kept
 	 */
 	@SuppressWarnings("rawtypes")
 	public static class MFXTableColumnEvent<T> extends Event {
 		private final MFXTableColumn<T> column;
 		private final Comparator<T> comparator;
 		private final SortState sortState;
+		private final boolean multiSort;
 
 		public static final EventType<? extends MFXTableColumnEvent> SORTING_EVENT = new EventType<>(ANY, "SORTING_EVENT");
 
 		public MFXTableColumnEvent(EventType<? extends Event> eventType, MFXTableColumn<T> column, Comparator<T> comparator, SortState sortState) {
+			this(eventType, column, comparator, sortState, false);
+		}
+
+		public MFXTableColumnEvent(EventType<? extends Event> eventType, MFXTableColumn<T> column, Comparator<T> comparator, SortState sortState, boolean multiSort) {
 			super(eventType);
 			this.column = column;
 			this.comparator = comparator;
 			this.sortState = sortState;
+			this.multiSort = multiSort;
 		}
 
 		public MFXTableColumn<T> getColumn() {
@@ -286,5 +342,9 @@ public Comparator<T> getComparator() {
 		public SortState getSortState() {
 			return sortState;
 		}
+
+		public boolean isMultiSort() {
+			return multiSort;
+		}
 	}
 }
@@ -21,9 +21,9 @@
 import io.github.palexdev.materialfx.beans.PositionBean;
 import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
 import io.github.palexdev.materialfx.effects.ripple.MFXCircleRippleGenerator;
+import io.github.palexdev.materialfx.selection.SelectionDispatcher;
 import io.github.palexdev.virtualizedfx.cell.Cell;
 import io.github.palexdev.virtualizedfx.unused.simple.SimpleVirtualFlow;
-import javafx.beans.binding.Bindings;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -61,6 +61,8 @@
 	protected final MFXCircleRippleGenerator rippleGenerator = new MFXCircleRippleGenerator(this);
 
 	private final ReadOnlyBooleanWrapper selected = new ReadOnlyBooleanWrapper();
+	private final SelectionDispatcher.Listener selectionListener = selected::set;
+	private int subscribedIndex = -1;
 	protected static final PseudoClass SELECTED_PSEUDO_CLASS = PseudoClass.getPseudoClass("selected");
 
 	//================================================================================
@@ -88,19 +90,41 @@ private void initialize() {
 
 	/**
 	 * Adds the needed listeners/handlers to manage the selection state.
+	 * <p>
+	 * The selection state is not bound to the whole selection, rather the row subscribes to its index
+	 * through the table's {@link SelectionDispatcher}, see {@link #subscribeSelection()}.
 	 *
 	 * @see #updateSelection(MouseEvent).
 	 */
 	private void setBehavior() {
 		selected.addListener(invalidated -> pseudoClassStateChanged(SELECTED_PSEUDO_CLASS, selected.get()));
-		selected.bind(Bindings.createBooleanBinding(
-				() -> tableView.getSelectionModel().getSelection().containsKey(getIndex()),
-				tableView.getSelectionModel().selectionProperty(), index
-		));
+		index.addListener(invalidated -> subscribeSelection());
+		parentProperty().addListener(invalidated -> subscribeSelection());
 
 		addEventFilter(MouseEvent.MOUSE_CLICKED, this::updateSelection);
 	}
 
+	/**
+	 * Subscribes the row to the {@link SelectionDispatcher} for its current index, and removes
+	 * the subscription for the previous one.
+	 * <p>
+	 * Rows are subscribed only while they have a parent, so that discarded rows do not keep receiving notifications.
+	 */
+	private void subscribeSelection() {
+		SelectionDispatcher dispatcher = tableView.getSelectionDispatcher();
+		int newIndex = getParent() != null ? getIndex() : -1;
+		if (newIndex == subscribedIndex) return;
+
+		if (subscribedIndex >= 0) dispatcher.unsubscribe(subscribedIndex, selectionListener);
+		subscribedIndex = newIndex;
+		if (newIndex >= 0) {
+			dispatcher.subscribe(newIndex, selectionListener);
+			selected.set(dispatcher.isSelected(newIndex));
+		} else {
+			selected.set(false);
+		}
+	}
+
 	/**
 	 * Initializes the ripple generator.
 	 */
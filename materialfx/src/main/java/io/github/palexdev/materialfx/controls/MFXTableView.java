@@ -24,15 +24,15 @@
 import io.github.palexdev.materialfx.controls.base.Themable;
 import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
 import io.github.palexdev.materialfx.filter.base.AbstractFilter;
+import io.github.palexdev.materialfx.selection.BitSetSelectionModel;
 import io.github.palexdev.materialfx.selection.MultipleSelectionModel;
+import io.github.palexdev.materialfx.selection.SelectionDispatcher;
 import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
 import io.github.palexdev.materialfx.skins.MFXTableViewSkin;
 import io.github.palexdev.materialfx.theming.MaterialFXStylesheets;
 import io.github.palexdev.materialfx.theming.base.Theme;
-import io.github.palexdev.materialfx.utils.ListChangeHelper;
 import io.github.palexdev.materialfx.utils.ListChangeProcessor;
 import io.github.palexdev.materialfx.utils.others.observables.When;
-import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.virtualizedfx.unused.simple.SimpleVirtualFlow;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.*;
@@ -68,7 +68,8 @@
 	private final ObjectProperty<ObservableList<T>> items = new SimpleObjectProperty<>();
 	private final ListChangeListener<? super T> itemsChanged = this::itemsChanged;
 
-	private final IMultipleSelectionModel<T> selectionModel = new MultipleSelectionModel<>(items);
+	private final IMultipleSelectionModel<T> selectionModel = createSelectionModel(items);
+	private SelectionDispatcher selectionDispatcher;
 	private final ObservableList<MFXTableColumn<T>> tableColumns = FXCollections.observableArrayList();
 	private final FunctionProperty<T, MFXTableRow<T>> tableRowFactory = new FunctionProperty<>(item -> new MFXTableRow<>(this, item));
 
@@ -121,8 +122,21 @@ private void initialize() {
 		sceneBuilderIntegration();
 	}
 
+	/**
+	 * Builds the selection model, called once during construction, before the constructor's body.
+	 * <p>
+	 * By default builds a {@link MultipleSelectionModel}, can be overridden to use a different model, for example
+	 * a {@link BitSetSelectionModel} for lists with many items. Since it's called during construction, implementations
+	 * must not rely on the subclass' state.
+	 */
+	protected IMultipleSelectionModel<T> createSelectionModel(ObjectProperty<ObservableList<T>> items) {
+		return new MultipleSelectionModel<>(items);
+	}
+
 	/**
 	 * Responsible for updating the selection when the items list changes.
+	 * <p>
+	 * The selected indexes are remapped in a single pass by {@link ListChangeProcessor#remap(int[], ListChangeListener.Change)}.
 	 */
 	protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
 		IMultipleSelectionModel<T> selectionModel = getSelectionModel();
@@ -133,17 +147,9 @@ protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
 			return;
 		}
 
-		ListChangeHelper.Change c = ListChangeHelper.processChange(change, IntegerRange.of(0, Integer.MAX_VALUE));
-		ListChangeProcessor updater = new ListChangeProcessor(new HashSet<>(selectionModel.getSelection().keySet()));
-		c.processReplacement((changed, removed) -> selectionModel.replaceSelection(changed.toArray(Integer[]::new)));
-		c.processAddition((from, to, added) -> {
-			updater.computeAddition(added.size(), from);
-			selectionModel.replaceSelection(updater.getIndexes().toArray(Integer[]::new));
-		});
-		c.processRemoval((from, to, removed) -> {
-			updater.computeRemoval(removed, from);
-			getSelectionModel().replaceSelection(updater.getIndexes().toArray(Integer[]::new));
-		});
+		int[] selected = selectionModel.getSelectedIndexes();
+		int[] remapped = ListChangeProcessor.remap(selected, change);
+		if (!Arrays.equals(selected, remapped)) selectionModel.replaceSelectionIndexes(remapped);
 	}
 
 	/**
@@ -336,6 +342,15 @@ public IMultipleSelectionModel<T> getSelectionModel() {
 		return selectionModel;
 	}
 
+	/**
+	 * @return the {@link SelectionDispatcher} used by the rows to be notified when their index is selected or deselected,
+	 * built lazily
+	 */
+	public SelectionDispatcher getSelectionDispatcher() {
+		if (selectionDispatcher == null) selectionDispatcher = new SelectionDispatcher(selectionModel);
+		return selectionDispatcher;
+	}
+
 	/**
 	 * @return the list containing the table's columns
 	 */
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.controls;
+
+import io.github.palexdev.materialfx.collections.TreeRowsList;
+import io.github.palexdev.materialfx.controls.MFXCheckTreeItem.CheckTreeItemEvent;
+import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeCell;
+import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
+import io.github.palexdev.materialfx.controls.cell.MFXCheckTreeCell;
+import io.github.palexdev.materialfx.factories.InsetsFactory;
+import io.github.palexdev.virtualizedfx.cell.Cell;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.HBox;
+import javafx.util.Callback;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * This is the HBox used by {@link MFXTreeView} to display an item when the tree is virtualized,
+ * see {@link MFXTreeView#virtualizedProperty()}.
+ * <p>
+ * Rows are {@link Cell}s, the virtual flow builds only the rows needed to fill the viewport and then
+ * updates them as the user scrolls. Each row hosts an {@link AbstractMFXTreeCell} built by the item's cell factory,
+ * the cell is reused for the next items as long as their factory builds cells of the same class, see {@link AbstractMFXTreeCell#updateItem(AbstractMFXTreeItem)}.
+ * To know which class a factory builds without calling it every time, the row remembers the class of the cells built by
+ * each factory it met (factories are weakly referenced).
+ * <p>
+ * Since the items are not part of the scene graph in this mode, the row also takes care of the interactions
+ * that are otherwise handled by the items' skins: expand/collapse on disclosure node press or double click,
+ * selection on press and checking for {@link MFXCheckTreeCell}s.
+ * The indentation is given by the sum of the ancestors' {@link AbstractMFXTreeItem#childrenMarginProperty()}.
+ *
+ * @param <T> The type of the data within the items
+ */
+public class MFXTreeRow<T> extends HBox implements Cell<AbstractMFXTreeItem<T>> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final String STYLE_CLASS = "mfx-tree-row";
+
+	private final TreeRowsList<T> rows;
+	private AbstractMFXTreeItem<T> item;
+	private int index = -1;
+
+	private AbstractMFXTreeCell<T> cell;
+	private final Map<Callback<AbstractMFXTreeItem<T>, AbstractMFXTreeCell<T>>, Class<?>> cellTypes = new WeakHashMap<>();
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MFXTreeRow(TreeRowsList<T> rows, AbstractMFXTreeItem<T> item) {
+		this.rows = rows;
+		initialize();
+		updateItem(item);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+	private void initialize() {
+		getStyleClass().add(STYLE_CLASS);
+		setAlignment(Pos.CENTER_LEFT);
+		setMinHeight(USE_PREF_SIZE);
+		setMaxHeight(USE_PREF_SIZE);
+
+		addEventHandler(MouseEvent.MOUSE_PRESSED, this::handlePress);
+	}
+
+	/**
+	 * Toggles the item's expanded state if the press happened on the disclosure node or if it's a double click,
+	 * otherwise selects the item.
+	 */
+	private void handlePress(MouseEvent event) {
+		if (item == null || event.getButton() != MouseButton.PRIMARY) return;
+
+		Node disclosureNode = cell.getDisclosureNode();
+		boolean onDisclosure = disclosureNode != null &&
+				disclosureNode.contains(disclosureNode.sceneToLocal(event.getSceneX(), event.getSceneY()));
+		if (onDisclosure || event.getClickCount() == 2) {
+			if (item instanceof MFXTreeItem && !item.isLeaf()) {
+				MFXTreeItem<T> treeItem = (MFXTreeItem<T>) item;
+				treeItem.setExpanded(!treeItem.isExpanded());
+			}
+			if (onDisclosure) return;
+		}
+
+		if (item.getSelectionModel() != null) {
+			item.getSelectionModel().select(item, event);
+		}
+	}
+
+	/**
+	 * Builds a new cell with the given factory and adds it to the row.
+	 */
+	private void buildCell(Callback<AbstractMFXTreeItem<T>, AbstractMFXTreeCell<T>> factory) {
+		cell = factory.call(item);
+		cellTypes.put(factory, cell.getClass());
+		if (cell instanceof MFXCheckTreeCell) {
+			((MFXCheckTreeCell<T>) cell).getCheckbox().setOnAction(event -> {
+				check();
+				event.consume();
+			});
+		}
+		getChildren().setAll(cell);
+	}
+
+	/**
+	 * Checks/unchecks the current item, then updates its ancestors, in the same order in which
+	 * the {@link CheckTreeItemEvent} would reach them if the items were in the scene graph.
+	 */
+	private void check() {
+		if (!(item instanceof MFXCheckTreeItem)) return;
+		CheckTreeItemEvent<T> event = new CheckTreeItemEvent<>(CheckTreeItemEvent.CHECK_EVENT, item);
+		for (AbstractMFXTreeItem<T> current = item; current != null; current = current.getItemParent()) {
+			MFXCheckTreeItem<T> checkItem = (MFXCheckTreeItem<T>) current;
+			checkItem.getSelectionModel().check(checkItem, event);
+		}
+	}
+
+	/**
+	 * Updates the cell's disclosure node and the row's indentation according to the current item.
+	 */
+	protected void updateRow() {
+		if (item instanceof MFXTreeItem) {
+			MFXTreeItem<T> treeItem = (MFXTreeItem<T>) item;
+			cell.updateCell(treeItem);
+			Node disclosureNode = cell.getDisclosureNode();
+			if (disclosureNode != null) disclosureNode.setRotate(treeItem.isExpanded() ? 90 : 0);
+		}
+		double indent = 0;
+		AbstractMFXTreeItem<T> parent = item.getItemParent();
+		for (int depth = rows.depthOf(item); depth > 0 && parent != null; depth--) {
+			indent += parent.getChildrenMargin();
+			parent = parent.getItemParent();
+		}
+		setPadding(InsetsFactory.left(indent));
+		setPrefHeight(cell.getFixedCellSize());
+	}
+
+	/**
+	 * @return the item currently represented by the row
+	 */
+	public AbstractMFXTreeItem<T> getItem() {
+		return item;
+	}
+
+	/**
+	 * @return the row's index in the flattened tree
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return the cell hosted by the row
+	 */
+	public AbstractMFXTreeCell<T> getCell() {
+		return cell;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public Node getNode() {
+		return this;
+	}
+
+	@Override
+	public void updateItem(AbstractMFXTreeItem<T> item) {
+		this.item = item;
+		Callback<AbstractMFXTreeItem<T>, AbstractMFXTreeCell<T>> factory = item.getCellFactory();
+		if (cell == null || cellTypes.get(factory) != cell.getClass()) {
+			buildCell(factory);
+		} else {
+			cell.updateItem(item);
+		}
+		updateRow();
+	}
+
+	@Override
+	public void updateIndex(int index) {
+		this.index = index;
+	}
+}
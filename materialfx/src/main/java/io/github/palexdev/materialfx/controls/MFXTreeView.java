@@ -18,6 +18,7 @@
 
 package io.github.palexdev.materialfx.controls;
 
+import io.github.palexdev.materialfx.collections.TreeRowsList;
 import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
 import io.github.palexdev.materialfx.factories.InsetsFactory;
 import io.github.palexdev.materialfx.selection.TreeSelectionModel;
@@ -25,15 +26,22 @@
 import io.github.palexdev.materialfx.theming.MaterialFXStylesheets;
 import io.github.palexdev.materialfx.theming.base.Theme;
 import io.github.palexdev.materialfx.utils.NodeUtils;
+import io.github.palexdev.virtualizedfx.unused.simple.SimpleVirtualFlow;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.event.Event;
 import javafx.event.EventType;
+import javafx.geometry.Orientation;
 
 /**
  * This is the container for a tree made of AbstractMFXTreeItems.
+ * <p>
+ * By default the root is the content of the scroll pane, which means that every item is a node in the scene graph.
+ * For big trees the view can be virtualized, see {@link #virtualizedProperty()}. In this mode the tree is flattened
+ * by a {@link TreeRowsList}, which contains only the visible items, and displayed by a {@link SimpleVirtualFlow} which
+ * builds only the {@link MFXTreeRow}s needed to fill the viewport. Note that in this mode expand/collapse is not animated.
  *
  * @param <T> The type of the data within the items.
  */
@@ -46,6 +54,12 @@
 	private final ObjectProperty<AbstractMFXTreeItem<T>> root = new SimpleObjectProperty<>(null);
 	private final ObjectProperty<ITreeSelectionModel<T>> selectionModel = new SimpleObjectProperty<>(null);
 	private final BooleanProperty showRoot = new SimpleBooleanProperty(true);
+	private final BooleanProperty virtualized = new SimpleBooleanProperty(false);
+
+	private TreeRowsList<T> rows;
+	private SimpleVirtualFlow<AbstractMFXTreeItem<T>, MFXTreeRow<T>> rowsFlow;
+	private ScrollBarPolicy hBarPolicy;
+	private ScrollBarPolicy vBarPolicy;
 
 	//================================================================================
 	// Constructors
@@ -81,6 +95,10 @@ protected void initialize() {
 		AbstractMFXTreeItem<T> root = getRoot();
 		rootProperty().addListener((observable, oldRoot, newRoot) -> {
 			newRoot.setTreeView(this);
+			if (isVirtualized()) {
+				rows.setRoot(newRoot);
+				return;
+			}
 			setContent(newRoot);
 			setupRoot();
 		});
@@ -89,10 +107,56 @@ protected void initialize() {
 		}
 
 		showRoot.addListener((observable, oldValue, newValue) -> {
+			if (isVirtualized()) {
+				rows.setShowRoot(newValue);
+				return;
+			}
 			if (root != null) {
 				root.fireEvent(new TreeViewEvent(TreeViewEvent.HIDE_ROOT_EVENT, newValue));
 			}
 		});
+		virtualized.addListener(invalidated -> updateContent());
+	}
+
+	/**
+	 * Switches the content of the tree view according to {@link #virtualizedProperty()}.
+	 * <p>
+	 * When virtualized, the rows flow is built if needed, the {@link TreeRowsList} is set to flatten the current root and
+	 * the flow becomes the content of the scroll pane, sized to fit the viewport since it scrolls by itself.
+	 * Otherwise the rows list is disposed, so that it doesn't listen to the tree anymore, and the root becomes the content
+	 * again.
+	 */
+	protected void updateContent() {
+		AbstractMFXTreeItem<T> root = getRoot();
+		if (isVirtualized()) {
+			if (rowsFlow == null) {
+				rows = new TreeRowsList<>();
+				rowsFlow = new SimpleVirtualFlow<>(
+						rows,
+						item -> new MFXTreeRow<>(rows, item),
+						Orientation.VERTICAL
+				);
+			}
+			rows.setShowRoot(isShowRoot());
+			rows.setRoot(root);
+
+			hBarPolicy = getHbarPolicy();
+			vBarPolicy = getVbarPolicy();
+			setHbarPolicy(ScrollBarPolicy.NEVER);
+			setVbarPolicy(ScrollBarPolicy.NEVER);
+			setFitToWidth(true);
+			setFitToHeight(true);
+			setContent(rowsFlow);
+			return;
+		}
+
+		if (rows != null) rows.dispose();
+		if (hBarPolicy != null) setHbarPolicy(hBarPolicy);
+		if (vBarPolicy != null) setVbarPolicy(vBarPolicy);
+		setFitToWidth(false);
+		setFitToHeight(false);
+		setContent(root);
+		if (root != null) setupRoot();
 	}
 
 	/**
@@ -152,6 +216,30 @@ public void setShowRoot(boolean showRoot) {
 		this.showRoot.set(showRoot);
 	}
 
+	public boolean isVirtualized() {
+		return virtualized.get();
+	}
+
+	/**
+	 * Specifies whether the tree should be displayed by a virtual flow, building only the rows
+	 * in the viewport, rather than adding every item to the scene graph.
+	 */
+	public BooleanProperty virtualizedProperty() {
+		return virtualized;
+	}
+
+	public void setVirtualized(boolean virtualized) {
+		this.virtualized.set(virtualized);
+	}
+
+	/**
+	 * @return the flattened list of visible items used when the tree is virtualized, null if
+	 * the tree has never been virtualized
+	 */
+	public TreeRowsList<T> getRows() {
+		return rows;
+	}
+
 	//================================================================================
 	// Override Methods
 	//================================================================================
@@ -19,6 +19,7 @@
 package io.github.palexdev.materialfx.controls.base;
 
 import io.github.palexdev.materialfx.effects.DepthLevel;
+import io.github.palexdev.materialfx.selection.BitSetSelectionModel;
 import io.github.palexdev.materialfx.selection.MultipleSelectionModel;
 import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
 import io.github.palexdev.materialfx.utils.ColorUtils;
@@ -49,7 +50,7 @@
 	//================================================================================
 	protected final ObjectProperty<ObservableList<T>> items = new SimpleObjectProperty<>(FXCollections.observableArrayList());
 	protected final ObjectProperty<StringConverter<T>> converter = new SimpleObjectProperty<>();
-	protected final IMultipleSelectionModel<T> selectionModel = new MultipleSelectionModel<>(items);
+	protected final IMultipleSelectionModel<T> selectionModel = createSelectionModel(items);
 
 	//================================================================================
 	// Constructors
@@ -78,6 +79,17 @@ protected void initialize() {
 		sceneBuilderIntegration();
 	}
 
+	/**
+	 * Builds the selection model, called once during construction, before the constructor's body.
+	 * <p>
+	 * By default builds a {@link MultipleSelectionModel}, can be overridden to use a different model, for example
+	 * a {@link BitSetSelectionModel} for lists with many items. Since it's called during construction, implementations
+	 * must not rely on the subclass' state.
+	 */
+	protected IMultipleSelectionModel<T> createSelectionModel(ObjectProperty<ObservableList<T>> items) {
+		return new MultipleSelectionModel<>(items);
+	}
+
 	protected void addBarsListeners() {
 		this.trackColor.addListener((observable, oldValue, newValue) -> {
 			if (!newValue.equals(oldValue)) {
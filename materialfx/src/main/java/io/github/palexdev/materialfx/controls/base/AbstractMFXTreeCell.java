@@ -26,6 +26,9 @@
 import javafx.scene.Parent;
 import javafx.scene.layout.HBox;
 
+import java.util.ArrayList;
+import java.util.List;
+
 // TODO implement StringConverter (low priority)
 
 /**
@@ -45,6 +48,9 @@
  * <p>
  * Also, note that to build a cell the height must be fixed for layout reasons, by default it's 27.
  * When the cell is created the {@link #render(Object)} method is called.
+ * <p>
+ * Cells can also be reused for other items, see {@link #updateItem(AbstractMFXTreeItem)}. This is used by
+ * virtualized tree views which only build the cells needed to fill the viewport.
  *
  * @param <T> The type of the data within TreeItem.
  */
@@ -57,6 +63,7 @@
 
 	private static final PseudoClass SELECTED_PSEUDO_CLASS = PseudoClass.getPseudoClass("selected");
 	private final BooleanProperty selected = new SimpleBooleanProperty(false);
+	private final List<Node> rendered = new ArrayList<>();
 
 	//================================================================================
 	// Constructors
@@ -73,7 +80,7 @@ public AbstractMFXTreeCell(AbstractMFXTreeItem<T> item, double fixedHeight) {
 		prefHeightProperty().bind(fixedCellSize);
 
 		initialize(item);
-		render(item.getData());
+		renderData(item.getData());
 	}
 
 	//================================================================================
@@ -93,6 +100,30 @@ private void initialize(AbstractMFXTreeItem<T> item) {
 		selected.bind(item.selectedProperty());
 	}
 
+	/**
+	 * Calls {@link #render(Object)} and keeps track of the nodes it adds (at the end of the children list),
+	 * so that they can be removed when the cell is updated with another item.
+	 */
+	private void renderData(T data) {
+		int from = getChildren().size();
+		render(data);
+		rendered.clear();
+		rendered.addAll(getChildren().subList(from, getChildren().size()));
+	}
+
+	/**
+	 * Updates this cell to represent the given item.
+	 * <p>
+	 * The {@link #selectedProperty()} is bound to the new item's selected property, the nodes
+	 * built by {@link #render(Object)} for the previous item are removed and the new item's data is rendered.
+	 * Subclasses which bind other item's properties should override this to update them too.
+	 */
+	public void updateItem(AbstractMFXTreeItem<T> item) {
+		selected.bind(item.selectedProperty());
+		getChildren().removeAll(rendered);
+		renderData(item.getData());
+	}
+
 	/**
 	 * Adds a listener to the selected property to change the PseudoClass state.
 	 */
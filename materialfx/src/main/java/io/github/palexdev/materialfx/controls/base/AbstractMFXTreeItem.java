@@ -20,9 +20,9 @@
 
 import io.github.palexdev.materialfx.controls.MFXTreeView;
 import io.github.palexdev.materialfx.selection.base.ITreeSelectionModel;
-import io.github.palexdev.materialfx.utils.TreeItemStream;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Parent;
 import javafx.scene.control.Control;
@@ -46,6 +46,11 @@
  * </pre>
  * The root is defined as the element which parent is null.
  * <p></p>
+ * Each item also keeps some structural information up to date as its children change: its depth,
+ * its position in the parent's children list and the number of items in its subtree. This allows
+ * {@link #getLevel()}, {@link #getNextSibling()}, {@link #getPreviousSibling()} and {@link #getItemsCount()}
+ * to run in constant time and {@link #getIndex()} to only walk up the ancestors.
+ * <p></p>
  *
  * @param <T> The type of the data within TreeItem.
  * @see AbstractMFXTreeCell
@@ -66,11 +71,18 @@
 	private final BooleanProperty startExpanded = new SimpleBooleanProperty(false);
 	private final BooleanProperty selected = new SimpleBooleanProperty(false);
 
+	private final ListChangeListener<AbstractMFXTreeItem<T>> structureListener = this::updateStructure;
+	private int depth = 0;
+	private int childIndex = -1;
+	private long subtreeSize = 1;
+	private long[] childOffsets;
+
 	//================================================================================
 	// Constructors
 	//================================================================================
 	public AbstractMFXTreeItem(T data) {
 		this.data = data;
+		items.addListener(structureListener);
 		sceneBuilderIntegration();
 	}
 
@@ -116,45 +128,37 @@ public AbstractMFXTreeItem<T> getRoot() {
 	}
 
 	/**
-	 * Calculates the item's index in the tree structure.
+	 * Calculates the item's index in the tree structure, that is its position
+	 * in the depth-first (pre-order) traversal of the tree.
+	 * <p>
+	 * For each ancestor, the index is given by the sizes of the subtrees which come before the item,
+	 * which are cached by the parent as prefix sums, see {@link #childOffset(int)}.
 	 *
 	 * @return the item's index
-	 * @see TreeItemStream
 	 */
 	public long getIndex() {
-		if (isRoot()) {
-			return 0;
+		long index = 0;
+		AbstractMFXTreeItem<T> item = this;
+		while (!item.isRoot()) {
+			AbstractMFXTreeItem<T> par = item.getItemParent();
+			index += 1 + par.childOffset(item.childIndex);
+			item = par;
 		}
-
-		return TreeItemStream.flattenTree(getRoot())
-				.takeWhile(item -> !item.equals(this))
-				.count();
+		return index;
 	}
 
 	/**
-	 * Calculates the number of items contained by this item (included).
+	 * @return the number of items contained by this item (included)
 	 */
 	public long getItemsCount() {
-		return TreeItemStream.stream(this).count();
+		return subtreeSize;
 	}
 
 	/**
-	 * Calculates the this item's level in the tree structure.
+	 * @return this item's level in the tree structure
 	 */
 	public int getLevel() {
-		if (isRoot()) {
-			return 0;
-		}
-
-		int index = 0;
-		AbstractMFXTreeItem<T> par = this;
-		while (true) {
-			par = par.getItemParent();
-			index++;
-			if (par.isRoot()) {
-				return index;
-			}
-		}
+		return isRoot() ? 0 : depth;
 	}
 
 	/**
@@ -168,11 +172,10 @@ public AbstractMFXTreeItem<T> getNextSibling() {
 		}
 
 		List<AbstractMFXTreeItem<T>> parentItems = getItemParent().getItems();
-		int index = parentItems.indexOf(this);
-		if (index == parentItems.size() - 1) {
+		if (childIndex == parentItems.size() - 1) {
 			return null;
 		}
-		return parentItems.get(index + 1);
+		return parentItems.get(childIndex + 1);
 	}
 
 	/**
@@ -186,11 +189,76 @@ public AbstractMFXTreeItem<T> getPreviousSibling() {
 		}
 
 		List<AbstractMFXTreeItem<T>> parentItems = getItemParent().getItems();
-		int index = parentItems.indexOf(this);
-		if (index == 0) {
+		if (childIndex <= 0) {
 			return null;
 		}
-		return parentItems.get(index - 1);
+		return parentItems.get(childIndex - 1);
+	}
+
+	/**
+	 * Returns the number of items in the subtrees of the children which come before the given position.
+	 * <p>
+	 * The sums are computed for all the children at once and cached until the subtree changes.
+	 */
+	private long childOffset(int position) {
+		if (childOffsets == null) {
+			childOffsets = new long[items.size()];
+			long sum = 0;
+			for (int i = 0; i < childOffsets.length; i++) {
+				childOffsets[i] = sum;
+				sum += items.get(i).subtreeSize;
+			}
+		}
+		return childOffsets[position];
+	}
+
+	/**
+	 * Updates the structural information when the children list changes.
+	 * <p>
+	 * Added children (and their subtrees) get their depth updated, the children from the first changed position on
+	 * get their new position, and the difference in size is propagated to the ancestors, invalidating their cached
+	 * offsets.
+	 */
+	private void updateStructure(ListChangeListener.Change<? extends AbstractMFXTreeItem<T>> change) {
+		long delta = 0;
+		int firstChanged = items.size();
+		while (change.next()) {
+			firstChanged = Math.min(firstChanged, change.getFrom());
+			if (change.wasPermutated() || change.wasUpdated()) continue;
+
+			for (AbstractMFXTreeItem<T> removed : change.getRemoved()) {
+				delta -= removed.subtreeSize;
+				removed.childIndex = -1;
+				removed.updateDepth(0);
+			}
+			for (AbstractMFXTreeItem<T> added : change.getAddedSubList()) {
+				delta += added.subtreeSize;
+				added.updateDepth(depth + 1);
+			}
+		}
+
+		for (int i = firstChanged; i < items.size(); i++) {
+			items.get(i).childIndex = i;
+		}
+		childOffsets = null;
+
+		if (delta == 0) return;
+		for (AbstractMFXTreeItem<T> item = this; item != null; item = item.getItemParent()) {
+			item.subtreeSize += delta;
+			if (item.getItemParent() != null) item.getItemParent().childOffsets = null;
+		}
+	}
+
+	/**
+	 * Sets this item's depth to the given one and updates its subtree accordingly.
+	 * Stops early if the depth is already correct.
+	 */
+	private void updateDepth(int depth) {
+		if (this.depth == depth) return;
+		this.depth = depth;
+		for (AbstractMFXTreeItem<T> item : items) {
+			item.updateDepth(depth + 1);
+		}
 	}
 
 	/**
@@ -20,6 +20,7 @@
 
 import io.github.palexdev.materialfx.controls.MFXCheckTreeItem;
 import io.github.palexdev.materialfx.controls.MFXCheckbox;
+import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
 import io.github.palexdev.materialfx.theming.MaterialFXStylesheets;
 import io.github.palexdev.materialfx.theming.base.Theme;
 import javafx.beans.property.BooleanProperty;
@@ -98,6 +99,21 @@ public MFXCheckbox getCheckbox() {
 	// Overridden Methods
 	//================================================================================
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Also binds the checked and indeterminate properties to the new item's ones.
+	 */
+	@Override
+	public void updateItem(AbstractMFXTreeItem<T> item) {
+		super.updateItem(item);
+		if (item instanceof MFXCheckTreeItem) {
+			MFXCheckTreeItem<T> checkItem = (MFXCheckTreeItem<T>) item;
+			checked.bind(checkItem.checkedProperty());
+			indeterminate.bind(checkItem.indeterminateProperty());
+		}
+	}
+
 	@Override
 	public Theme getTheme() {
 		return MaterialFXStylesheets.CHECK_TREE_CELL;
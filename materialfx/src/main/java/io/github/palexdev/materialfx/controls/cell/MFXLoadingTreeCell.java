@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.controls.cell;
+
+import io.github.palexdev.materialfx.controls.MFXProgressSpinner;
+import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
+import io.github.palexdev.materialfx.i18n.I18N;
+import javafx.scene.control.Label;
+
+/**
+ * Cell used by the placeholder item of an {@link io.github.palexdev.materialfx.controls.MFXLazyTreeItem}
+ * while its children are being loaded.
+ * <p>
+ * Instead of the item's data, shows a small {@link MFXProgressSpinner} followed by a label
+ * which has the style class: "loading-label".
+ *
+ * @param <T> The type of the data within TreeItem.
+ */
+public class MFXLoadingTreeCell<T> extends MFXSimpleTreeCell<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final String STYLE_CLASS = "mfx-loading-tree-cell";
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MFXLoadingTreeCell(AbstractMFXTreeItem<T> item) {
+		super(item);
+		getStyleClass().add(STYLE_CLASS);
+	}
+
+	//================================================================================
+	// Override Methods
+	//================================================================================
+	@Override
+	protected void render(T data) {
+		MFXProgressSpinner spinner = new MFXProgressSpinner();
+		spinner.setRadius(6);
+		Label label = new Label(I18N.getOrDefault("lazyTreeItem.loading"));
+		label.getStyleClass().add("loading-label");
+		getChildren().addAll(spinner, label);
+	}
+}
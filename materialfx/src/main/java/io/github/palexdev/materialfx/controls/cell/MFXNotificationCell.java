@@ -173,12 +173,17 @@ public Node getNode() {
 	/**
 	 * Updates the notification property of the cell, then calls {@link #render(INotification)}.
 	 * <p>
+	 * Since the notification center only updates the elapsed time of visible notifications, this also
+	 * calls {@link INotification#updateElapsed()} if the notification changed.
+	 * <p>
 	 * This is called after {@link #updateIndex(int)}.
 	 */
 	@Override
 	public void updateItem(INotification notification) {
+		boolean changed = notification != getNotification();
 		setNotification(notification);
 		render(notification);
+		if (changed && notification != null) notification.updateElapsed();
 	}
 
 	/**
@@ -34,10 +34,7 @@
 import io.github.palexdev.materialfx.utils.NodeUtils;
 import io.github.palexdev.materialfx.utils.StyleablePropertiesUtils;
 import javafx.animation.*;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.*;
 import javafx.css.CssMetaData;
 import javafx.css.Styleable;
 import javafx.css.StyleablePropertyFactory;
@@ -53,7 +50,9 @@
 import javafx.scene.shape.Shape;
 import javafx.util.Duration;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -73,6 +72,12 @@
  *      region.addEventHandler(MouseEvent.MOUSE_PRESSED, generator::generateRipple)
  * }
  * </pre>
+ * <p></p>
+ * To avoid allocating new nodes and animations at every click, the generator keeps a small pool of ripples,
+ * see {@link #poolSizeProperty()}. Each pooled ripple comes with its own background shape and its own animations,
+ * which are reset and replayed every time the ripple is reused. The generator's clip is also reused until the
+ * region's size or background change. The number of reused and newly built ripples can be retrieved with
+ * {@link #getPoolHits()} and {@link #getPoolMisses()}, or monitored with {@link #setPoolStatsHook(BiConsumer)}.
  */
 public class MFXCircleRippleGenerator extends AbstractMFXRippleGenerator<CircleRipple> {
 	//================================================================================
@@ -80,6 +85,22 @@ public class MFXCircleRippleGenerator extends AbstractMFXRippleGenerator<CircleR
 	//================================================================================
 	private final BooleanProperty computeRadiusMultiplier = new SimpleBooleanProperty(false);
 	private final DoubleProperty radiusMultiplier = new SimpleDoubleProperty(2.0);
+	private final IntegerProperty poolSize = new SimpleIntegerProperty(4);
+
+	private final List<RippleSlot> pool = new ArrayList<>();
+	private long poolHits = 0;
+	private long poolMisses = 0;
+	private BiConsumer<Long, Long> poolStatsHook;
+
+	private Node clip;
+	private double clipWidth = -1;
+	private double clipHeight = -1;
+	private boolean clipAuto;
+	private Object clipSource;
+
+	private DepthLevel shadowLevel;
+	private int shadowOffset;
+	private DropShadow shadowEndEffect;
 
 	//================================================================================
 	// Constructors
@@ -108,13 +129,15 @@ protected void initialize() {
 	 * Generates a ripple.
 	 * <p></p>
 	 * <p> - If {@link #checkBoundsProperty()} is true calls {@link #isWithinBounds(MouseEvent)}. Exits if returns false.
-	 * <p> - Sets the generator clip/bounds by calling {@link #buildClip()}.
+	 * <p> - Sets the generator clip/bounds by calling {@link #buildClip()}, the clip is reused as long as the region's
+	 * size, background and the clip supplier do not change.
 	 * <p> - Computes the ripple coordinates by calling {@link #getRipplePositionFunction()} applied on the passed mouse event.
-	 * <p> - Creates the ripple by calling {@link #getRippleSupplier()}. Sets the center and fill properties of the ripple.
-	 * <p> - Creates the animations by calling {@link CircleRipple#getAnimation()}
-	 * <p> - If {@link #animateBackgroundProperty()} and {@link #animateShadowProperty()} are true, creates the respective animations
-	 * by calling {@link #getBackgroundAnimation()} and {@link #getShadowAnimation()}.
-	 * <p> - The animations are added to a {@link ParallelTransition} which is added to the animation stack.
+	 * <p> - Takes a free ripple from the pool, or creates it by calling {@link #getRippleSupplier()}. Sets the center and fill properties of the ripple.
+	 * <p> - Resets the pooled animations of the ripple, and the ones for the background and the shadow if
+	 * {@link #animateBackgroundProperty()} and {@link #animateShadowProperty()} are true. These work exactly like the ones built by
+	 * {@link CircleRipple#getAnimation()}, {@link #getBackgroundAnimation()} and {@link #getShadowAnimation()}. For subclasses of
+	 * {@link CircleRipple} the animation is still built by {@link CircleRipple#getAnimation()}.
+	 * <p> - The animations are played by a {@link ParallelTransition} which is added to the animation stack.
 	 * <p> - The ripple is added to the generator's children list.
 	 * <p> - The animation starts.
 	 *
@@ -128,36 +151,80 @@ public void generateRipple(MouseEvent event) {
 			return;
 		}
 
-		if (getClip() != null) {
-			setClip(null);
+		Node clip = clip();
+		if (getClip() != clip) {
+			setClip(clip);
 		}
-		setClip(buildClip());
 
 		PositionBean position = getRipplePositionFunction().apply(event);
 
-		CircleRipple ripple = getRippleSupplier().get();
+		RippleSlot slot = acquire();
+		CircleRipple ripple = slot.ripple;
 		ripple.centerXProperty().bind(position.xProperty());
 		ripple.centerYProperty().bind(position.yProperty());
 		ripple.setFill(getRippleColor());
 		ripple.setOpacity(getRippleOpacity());
 
-		Animation rippleAnimation = ripple.getAnimation();
+		Animation rippleAnimation = ripple.getClass() == CircleRipple.class ? slot.prepareRipple() : ripple.getAnimation();
 		rippleAnimation.setRate(getAnimationSpeed());
+		boolean background = isAnimateBackground() && slot.prepareBackground();
+		boolean shadow = isAnimateShadow() && slot.prepareShadow();
+		slot.setAnimations(rippleAnimation, background, shadow);
+
+		getChildren().add(ripple);
+		animationsStack.add(slot.transition);
+		slot.transition.playFromStart();
+	}
 
-		ParallelTransition transition = new ParallelTransition(rippleAnimation);
-		if (isAnimateBackground()) {
-			Animation backgroundAnimation = getBackgroundAnimation();
-			transition.getChildren().add(backgroundAnimation);
+	/**
+	 * Takes the first free ripple from the pool. If there are no free ripples, builds a new one, which is added to
+	 * the pool if its size is lower than {@link #poolSizeProperty()}.
+	 * <p>
+	 * Pooled ripples built by a different supplier than the current {@link #getRippleSupplier()} are discarded.
+	 */
+	private RippleSlot acquire() {
+		Supplier<CircleRipple> supplier = getRippleSupplier();
+		RippleSlot slot = null;
+		for (int i = 0; i < pool.size(); i++) {
+			RippleSlot pooled = pool.get(i);
+			if (pooled.busy) continue;
+			if (pooled.supplier != supplier) {
+				pool.remove(i--);
+				continue;
+			}
+			slot = pooled;
+			break;
 		}
-		if (isAnimateShadow()) {
-			Animation shadowAnimation = getShadowAnimation();
-			transition.getChildren().add(shadowAnimation);
+
+		if (slot != null) {
+			poolHits++;
+		} else {
+			slot = new RippleSlot(supplier);
+			if (pool.size() < getPoolSize()) pool.add(slot);
+			poolMisses++;
 		}
+		slot.busy = true;
+		if (poolStatsHook != null) poolStatsHook.accept(poolHits, poolMisses);
+		return slot;
+	}
 
-		transition.setOnFinished(end -> getChildren().remove(ripple));
-		getChildren().add(ripple);
-		animationsStack.add(transition);
-		transition.play();
+	/**
+	 * @return the clip built by {@link #buildClip()}, rebuilt only if the region's size or background, the
+	 * {@link #autoClipProperty()} or the clip supplier changed since the last call
+	 */
+	private Node clip() {
+		double width = region.getWidth();
+		double height = region.getHeight();
+		boolean auto = isAutoClip();
+		Object source = auto ? region.getBackground() : getClipSupplier();
+		if (clip == null || width != clipWidth || height != clipHeight || auto != clipAuto || source != clipSource) {
+			clip = buildClip();
+			clipWidth = width;
+			clipHeight = height;
+			clipAuto = auto;
+			clipSource = source;
+		}
+		return clip;
 	}
 
 	/**
@@ -321,6 +388,52 @@ public void setRadiusMultiplier(double radiusMultiplier) {
 		this.radiusMultiplier.set(radiusMultiplier);
 	}
 
+	public int getPoolSize() {
+		return poolSize.get();
+	}
+
+	/**
+	 * Specifies the maximum number of ripples kept by the generator to be reused.
+	 * <p>
+	 * When all the pooled ripples are animating, a new one is built and discarded at the end of its animation.
+	 */
+	public IntegerProperty poolSizeProperty() {
+		return poolSize;
+	}
+
+	public void setPoolSize(int poolSize) {
+		this.poolSize.set(poolSize);
+	}
+
+	/**
+	 * @return the number of generated ripples that reused a pooled ripple
+	 */
+	public long getPoolHits() {
+		return poolHits;
+	}
+
+	/**
+	 * @return the number of generated ripples that needed a new ripple to be built
+	 */
+	public long getPoolMisses() {
+		return poolMisses;
+	}
+
+	/**
+	 * Resets the pool hits and misses counters.
+	 */
+	public void resetPoolStats() {
+		poolHits = 0;
+		poolMisses = 0;
+	}
+
+	/**
+	 * Sets the action called every time a ripple is generated, the inputs are the current number of pool hits and misses.
+	 */
+	public void setPoolStatsHook(BiConsumer<Long, Long> poolStatsHook) {
+		this.poolStatsHook = poolStatsHook;
+	}
+
 
 	//================================================================================
 	// Override Methods
@@ -410,6 +523,234 @@ public void setXPosition(double xPosition) {
 		}
 	}
 
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * A pooled ripple, with its background shape and its animations.
+	 * <p>
+	 * The animations are {@link Transition}s that compute the animated values from the elapsed time, this way they
+	 * don't need to be rebuilt when the target values change, they are simply reset and played from the start.
+	 */
+	private class RippleSlot {
+		private final Supplier<CircleRipple> supplier;
+		private final CircleRipple ripple;
+		private final ParallelTransition transition = new ParallelTransition();
+		private boolean busy = false;
+
+		private final FrameTransition rippleTransition;
+		private double radius;
+		private double finalRadius;
+		private double startOpacity;
+		private boolean popped;
+
+		private final FrameTransition backgroundTransition;
+		private Shape background;
+		private Supplier<Shape> backgroundSupplier;
+		private double backgroundWidth = -1;
+		private double backgroundHeight = -1;
+		private double backgroundOpacity;
+		private boolean backgroundAdded;
+
+		private final FrameTransition shadowTransition;
+		private DropShadow shadowEffect;
+		private final double[] shadowStart = new double[4];
+		private final double[] shadowEnd = new double[4];
+
+		private RippleSlot(Supplier<CircleRipple> supplier) {
+			this.supplier = supplier;
+			this.ripple = supplier.get();
+
+			rippleTransition = new FrameTransition(1200) {
+				@Override
+				protected void update(double millis) {
+					updateRipple(millis);
+				}
+			};
+			backgroundTransition = new FrameTransition(450) {
+				@Override
+				protected void update(double millis) {
+					updateBackground(millis);
+				}
+			};
+			shadowTransition = new FrameTransition(700) {
+				@Override
+				protected void update(double millis) {
+					updateShadow(millis);
+				}
+			};
+
+			transition.setOnFinished(event -> {
+				getChildren().remove(ripple);
+				busy = false;
+			});
+		}
+
+		/**
+		 * Resets the ripple's animation, same as {@link CircleRipple#getAnimation()}.
+		 */
+		private Animation prepareRipple() {
+			double mul = isComputeRadiusMultiplier() ? computeRadiusMultiplier(ripple.xPosition) : getRadiusMultiplier();
+			radius = getRippleRadius();
+			finalRadius = radius * mul;
+			startOpacity = ripple.getOpacity();
+			popped = false;
+			return rippleTransition;
+		}
+
+		/**
+		 * Resets the background's animation, same as {@link #getBackgroundAnimation()}.
+		 * The shape is rebuilt only if the clip supplier or the region's size changed.
+		 */
+		private boolean prepareBackground() {
+			Supplier<Shape> clipSupplier = getClipSupplier();
+			if (clipSupplier == null) {
+				throw new NullPointerException("RippleGenerator cannot animate background because clip supplier is null!");
+			}
+
+			double width = region.getWidth();
+			double height = region.getHeight();
+			if (background == null || clipSupplier != backgroundSupplier || width != backgroundWidth || height != backgroundHeight) {
+				getChildren().remove(background);
+				background = clipSupplier.get();
+				if (background == null) {
+					throw new NullPointerException("RippleGenerator cannot animate background because clip supplier is null!");
+				}
+				backgroundSupplier = clipSupplier;
+				backgroundWidth = width;
+				backgroundHeight = height;
+			}
+			background.setFill(getRippleColor());
+			background.setOpacity(0);
+			backgroundOpacity = getBackgroundOpacity();
+			backgroundAdded = false;
+			return true;
+		}
+
+		/**
+		 * Resets the shadow's animation, same as {@link #getShadowAnimation()}.
+		 *
+		 * @return false if the region's effect is not a recognized {@link DropShadow}
+		 */
+		private boolean prepareShadow() {
+			shadowEffect = null;
+			if (!(region.getEffect() instanceof DropShadow)) return false;
+
+			DropShadow effect = (DropShadow) region.getEffect();
+			DepthLevel level = DepthLevel.from(effect);
+			if (level == null) return false;
+
+			int offset = getDepthLevelOffset();
+			if (level != shadowLevel || offset != shadowOffset || shadowEndEffect == null) {
+				shadowLevel = level;
+				shadowOffset = offset;
+				shadowEndEffect = MFXDepthManager.shadowOf(level, offset);
+			}
+			DropShadow end = shadowEndEffect;
+			shadowStart[0] = level.getSpread();
+			shadowStart[1] = level.getRadius();
+			shadowStart[2] = level.getOffsetX();
+			shadowStart[3] = level.getOffsetY();
+			shadowEnd[0] = end.getSpread();
+			shadowEnd[1] = end.getRadius();
+			shadowEnd[2] = end.getOffsetX();
+			shadowEnd[3] = end.getOffsetY();
+			shadowEffect = effect;
+			return true;
+		}
+
+		/**
+		 * Updates the animations played by the {@link ParallelTransition}, the list is changed only if needed.
+		 */
+		private void setAnimations(Animation rippleAnimation, boolean animateBackground, boolean animateShadow) {
+			List<Animation> children = transition.getChildren();
+			int size = 1 + (animateBackground ? 1 : 0) + (animateShadow ? 1 : 0);
+			if (children.size() == size &&
+					children.get(0) == rippleAnimation &&
+					(!animateBackground || children.get(1) == backgroundTransition) &&
+					(!animateShadow || children.get(size - 1) == shadowTransition)) {
+				return;
+			}
+
+			children.clear();
+			children.add(rippleAnimation);
+			if (animateBackground) children.add(backgroundTransition);
+			if (animateShadow) children.add(shadowTransition);
+		}
+
+		private void updateRipple(double millis) {
+			if (millis <= 150) {
+				ripple.setRadius(radius * millis / 150);
+			} else if (millis <= 400) {
+				ripple.setRadius(radius + (finalRadius - radius) * (millis - 150) / 250);
+			} else {
+				ripple.setRadius(finalRadius);
+			}
+			ripple.setOpacity(MFXAnimationFactory.INTERPOLATOR_V2.interpolate(startOpacity, 0.0, millis / 1200));
+
+			if (!popped && millis >= 500) {
+				popped = true;
+				animationsStack.pop();
+			}
+		}
+
+		private void updateBackground(double millis) {
+			if (!backgroundAdded) {
+				backgroundAdded = true;
+				getChildren().add(0, background);
+			}
+			if (millis <= 300) {
+				background.setOpacity(backgroundOpacity * millis / 300);
+			} else {
+				background.setOpacity(backgroundOpacity * Math.max(0, 1 - (millis - 300) / 150));
+			}
+			if (millis >= 450) {
+				getChildren().remove(background);
+			}
+		}
+
+		private void updateShadow(double millis) {
+			if (shadowEffect == null) return;
+			double[] from;
+			double[] to;
+			double frac;
+			if (millis <= 350) {
+				from = shadowStart;
+				to = shadowEnd;
+				frac = millis / 350;
+			} else {
+				from = shadowEnd;
+				to = shadowStart;
+				frac = Math.min(1, (millis - 350) / 350);
+			}
+			shadowEffect.setSpread(from[0] + (to[0] - from[0]) * frac);
+			shadowEffect.setRadius(from[1] + (to[1] - from[1]) * frac);
+			shadowEffect.setOffsetX(from[2] + (to[2] - from[2]) * frac);
+			shadowEffect.setOffsetY(from[3] + (to[3] - from[3]) * frac);
+		}
+	}
+
+	/**
+	 * A linear {@link Transition} that passes the elapsed time in milliseconds to {@link #update(double)}.
+	 */
+	private abstract static class FrameTransition extends Transition {
+		private final double millis;
+
+		private FrameTransition(double millis) {
+			this.millis = millis;
+			setCycleDuration(Duration.millis(millis));
+			setInterpolator(Interpolator.LINEAR);
+		}
+
+		@Override
+		protected void interpolate(double frac) {
+			update(frac * millis);
+		}
+
+		protected abstract void update(double millis);
+	}
+
 	//================================================================================
 	// Styleable Properties
 	//================================================================================
@@ -26,7 +26,9 @@
  * Enumerator to define the level of caching used by {@link MFXLoader}.
  * <p>
  * By enabling cache the switch performance vastly improves
- * but the views cannot be loaded in parallel (quite acceptable loss in some cases).
+ * but the views cannot be cached in parallel (quite acceptable loss in some cases).
+ * With {@link MFXLoader#startConcurrent(java.util.concurrent.Executor)} the views are still loaded in parallel,
+ * only the caching is done on the JavaFX thread.
  */
 public enum LoaderCacheLevel {
 	/**
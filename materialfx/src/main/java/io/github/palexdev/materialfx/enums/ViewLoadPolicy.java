@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.enums;
+
+import io.github.palexdev.materialfx.utils.others.loader.MFXLoader;
+import io.github.palexdev.materialfx.utils.others.loader.MFXLoaderBean;
+
+/**
+ * Enumeration to specify when a {@link MFXLoaderBean} should be loaded by the {@link MFXLoader}.
+ */
+public enum ViewLoadPolicy {
+
+	/**
+	 * The view is loaded when the loader starts, ordered by priority.
+	 */
+	EAGER,
+
+	/**
+	 * The view is loaded in background, one at a time, after all the {@link #EAGER} views have been loaded.
+	 */
+	IDLE,
+
+	/**
+	 * The view is loaded only when requested, see {@link MFXLoader#loadView(String)}.
+	 */
+	LAZY
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.filter;
+
+import io.github.palexdev.materialfx.beans.FilterBean;
+import io.github.palexdev.materialfx.collections.ColumnarProjection;
+import io.github.palexdev.materialfx.collections.ColumnarProjection.DoubleColumn;
+import io.github.palexdev.materialfx.collections.ColumnarProjection.IntColumn;
+import io.github.palexdev.materialfx.collections.ColumnarProjection.LongColumn;
+import io.github.palexdev.materialfx.collections.ColumnarProjection.ObjectColumn;
+import io.github.palexdev.materialfx.collections.IndexedPredicate;
+import io.github.palexdev.materialfx.enums.ChainMode;
+import io.github.palexdev.materialfx.filter.base.AbstractFilter;
+import io.github.palexdev.materialfx.utils.PredicateUtils;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Utility class to compile a list of {@link FilterBean}s into a single {@link Predicate}.
+ * <p></p>
+ * The result is the same of chaining every {@link FilterBean#predicate()} with {@link PredicateUtils#chain(Predicate, Predicate, ChainMode)},
+ * but the evaluation is much cheaper:
+ * <p> - Consecutive filters with the same {@link ChainMode} are flattened into a single group which short-circuits,
+ * and the conditions in a group are ordered by their estimated cost, so that cheap conditions are evaluated first
+ * <p> - Every query is converted only once, at compile time
+ * <p> - When more than one filter uses the same extractor function, the field is extracted only once per item
+ * <p> - The default predicates of {@link IntegerFilter}, {@link LongFilter}, {@link FloatFilter} and {@link DoubleFilter}
+ * are replaced by primitive comparisons
+ * <p> - The default "ignore case" predicates of {@link StringFilter} use a case-folded copy of the query computed at compile time
+ * <p></p>
+ * Optionally, the fields can be read from a {@link ColumnarProjection}, see {@link #compile(List, ColumnarProjection)}.
+ * The fields of number filters using the default predicates are stored in primitive columns.
+ * <p></p>
+ * Since conditions may be re-ordered, extractors and predicates must be side-effect free.
+ */
+public class FilterCompiler {
+	//================================================================================
+	// Static Properties
+	//================================================================================
+	private static final Object UNSET = new Object();
+	private static final int PRIMITIVE_COST = 1;
+	private static final int STRING_COST = 2;
+	private static final int FOLDED_COST = 3;
+	private static final int CONTAINS_COST = 4;
+	private static final int FOLDED_CONTAINS_COST = 5;
+	private static final int GENERIC_COST = 8;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	private FilterCompiler() {
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Compiles the given {@link FilterBean}s into a single {@link Predicate}.
+	 * <p>
+	 * Beans are chained in order, from left to right, and the mode of each bean specifies how it is
+	 * chained with the next one.
+	 * <p>
+	 * If the list is empty, a predicate that always returns true is returned.
+	 */
+	public static <T> Predicate<T> compile(List<? extends FilterBean<T, ?>> beans) {
+		return compile(beans, null);
+	}
+
+	/**
+	 * Compiles the given {@link FilterBean}s into a single {@link Predicate}, same as {@link #compile(List)}.
+	 * <p>
+	 * If the given {@link ColumnarProjection} is not null, the fields extracted by the filters are projected, and
+	 * the result is an {@link IndexedPredicate} which reads them from the projection's columns rather than invoking the extractors.
+	 */
+	public static <T> Predicate<T> compile(List<? extends FilterBean<T, ?>> beans, ColumnarProjection<T> projection) {
+		if (beans.isEmpty()) return t -> true;
+
+		Map<Function<?, ?>, Integer> usages = new IdentityHashMap<>();
+		for (FilterBean<T, ?> bean : beans) {
+			usages.merge(bean.getFilter().getExtractor(), 1, Integer::sum);
+		}
+		Map<Function<?, ?>, Integer> slots = new IdentityHashMap<>();
+		for (Map.Entry<Function<?, ?>, Integer> entry : usages.entrySet()) {
+			if (entry.getValue() > 1) slots.put(entry.getKey(), slots.size());
+		}
+
+		Node<T> root = null;
+		boolean and = false;
+		for (FilterBean<T, ?> bean : beans) {
+			Node<T> condition = condition(bean, slots, projection);
+			if (root == null) {
+				root = condition;
+			} else if (root instanceof Group && ((Group<T>) root).and == and) {
+				((Group<T>) root).nodes.add(condition);
+			} else {
+				root = new Group<>(and, root, condition);
+			}
+			and = bean.getMode() == ChainMode.AND;
+		}
+		root.optimize();
+
+		Node<T> evaluator = root;
+		int slotsCount = slots.size();
+		Predicate<T> predicate;
+		if (slotsCount == 0) {
+			predicate = t -> evaluator.test(t, null);
+		} else {
+			predicate = t -> {
+				Object[] values = new Object[slotsCount];
+				Arrays.fill(values, UNSET);
+				return evaluator.test(t, values);
+			};
+		}
+		if (projection == null) return predicate;
+
+		return new IndexedPredicate<>() {
+			@Override
+			public boolean testIndex(int index) {
+				return evaluator.testIndex(index);
+			}
+
+			@Override
+			public boolean test(T t) {
+				return predicate.test(t);
+			}
+		};
+	}
+
+	/**
+	 * Converts the given {@link FilterBean} to a {@link Condition}.
+	 * <p>
+	 * The query is converted once, and if the bean uses one of the default predicates of its filter, see
+	 * {@link AbstractFilter#getDefaultPredicates()}, a specialized test is used.
+	 * <p>
+	 * If the given {@link ColumnarProjection} is not null, the filter's extractor is projected. Number filters using one
+	 * of the default predicates are projected to an int, long or double column, so that their values are tested without unboxing.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T, U> Node<T> condition(FilterBean<T, U> bean, Map<Function<?, ?>, Integer> slots, ColumnarProjection<T> projection) {
+		AbstractFilter<T, U> filter = bean.getFilter();
+		Function<T, U> extractor = filter.getExtractor();
+		U query = filter.getValue(bean.getQuery());
+		int op = filter.getDefaultPredicates().indexOf(bean.getPredicateBean());
+		Class<?> type = filter.getClass();
+
+		Predicate<U> test = null;
+		IntPredicate indexTest = null;
+		int cost = GENERIC_COST;
+		if (op >= 0 && query != null) {
+			if (type == IntegerFilter.class || type == LongFilter.class) {
+				LongPredicate primitive = longTest(op, ((Number) query).longValue());
+				if (primitive != null) {
+					test = value -> primitive.test(((Number) value).longValue());
+					cost = PRIMITIVE_COST;
+					if (projection != null && type == IntegerFilter.class) {
+						IntColumn<T> column = projection.unboxInt((Function<T, ? extends Number>) extractor);
+						indexTest = index -> primitive.test(column.getInt(index));
+					} else if (projection != null) {
+						LongColumn<T> column = projection.unboxLong((Function<T, ? extends Number>) extractor);
+						indexTest = index -> primitive.test(column.getLong(index));
+					}
+				}
+			} else if (type == FloatFilter.class || type == DoubleFilter.class) {
+				DoublePredicate primitive = doubleTest(op, ((Number) query).doubleValue());
+				if (primitive != null) {
+					test = value -> primitive.test(((Number) value).doubleValue());
+					cost = PRIMITIVE_COST;
+					if (projection != null) {
+						DoubleColumn<T> column = projection.unboxDouble((Function<T, ? extends Number>) extractor);
+						indexTest = index -> primitive.test(column.getDouble(index));
+					}
+				}
+			} else if (type == StringFilter.class) {
+				test = (Predicate<U>) stringTest(op, (String) query);
+				cost = stringCost(op);
+			}
+		}
+		if (test == null) {
+			BiPredicate<U, U> predicate = bean.getPredicateBean().predicate();
+			test = value -> predicate.test(value, query);
+			cost = GENERIC_COST;
+		}
+
+		if (projection != null && indexTest == null) {
+			ObjectColumn<T, U> column = projection.project(extractor);
+			Predicate<U> objectTest = test;
+			indexTest = index -> objectTest.test(column.get(index));
+		}
+		return new Condition<>(extractor, slots.getOrDefault(extractor, -1), indexTest, test, cost);
+	}
+
+	/**
+	 * Primitive counterparts of the default {@link IntegerFilter} and {@link LongFilter} predicates.
+	 */
+	private static LongPredicate longTest(int op, long query) {
+		switch (op) {
+			case 0:
+				return value -> value == query;
+			case 1:
+				return value -> value != query;
+			case 2:
+				return value -> value > query;
+			case 3:
+				return value -> value >= query;
+			case 4:
+				return value -> value < query;
+			case 5:
+				return value -> value <= query;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Primitive counterparts of the default {@link FloatFilter} and {@link DoubleFilter} predicates.
+	 * <p>
+	 * Equality uses {@link Double#compare(double, double)} to retain the semantics of {@link Double#equals(Object)}.
+	 */
+	private static DoublePredicate doubleTest(int op, double query) {
+		switch (op) {
+			case 0:
+				return value -> Double.compare(value, query) == 0;
+			case 1:
+				return value -> Double.compare(value, query) != 0;
+			case 2:
+				return value -> value > query;
+			case 3:
+				return value -> value >= query;
+			case 4:
+				return value -> value < query;
+			case 5:
+				return value -> value <= query;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Specialized counterparts of the default {@link StringFilter} predicates.
+	 * <p>
+	 * "contains any" and "contains all" are not specialized.
+	 */
+	private static Predicate<String> stringTest(int op, String query) {
+		char[] folded = fold(query);
+		switch (op) {
+			case 0:
+				return value -> value.contains(query);
+			case 1:
+				return value -> value != null && containsFolded(value, folded);
+			case 4:
+				return value -> value.endsWith(query);
+			case 5:
+				return value -> value.length() >= folded.length && matchesFolded(value, value.length() - folded.length, folded);
+			case 6:
+				return value -> value.equals(query);
+			case 7:
+				return value -> value.length() == folded.length && matchesFolded(value, 0, folded);
+			case 8:
+				return value -> !value.equals(query);
+			case 9:
+				return value -> value.startsWith(query);
+			case 10:
+				return value -> value.length() >= folded.length && matchesFolded(value, 0, folded);
+			default:
+				return null;
+		}
+	}
+
+	private static int stringCost(int op) {
+		switch (op) {
+			case 0:
+				return CONTAINS_COST;
+			case 1:
+				return FOLDED_CONTAINS_COST;
+			case 5:
+			case 7:
+			case 10:
+				return FOLDED_COST;
+			default:
+				return STRING_COST;
+		}
+	}
+
+	/**
+	 * Case-folds the given String the same way {@link String#regionMatches(boolean, int, String, int, int)} compares
+	 * characters when ignoring case.
+	 */
+	private static char[] fold(String str) {
+		char[] chars = str.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = fold(chars[i]);
+		}
+		return chars;
+	}
+
+	private static char fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	/**
+	 * Checks if the given String contains the given case-folded chars, ignoring case.
+	 */
+	private static boolean containsFolded(String str, char[] folded) {
+		int max = str.length() - folded.length;
+		if (folded.length == 0) return max >= 0;
+		char first = folded[0];
+		for (int i = 0; i <= max; i++) {
+			if (fold(str.charAt(i)) == first && matchesFolded(str, i, folded)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if the region of the given String starting at the given offset matches the given case-folded chars, ignoring case.
+	 */
+	private static boolean matchesFolded(String str, int offset, char[] folded) {
+		for (int i = 0; i < folded.length; i++) {
+			if (fold(str.charAt(offset + i)) != folded[i]) return false;
+		}
+		return true;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Base class for the nodes of a compiled filter.
+	 * <p>
+	 * The values array is used to cache the fields extracted from an item, it's null if no extractor is shared.
+	 * <p>
+	 * Nodes can also test an item by its index, in which case the fields are read from a {@link ColumnarProjection}.
+	 */
+	private abstract static class Node<T> {
+		abstract boolean test(T item, Object[] values);
+
+		abstract boolean testIndex(int index);
+
+		abstract int cost();
+
+		void optimize() {
+		}
+	}
+
+	/**
+	 * A group of nodes chained with the same {@link ChainMode}, the evaluation short-circuits.
+	 */
+	private static class Group<T> extends Node<T> {
+		private final boolean and;
+		private final List<Node<T>> nodes = new ArrayList<>();
+		private int cost;
+
+		Group(boolean and, Node<T> first, Node<T> second) {
+			this.and = and;
+			nodes.add(first);
+			nodes.add(second);
+		}
+
+		@Override
+		boolean test(T item, Object[] values) {
+			for (int i = 0; i < nodes.size(); i++) {
+				if (nodes.get(i).test(item, values) != and) return !and;
+			}
+			return and;
+		}
+
+		@Override
+		boolean testIndex(int index) {
+			for (int i = 0; i < nodes.size(); i++) {
+				if (nodes.get(i).testIndex(index) != and) return !and;
+			}
+			return and;
+		}
+
+		@Override
+		int cost() {
+			return cost;
+		}
+
+		/**
+		 * Optimizes the children and then sorts them by cost.
+		 */
+		@Override
+		void optimize() {
+			cost = 0;
+			for (Node<T> node : nodes) {
+				node.optimize();
+				cost += node.cost();
+			}
+			nodes.sort(Comparator.comparingInt(Node::cost));
+		}
+	}
+
+	/**
+	 * A single condition which extracts a field from an item, or retrieves it from the values cache, and tests it.
+	 * <p>
+	 * When testing by index, the field is read from the projected column by the index test built at compile time.
+	 */
+	private static class Condition<T, U> extends Node<T> {
+		private final Function<T, U> extractor;
+		private final int slot;
+		private final IntPredicate indexTest;
+		private final Predicate<U> test;
+		private final int cost;
+
+		Condition(Function<T, U> extractor, int slot, IntPredicate indexTest, Predicate<U> test, int cost) {
+			this.extractor = extractor;
+			this.slot = slot;
+			this.indexTest = indexTest;
+			this.test = test;
+			this.cost = cost;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		boolean test(T item, Object[] values) {
+			if (slot < 0) return test.test(extractor.apply(item));
+			Object value = values[slot];
+			if (value == UNSET) {
+				value = extractor.apply(item);
+				values[slot] = value;
+			}
+			return test.test((U) value);
+		}
+
+		@Override
+		boolean testIndex(int index) {
+			return indexTest.test(index);
+		}
+
+		@Override
+		int cost() {
+			return cost;
+		}
+	}
+}
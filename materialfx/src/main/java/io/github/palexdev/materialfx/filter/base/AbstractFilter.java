@@ -27,6 +27,7 @@
 import javafx.collections.ObservableList;
 import javafx.util.StringConverter;
 
+import java.util.List;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -64,6 +65,10 @@
  * <p> Every filter has a name, see {@link MFXFilterPane} documentation for an example
  * <p> {@link BiPredicate}s are wrapped in a {@link BiPredicateBean}
  * <p> The BiPredicate to use is "selected" with an index property (ideal for comboboxes), see {@link #predicateFor(String)}.
+ * <p></p>
+ * <b>N.B:</b> produced {@link Predicate}s may be evaluated concurrently by multiple threads, for example when a
+ * {@link io.github.palexdev.materialfx.collections.TransformableList} filters in parallel. For this reason, the extractor
+ * function and the {@link BiPredicate}s must be side-effect free and thread-safe.
  *
  * @param <T> the type of objects to filter
  * @param <U> the objects' field on which to operate
@@ -75,6 +80,7 @@
 	private final String name;
 	private final Function<T, U> extractor;
 	protected final ObservableList<BiPredicateBean<U, U>> predicates;
+	private final List<BiPredicateBean<U, U>> defaults;
 	protected final IntegerProperty selectedPredicateIndex = new SimpleIntegerProperty(-1);
 	protected final StringConverter<U> converter;
 
@@ -86,6 +92,7 @@ public AbstractFilter(String name, Function<T, U> extractor, StringConverter<U>
 		this.extractor = extractor;
 		this.converter = converter;
 		this.predicates = defaultPredicates();
+		this.defaults = List.copyOf(predicates);
 	}
 
 	//================================================================================
@@ -234,6 +241,14 @@ public ObservableList<BiPredicateBean<U, U>> getPredicates() {
 		return predicates;
 	}
 
+	/**
+	 * @return an unmodifiable list containing the {@link BiPredicateBean}s built by {@link #defaultPredicates()},
+	 * regardless of any later change to {@link #getPredicates()}
+	 */
+	public List<BiPredicateBean<U, U>> getDefaultPredicates() {
+		return defaults;
+	}
+
 	public int getSelectedPredicateIndex() {
 		return selectedPredicateIndex.get();
 	}
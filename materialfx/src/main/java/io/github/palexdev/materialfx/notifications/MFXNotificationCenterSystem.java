@@ -39,6 +39,9 @@
 import javafx.stage.Window;
 import javafx.stage.WindowEvent;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static io.github.palexdev.materialfx.utils.PositionUtils.*;
 
 /**
@@ -59,6 +62,7 @@ public static MFXNotificationCenterSystem instance() {
 	// Properties
 	//================================================================================
 	private final MFXNotificationCenter center;
+	private final List<INotification> reopen = new ArrayList<>();
 	private boolean openOnNew = true;
 	private boolean centerInit = false;
 
@@ -127,14 +131,10 @@ protected void init() {
 	}
 
 	/**
-	 * If the notification system is closing, exits and {@link #scheduleReopen(INotification)} is called.
-	 * <p>
-	 * Adds the notification to the {@link MFXNotificationCenter} then if the notification system is set
-	 * to close automatically starts the close {@link PauseTransition}.
+	 * Submits the notification to the {@link #getPublisher()}, can be called from any thread.
 	 * <p>
-	 * If the notification center is in "Do not disturb mode" exits immediately otherwise
-	 * shows the popup (the content is still hidden tough so it's not really open), then shown
-	 * the bell icon and if {@link #isOpenOnNew()} is true, {@link #show()} is called.
+	 * Notifications published in the same pulse are then added to the center all at once,
+	 * see {@link #publishBatch(List)}.
 	 *
 	 * @throws IllegalStateException if the notification system has not been initialized
 	 */
@@ -144,29 +144,49 @@ public INotificationSystem publish(INotification notification) {
 
 		if (owner == null) {
 			throw new IllegalStateException("The NotificationSystem has not been initialized!");
-		} else if (isClosing()) {
-			scheduleReopen(notification);
-		} else {
-			center.getNotifications().add(notification);
-			if (closeAutomatically) {
-				closeAfterTransition.playFromStart();
-			}
+		}
+		publisher.submit(notification);
+		return this;
+	}
+
+	/**
+	 * If the notification system is closing, exits and {@link #scheduleReopen(INotification)} is called
+	 * for the given notifications.
+	 * <p>
+	 * Adds the notifications to the {@link MFXNotificationCenter} with a single change, then if the notification system is set
+	 * to close automatically starts the close {@link PauseTransition}.
+	 * <p>
+	 * If the notification center is in "Do not disturb mode" exits immediately otherwise
+	 * shows the popup (the content is still hidden tough so it's not really open), then shown
+	 * the bell icon and if {@link #isOpenOnNew()} is true, {@link #show()} is called.
+	 */
+	@Override
+	protected void publishBatch(List<INotification> notifications) {
+		if (owner == null) return;
 
-			if (!isShowing() && !center.isDoNotDisturb()) {
-				init();
-				popup.show(owner);
+		if (isClosing()) {
+			notifications.forEach(this::scheduleReopen);
+			return;
+		}
 
-				if (animated) {
-					TimelineBuilder.build().show(250, center).getAnimation().play();
-				} else {
-					center.setOpacity(1.0);
-				}
-				if (openOnNew) {
-					show();
-				}
+		center.getNotifications().addAll(notifications);
+		if (closeAutomatically) {
+			closeAfterTransition.playFromStart();
+		}
+
+		if (!isShowing() && !center.isDoNotDisturb()) {
+			init();
+			popup.show(owner);
+
+			if (animated) {
+				TimelineBuilder.build().show(250, center).getAnimation().play();
+			} else {
+				center.setOpacity(1.0);
+			}
+			if (openOnNew) {
+				show();
 			}
 		}
-		return this;
 	}
 
 	/**
@@ -238,14 +258,21 @@ protected void close() {
 	}
 
 	/**
-	 * Adds a one-time listener to the closing property so that when it becomes
-	 * false the notification that could not be shown will be sent to {@link #publish(INotification)} again.
+	 * Adds the notification to the list of notifications to reopen. When the list was empty, also adds a one-time
+	 * listener to the closing property so that when it becomes false all the notifications that could not be shown
+	 * are sent to {@link #publishBatch(List)} again.
 	 */
 	@Override
 	protected void scheduleReopen(INotification notification) {
+		reopen.add(notification);
+		if (reopen.size() > 1) return;
 		ExecutionUtils.executeWhen(
 				closing,
-				(oldValue, newValue) -> publish(notification),
+				(oldValue, newValue) -> {
+					List<INotification> notifications = new ArrayList<>(reopen);
+					reopen.clear();
+					publishBatch(notifications);
+				},
 				false,
 				(oldValue, newValue) -> !newValue,
 				true
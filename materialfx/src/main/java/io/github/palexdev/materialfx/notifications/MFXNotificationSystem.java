@@ -40,7 +40,8 @@
 import javafx.stage.WindowEvent;
 import javafx.util.Duration;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 
 import static io.github.palexdev.materialfx.utils.PositionUtils.*;
@@ -48,8 +49,11 @@
 /**
  * Simple implementation of an {@link AbstractMFXNotificationSystem} which makes use of
  * a {@link CircularQueue} to keep a history of the shown notifications (by default max size is 100),
- * and a list to keep a reference to queued notifications that can't be shown at the moment of {@link #publish(INotification)}
+ * and a queue to keep a reference to queued notifications that can't be shown at the moment of {@link #publish(INotification)}
  * and that will be sent to {@link #scheduleReopen(INotification)} instead.
+ * <p>
+ * The queue is bounded (by default max size is 100, see {@link #setQueueLimit(int)}), when it's full the oldest
+ * notifications are discarded and counted as dropped by the {@link #getPublisher()}.
  */
 public class MFXNotificationSystem extends AbstractMFXNotificationSystem {
 	//================================================================================
@@ -65,7 +69,9 @@ public static MFXNotificationSystem instance() {
 	// Properties
 	//================================================================================
 	private final CircularQueue<INotification> notifications = new CircularQueue<>(100);
-	private final List<INotification> queued = new ArrayList<>();
+	private final Deque<INotification> queued = new ArrayDeque<>();
+	private int queueLimit = 100;
+	private boolean reopenScheduled = false;
 	private final Group notificationContainer;
 
 	//================================================================================
@@ -116,14 +122,9 @@ protected void init() {
 	}
 
 	/**
-	 * If the notification system is showing/closing, exits and {@link #scheduleReopen(INotification)} is called.
+	 * Submits the notification to the {@link #getPublisher()}, can be called from any thread.
 	 * <p>
-	 * Adds the notification to the notifications queue then if the notification system is set
-	 * to close automatically starts the close {@link PauseTransition}.
-	 * <p>
-	 * Shows the popup (the content is still hidden tough so it's not really open), then forces
-	 * the notification container to compute its bounds (should not be necessary though), shown the content
-	 * and calls {@link #show()}.
+	 * Notifications published in the same pulse are then delivered all at once, see {@link #publishBatch(List)}.
 	 *
 	 * @throws IllegalStateException if the notification system has not been initialized
 	 */
@@ -133,34 +134,61 @@ public MFXNotificationSystem publish(INotification notification) {
 
 		if (owner == null) {
 			throw new IllegalStateException("The NotificationSystem has not been initialized!");
-		} else if (isClosing() || isShowing()) {
-			scheduleReopen(notification);
-		} else {
-			notifications.add(notification);
-			if (closeAutomatically) {
-				closeAfterTransition.playFromStart();
-			}
-
-			if (!isShowing()) {
-				init();
-				popup.show(owner);
-
-				notificationContainer.getChildren().setAll(notification.getContent());
-				notificationContainer.applyCss();
-				notificationContainer.layout();
-
-				//popup.setY(screen.getBounds().getWidth());
-				if (animated) {
-					TimelineBuilder.build().show(400, notificationContainer).getAnimation().play();
-				} else {
-					notificationContainer.setOpacity(1.0);
-				}
-				show();
-			}
 		}
+		publisher.submit(notification);
 		return this;
 	}
 
+	/**
+	 * Shows the first of the given notifications, see {@link #display(INotification)}, the others are
+	 * sent to {@link #scheduleReopen(INotification)}.
+	 * <p>
+	 * If there are already queued notifications, all of them are queued to preserve the order.
+	 */
+	@Override
+	protected void publishBatch(List<INotification> batch) {
+		if (owner == null) return;
+		for (INotification notification : batch) {
+			if (!queued.isEmpty() || !display(notification)) scheduleReopen(notification);
+		}
+	}
+
+	/**
+	 * If the notification system is showing/closing, exits and returns false.
+	 * <p>
+	 * Adds the notification to the notifications queue then if the notification system is set
+	 * to close automatically starts the close {@link PauseTransition}.
+	 * <p>
+	 * Shows the popup (the content is still hidden tough so it's not really open), then forces
+	 * the notification container to compute its bounds (should not be necessary though), shown the content
+	 * and calls {@link #show()}.
+	 *
+	 * @return whether the notification has been shown
+	 */
+	protected boolean display(INotification notification) {
+		if (isClosing() || isShowing()) return false;
+
+		notifications.add(notification);
+		if (closeAutomatically) {
+			closeAfterTransition.playFromStart();
+		}
+
+		init();
+		popup.show(owner);
+
+		notificationContainer.getChildren().setAll(notification.getContent());
+		notificationContainer.applyCss();
+		notificationContainer.layout();
+
+		if (animated) {
+			TimelineBuilder.build().show(400, notificationContainer).getAnimation().play();
+		} else {
+			notificationContainer.setOpacity(1.0);
+		}
+		show();
+		return true;
+	}
+
 	/**
 	 * Sets the showing property to true, computes the popup position as a {@link TransitionPositionBean},
 	 * then positions the popup (animated or not).
@@ -213,23 +241,39 @@ protected void close() {
 	}
 
 	/**
-	 * Adds the notification to the queued notifications list, then adds a one-time listener to the closing property
-	 * so that when it becomes false a notification is removed from the queue and then
-	 * sent to {@link #publish(INotification)} again.
+	 * Adds the notification to the queued notifications, if the queue is full the oldest notification is discarded.
+	 * Then calls {@link #scheduleNext()}.
 	 */
 	@Override
 	protected void scheduleReopen(INotification notification) {
-		queued.add(notification);
+		queued.addLast(notification);
+		while (queued.size() > Math.max(1, queueLimit)) {
+			queued.pollFirst();
+			publisher.addDropped(1);
+		}
+		scheduleNext();
+	}
+
+	/**
+	 * If not already done, adds a one-time listener to the closing property so that when it becomes false
+	 * a notification is removed from the queue and then sent to {@link #display(INotification)}.
+	 * If it still can't be shown, it's put back at the head of the queue.
+	 */
+	private void scheduleNext() {
+		if (reopenScheduled) return;
+		reopenScheduled = true;
 		ExecutionUtils.executeWhen(
 				closing,
-				(oldValue, newValue) -> {
-					if (!queued.isEmpty()) {
-						PauseBuilder.build()
-								.setDuration(300)
-								.setOnFinished(event -> publish(queued.remove(0)))
-								.getAnimation().play();
-					}
-				},
+				(oldValue, newValue) -> PauseBuilder.build()
+						.setDuration(300)
+						.setOnFinished(event -> {
+							reopenScheduled = false;
+							INotification next = queued.pollFirst();
+							if (next == null) return;
+							if (!display(next)) queued.addFirst(next);
+							if (!queued.isEmpty()) scheduleNext();
+						})
+						.getAnimation().play(),
 				false,
 				(oldValue, newValue) -> !newValue,
 				true
@@ -296,4 +340,19 @@ public MFXNotificationSystem setHistoryLimit(int size) {
 		notifications.setSize(size);
 		return this;
 	}
+
+	/**
+	 * @return the maximum number of notifications waiting to be shown
+	 */
+	public int getQueueLimit() {
+		return queueLimit;
+	}
+
+	/**
+	 * Sets the maximum number of notifications waiting to be shown, when exceeded the oldest ones are discarded.
+	 */
+	public MFXNotificationSystem setQueueLimit(int queueLimit) {
+		this.queueLimit = queueLimit;
+		return this;
+	}
 }
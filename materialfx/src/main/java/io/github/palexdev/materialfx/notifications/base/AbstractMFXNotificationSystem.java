@@ -31,6 +31,8 @@
 import javafx.stage.*;
 import javafx.util.Duration;
 
+import java.util.List;
+
 /**
  * Base class to define a notification system.
  * <p></p>
@@ -42,6 +44,8 @@
  * <p> - Allows to specify some extra spacing between the screen's borders and the notification
  * <p> - By default is animated but it can also be disabled
  * <p> - By default notifications will close automatically after 3 seconds (by default)
+ * <p> - A {@link NotificationPublisher} which implementations can use to accept notifications from any thread,
+ * with rate limiting and deduplication, and to receive them in batches on the JavaFX thread, see {@link #publishBatch(List)}
  * <p></p>
  * To fix issue #80 and similar, the notification system do not uses the focused window anymore but
  * it has its own "dummy" stage. It is a UTILITY stage, so that no icon appear in the taskbar, and its opacity is 0.
@@ -89,6 +93,8 @@ public abstract class AbstractMFXNotificationSystem implements INotificationSyst
 	protected final ResettableBooleanProperty showing = new ResettableBooleanProperty(false, false);
 	protected final ResettableBooleanProperty closing = new ResettableBooleanProperty(false, false);
 
+	protected final NotificationPublisher publisher = new NotificationPublisher(this::publishBatch);
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -143,6 +149,14 @@ protected AbstractMFXNotificationSystem() {
 	 */
 	protected void init() {}
 
+	/**
+	 * Called on the JavaFX thread by the {@link NotificationPublisher} with the notifications submitted since
+	 * the last pulse, in the order they were submitted.
+	 * <p>
+	 * Default implementation is empty, implementations that submit notifications to the publisher must override this.
+	 */
+	protected void publishBatch(List<INotification> notifications) {}
+
 	//================================================================================
 	// Getters/Setters
 	//================================================================================
@@ -261,6 +275,14 @@ public AbstractMFXNotificationSystem setCloseAfter(Duration closeAfter) {
 		return this;
 	}
 
+	/**
+	 * @return the {@link NotificationPublisher} used by this notification system, allows to configure
+	 * the rate limit and the deduplication, and to read the dropped/merged counters
+	 */
+	public NotificationPublisher getPublisher() {
+		return publisher;
+	}
+
 	/**
 	 * @return whether the notification system is showing a notification
 	 */
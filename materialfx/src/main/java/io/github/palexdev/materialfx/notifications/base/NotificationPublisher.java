@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.notifications.base;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Pipeline used by notification systems to accept notifications from any thread and deliver them
+ * to the JavaFX thread in batches.
+ * <p></p>
+ * Notifications submitted with {@link #submit(INotification)} go through the following steps:
+ * <p> - Rate limit: if more than {@link #getRateLimit()} notifications have been accepted in the last second,
+ * the notification is dropped
+ * <p> - Deduplication: if a {@link #getDedupKey()} function is set and a notification with the same key has been
+ * accepted in the last {@link #getDedupWindow()}, the notification is merged, in other words discarded
+ * <p> - Capacity: if there are already {@link #getCapacity()} notifications waiting to be delivered, the notification
+ * is dropped
+ * <p> - Otherwise, the notification is added to a lock-free queue
+ * <p></p>
+ * The queue is drained on the JavaFX thread by an {@link AnimationTimer}, which runs only while there are pending
+ * notifications. At each pulse at most {@link #getMaxBatchSize()} notifications are removed from the queue and passed to
+ * the consumer as a single batch, so that bursts are coalesced in few list updates/animations instead of one per notification,
+ * and the work per frame is bounded.
+ * <p></p>
+ * The number of dropped and merged notifications is available through {@link #getDroppedCount()} and {@link #getMergedCount()}.
+ */
+public class NotificationPublisher {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Queue<INotification> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final AtomicBoolean scheduled = new AtomicBoolean(false);
+	private final Consumer<List<INotification>> consumer;
+	private final AnimationTimer drainer;
+
+	private volatile int rateLimit = 0;
+	private volatile int capacity = 1000;
+	private volatile int maxBatchSize = 100;
+	private volatile Function<INotification, Object> dedupKey;
+	private volatile Duration dedupWindow = Duration.seconds(1);
+	private final Map<Object, Long> dedupTimes = new ConcurrentHashMap<>();
+
+	private long windowStart = 0;
+	private int windowCount = 0;
+
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong merged = new AtomicLong();
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public NotificationPublisher(Consumer<List<INotification>> consumer) {
+		this.consumer = consumer;
+		this.drainer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				drain();
+			}
+		};
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Submits the given notification to the pipeline, can be called from any thread.
+	 *
+	 * @return true if the notification has been queued, false if it has been dropped or merged
+	 */
+	public boolean submit(INotification notification) {
+		if (notification == null) return false;
+		long now = System.nanoTime();
+
+		if (!acquire(now)) {
+			dropped.incrementAndGet();
+			return false;
+		}
+
+		Function<INotification, Object> keyFunction = dedupKey;
+		if (keyFunction != null) {
+			Object key = keyFunction.apply(notification);
+			if (key != null) {
+				long window = (long) (dedupWindow.toMillis() * 1_000_000);
+				boolean[] accepted = new boolean[1];
+				dedupTimes.compute(key, (k, last) -> {
+					if (last != null && now - last < window) return last;
+					accepted[0] = true;
+					return now;
+				});
+				if (!accepted[0]) {
+					merged.incrementAndGet();
+					return false;
+				}
+			}
+		}
+
+		return enqueue(notification);
+	}
+
+	/**
+	 * Queues the given notification bypassing the rate limit and the deduplication.
+	 * <p>
+	 * Meant for notification systems that need to deliver again a notification they already accepted,
+	 * for example because it could not be shown at the moment.
+	 */
+	public boolean resubmit(INotification notification) {
+		if (notification == null) return false;
+		return enqueue(notification);
+	}
+
+	/**
+	 * Increments the dropped counter by the given amount. Meant for notification systems that discard
+	 * notifications after they have been delivered.
+	 */
+	public void addDropped(long count) {
+		dropped.addAndGet(count);
+	}
+
+	/**
+	 * Resets the dropped and merged counters.
+	 */
+	public void resetCounters() {
+		dropped.set(0);
+		merged.set(0);
+	}
+
+	/**
+	 * Removes all the pending notifications, they are not counted as dropped.
+	 */
+	public void clear() {
+		while (pending.poll() != null) {
+			pendingCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Responsible for adding the given notification to the queue, if the capacity allows it, and for
+	 * scheduling the drain if it's not already scheduled.
+	 */
+	private boolean enqueue(INotification notification) {
+		if (pendingCount.incrementAndGet() > capacity) {
+			pendingCount.decrementAndGet();
+			dropped.incrementAndGet();
+			return false;
+		}
+		pending.offer(notification);
+		schedule();
+		return true;
+	}
+
+	/**
+	 * Starts the drainer on the JavaFX thread if it's not already running.
+	 */
+	private void schedule() {
+		if (!scheduled.compareAndSet(false, true)) return;
+		if (Platform.isFxApplicationThread()) {
+			drainer.start();
+		} else {
+			Platform.runLater(drainer::start);
+		}
+	}
+
+	/**
+	 * Removes at most {@link #getMaxBatchSize()} notifications from the queue and passes them to the consumer.
+	 * <p>
+	 * When the queue is empty the drainer is stopped. Since other threads may have queued a notification in the
+	 * meanwhile, the queue is checked once more after clearing the scheduled flag.
+	 */
+	private void drain() {
+		int max = Math.max(1, maxBatchSize);
+		List<INotification> batch = new ArrayList<>(Math.min(max, Math.max(1, pendingCount.get())));
+		INotification notification;
+		while (batch.size() < max && (notification = pending.poll()) != null) {
+			pendingCount.decrementAndGet();
+			batch.add(notification);
+		}
+		if (!batch.isEmpty()) consumer.accept(batch);
+		purgeDedup(System.nanoTime());
+
+		if (pending.isEmpty()) {
+			drainer.stop();
+			scheduled.set(false);
+			if (!pending.isEmpty() && scheduled.compareAndSet(false, true)) drainer.start();
+		}
+	}
+
+	/**
+	 * Removes the expired deduplication keys.
+	 */
+	private void purgeDedup(long now) {
+		if (dedupTimes.isEmpty()) return;
+		long window = (long) (dedupWindow.toMillis() * 1_000_000);
+		dedupTimes.values().removeIf(last -> now - last >= window);
+	}
+
+	/**
+	 * Rate limiter, counts the notifications accepted in the current one-second window.
+	 *
+	 * @return whether the notification can be accepted
+	 */
+	private synchronized boolean acquire(long now) {
+		int limit = rateLimit;
+		if (limit <= 0) return true;
+		if (now - windowStart >= 1_000_000_000L) {
+			windowStart = now;
+			windowCount = 0;
+		}
+		if (windowCount >= limit) return false;
+		windowCount++;
+		return true;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the maximum number of notifications accepted per second, 0 or less means no limit
+	 */
+	public int getRateLimit() {
+		return rateLimit;
+	}
+
+	/**
+	 * Sets the maximum number of notifications accepted per second, 0 or less means no limit.
+	 */
+	public NotificationPublisher setRateLimit(int rateLimit) {
+		this.rateLimit = rateLimit;
+		return this;
+	}
+
+	/**
+	 * @return the maximum number of notifications waiting to be delivered
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Sets the maximum number of notifications waiting to be delivered.
+	 */
+	public NotificationPublisher setCapacity(int capacity) {
+		this.capacity = capacity;
+		return this;
+	}
+
+	/**
+	 * @return the maximum number of notifications delivered per pulse
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Sets the maximum number of notifications delivered per pulse.
+	 */
+	public NotificationPublisher setMaxBatchSize(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+		return this;
+	}
+
+	/**
+	 * @return the function used to compute the deduplication key of notifications, null means no deduplication
+	 */
+	public Function<INotification, Object> getDedupKey() {
+		return dedupKey;
+	}
+
+	/**
+	 * Sets the function used to compute the deduplication key of notifications, null means no deduplication.
+	 * <p>
+	 * Notifications for which the function returns null are never merged.
+	 */
+	public NotificationPublisher setDedupKey(Function<INotification, Object> dedupKey) {
+		this.dedupKey = dedupKey;
+		if (dedupKey == null) dedupTimes.clear();
+		return this;
+	}
+
+	/**
+	 * @return the amount of time during which notifications with the same key are merged
+	 */
+	public Duration getDedupWindow() {
+		return dedupWindow;
+	}
+
+	/**
+	 * Sets the amount of time during which notifications with the same key are merged.
+	 */
+	public NotificationPublisher setDedupWindow(Duration dedupWindow) {
+		this.dedupWindow = dedupWindow;
+		return this;
+	}
+
+	/**
+	 * @return the number of notifications dropped because of the rate limit or the capacity
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * @return the number of notifications merged because of the deduplication
+	 */
+	public long getMergedCount() {
+		return merged.get();
+	}
+
+	/**
+	 * @return the number of notifications waiting to be delivered
+	 */
+	public int getPendingCount() {
+		return pendingCount.get();
+	}
+}
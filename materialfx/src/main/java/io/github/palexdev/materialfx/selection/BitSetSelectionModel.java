@@ -0,0 +1,739 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.selection;
+
+import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.MapProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleMapProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+
+import java.util.*;
+
+/**
+ * Implementation of {@link IMultipleSelectionModel} which stores the selected indexes in a {@link BitSet}
+ * rather than in a map, meant for controls with many items, like {@link io.github.palexdev.materialfx.controls.MFXTableView}.
+ * <p></p>
+ * Selecting or deselecting a range of indexes (for example {@link #expandSelection(int)} or {@link #selectAll()}) only
+ * sets the bits in the range, no boxed index nor map entry is ever allocated, and checking if an index is selected,
+ * {@link #isSelected(int)}, is O(1).
+ * <p>
+ * Changes are notified as ranges, see {@link #addRangeListener(RangeListener)}. Every operation computes the difference
+ * between the old and the new selection, and notifies only the ranges of indexes that actually changed state.
+ * <p></p>
+ * For compatibility, {@link #getSelection()} and {@link #selectionProperty()} return a map view of the selection,
+ * built lazily the first time it's requested. The view does not copy the selection, its entries are computed from
+ * the {@link BitSet}, {@link Map#containsKey(Object)} is O(1). Invalidation and change listeners added to the property are
+ * notified once per operation, while {@link MapChangeListener}s added to the view or to the property receive one change
+ * per index (so they should be avoided for big selections).
+ * <p>
+ * <b>N.B:</b> unlike {@link MultipleSelectionModel}, the selection is always ordered by index, not by insertion order.
+ */
+@SuppressWarnings("unchecked")
+public class BitSetSelectionModel<T> implements IMultipleSelectionModel<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final ObjectProperty<ObservableList<T>> items = new SimpleObjectProperty<>();
+	private BitSet selected = new BitSet();
+	private int count = 0;
+	private boolean allowsMultipleSelection = true;
+
+	private final List<RangeListener> rangeListeners = new ArrayList<>();
+	private SelectionMap selectionMap;
+	private SelectionProperty selectionProperty;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public BitSetSelectionModel(ObservableList<T> items) {
+		this.items.set(items);
+	}
+
+	public BitSetSelectionModel(ObservableValue<? extends ObservableList<T>> items) {
+		this.items.bind(items);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return whether the given index is selected
+	 */
+	public boolean isSelected(int index) {
+		return index >= 0 && selected.get(index);
+	}
+
+	/**
+	 * @return the number of selected indexes
+	 */
+	public int getSelectedCount() {
+		return count;
+	}
+
+	/**
+	 * @return the selected indexes, in ascending order
+	 */
+	@Override
+	public int[] getSelectedIndexes() {
+		return selected.stream().toArray();
+	}
+
+	/**
+	 * Selects all the items.
+	 * <p>
+	 * If multiple selection is not allowed, selects only the first item.
+	 */
+	public void selectAll() {
+		int size = getItems().size();
+		if (size == 0) return;
+		if (!allowsMultipleSelection) {
+			replaceRange(0, 1);
+			return;
+		}
+		update(bits -> bits.set(0, size));
+	}
+
+	/**
+	 * Selects the indexes from the given start (inclusive) to the given end (exclusive).
+	 * <p>
+	 * If multiple selection is not allowed, replaces the selection with the start index.
+	 */
+	public void selectRange(int from, int to) {
+		if (from >= to) return;
+		if (!allowsMultipleSelection) {
+			replaceRange(from, from + 1);
+			return;
+		}
+		update(bits -> bits.set(from, to));
+	}
+
+	/**
+	 * Deselects the indexes from the given start (inclusive) to the given end (exclusive).
+	 */
+	public void deselectRange(int from, int to) {
+		if (from >= to) return;
+		update(bits -> bits.clear(from, to));
+	}
+
+	/**
+	 * Replaces the selection with the indexes from the given start (inclusive) to the given end (exclusive).
+	 */
+	public void replaceRange(int from, int to) {
+		update(bits -> {
+			bits.clear();
+			if (from < to) bits.set(from, allowsMultipleSelection ? to : from + 1);
+		});
+	}
+
+	/**
+	 * Adds a {@link RangeListener} to be notified of selection changes.
+	 */
+	public void addRangeListener(RangeListener listener) {
+		rangeListeners.add(listener);
+	}
+
+	/**
+	 * Removes the given {@link RangeListener}.
+	 */
+	public void removeRangeListener(RangeListener listener) {
+		rangeListeners.remove(listener);
+	}
+
+	/**
+	 * Core method of this selection model. Applies the given modification to a copy of the selection, then
+	 * computes the difference between the old and the new selection, and notifies the changed ranges,
+	 * see {@link #notifyChanges(BitSet, BitSet)}.
+	 */
+	protected void update(Modification modification) {
+		BitSet old = selected;
+		BitSet bits = (BitSet) old.clone();
+		modification.apply(bits);
+		selected = bits;
+		count = bits.cardinality();
+		notifyChanges(old, bits);
+	}
+
+	/**
+	 * Notifies the {@link RangeListener}s, the map view's listeners and the selection property (if built)
+	 * of the ranges that changed from the given old selection to the given new one.
+	 * <p>
+	 * Ranges are found by scanning the XOR of the two sets, so the cost is proportional to the number of words
+	 * in the sets plus the number of changed ranges.
+	 */
+	protected void notifyChanges(BitSet old, BitSet bits) {
+		BitSet diff = (BitSet) old.clone();
+		diff.xor(bits);
+		if (diff.isEmpty()) return;
+
+		int from = diff.nextSetBit(0);
+		while (from >= 0) {
+			int end = diff.nextClearBit(from);
+			while (from < end) {
+				boolean isSelected = bits.get(from);
+				int next = isSelected ? bits.nextClearBit(from) : bits.nextSetBit(from);
+				int to = (next < 0 || next > end) ? end : next;
+				for (RangeListener listener : rangeListeners) {
+					listener.onChanged(from, to, isSelected);
+				}
+				if (selectionMap != null) selectionMap.fireRange(from, to, isSelected);
+				if (selectionProperty != null) selectionProperty.fireRange(from, to, isSelected);
+				from = to;
+			}
+			from = diff.nextSetBit(end);
+		}
+		if (selectionMap != null) selectionMap.fireInvalidation();
+		if (selectionProperty != null) selectionProperty.invalidate();
+	}
+
+	/**
+	 * @return the item at the given index, or null if the index is out of bounds
+	 */
+	private T itemAt(int index) {
+		List<T> items = getItems();
+		return index >= 0 && index < items.size() ? items.get(index) : null;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public void clearSelection() {
+		update(BitSet::clear);
+	}
+
+	@Override
+	public void deselectIndex(int index) {
+		if (index < 0) return;
+		update(bits -> bits.clear(index));
+	}
+
+	@Override
+	public void deselectItem(T item) {
+		deselectIndex(getItems().indexOf(item));
+	}
+
+	@Override
+	public void deselectIndexes(int... indexes) {
+		update(bits -> {
+			for (int index : indexes) {
+				if (index >= 0) bits.clear(index);
+			}
+		});
+	}
+
+	@Override
+	public void deselectItems(T... items) {
+		List<T> list = getItems();
+		update(bits -> {
+			for (T item : items) {
+				int index = list.indexOf(item);
+				if (index >= 0) bits.clear(index);
+			}
+		});
+	}
+
+	/**
+	 * If multiple selection is allowed adds the given index to the selection,
+	 * otherwise replaces the selection with the given index.
+	 */
+	@Override
+	public void selectIndex(int index) {
+		if (index < 0) return;
+		update(bits -> {
+			if (!allowsMultipleSelection) bits.clear();
+			bits.set(index);
+		});
+	}
+
+	@Override
+	public void selectItem(T item) {
+		selectIndex(getItems().indexOf(item));
+	}
+
+	/**
+	 * If multiple selection is allowed adds all the given indexes to the selection,
+	 * otherwise replaces the selection with the first index given in the list.
+	 */
+	@Override
+	public void selectIndexes(List<Integer> indexes) {
+		if (indexes.isEmpty()) return;
+		if (!allowsMultipleSelection) {
+			selectIndex(indexes.get(0));
+			return;
+		}
+		update(bits -> {
+			for (Integer index : indexes) {
+				if (index >= 0) bits.set(index);
+			}
+		});
+	}
+
+	/**
+	 * If multiple selection is allowed adds all the given items to the selection,
+	 * otherwise replaces the selection with the first item given in the list.
+	 */
+	@Override
+	public void selectItems(List<T> items) {
+		if (items.isEmpty()) return;
+		if (!allowsMultipleSelection) {
+			selectItem(items.get(0));
+			return;
+		}
+		List<T> list = getItems();
+		update(bits -> {
+			for (T item : items) {
+				int index = list.indexOf(item);
+				if (index >= 0) bits.set(index);
+			}
+		});
+	}
+
+	/**
+	 * Expands the selection in the given index direction, same as {@link MultipleSelectionManager#expandSelection(int)},
+	 * but the new selection is set as a single range, see {@link #replaceRange(int, int)}.
+	 */
+	@Override
+	public void expandSelection(int index) {
+		int min = selected.nextSetBit(0);
+		if (min < 0) {
+			replaceRange(0, index + 1);
+		} else if (index < min) {
+			replaceRange(index, min + 1);
+		} else {
+			replaceRange(min, index + 1);
+		}
+	}
+
+	/**
+	 * If multiple selection is allowed replaces the selection with all the given indexes,
+	 * otherwise replaces the selection with the first given index.
+	 */
+	@Override
+	public void replaceSelection(Integer... indexes) {
+		update(bits -> {
+			bits.clear();
+			for (Integer index : indexes) {
+				if (index >= 0) bits.set(index);
+				if (!allowsMultipleSelection) break;
+			}
+		});
+	}
+
+	/**
+	 * Overridden to set the bits directly, without boxing.
+	 */
+	@Override
+	public void replaceSelectionIndexes(int... indexes) {
+		update(bits -> {
+			bits.clear();
+			for (int index : indexes) {
+				if (index >= 0) bits.set(index);
+				if (!allowsMultipleSelection) break;
+			}
+		});
+	}
+
+	/**
+	 * If multiple selection is allowed replaces the selection with all the given items,
+	 * otherwise replaces the selection with the first given item.
+	 */
+	@Override
+	public void replaceSelection(T... items) {
+		List<T> list = getItems();
+		update(bits -> {
+			bits.clear();
+			for (T item : items) {
+				int index = list.indexOf(item);
+				if (index >= 0) bits.set(index);
+				if (!allowsMultipleSelection) break;
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * The returned map is a lazily built view of the selection, see the class documentation.
+	 */
+	@Override
+	public ObservableMap<Integer, T> getSelection() {
+		if (selectionMap == null) selectionMap = new SelectionMap();
+		return selectionMap;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * The property is lazily built, it always wraps the map view returned by {@link #getSelection()}, and it's
+	 * notifies its listeners every time the selection changes. Setting it is the same as calling {@link #setSelection(ObservableMap)}.
+	 */
+	@Override
+	public MapProperty<Integer, T> selectionProperty() {
+		if (selectionProperty == null) selectionProperty = new SelectionProperty();
+		return selectionProperty;
+	}
+
+	/**
+	 * Replaces the selection with the keys of the given map.
+	 */
+	@Override
+	public void setSelection(ObservableMap<Integer, T> newSelection) {
+		replaceSelection(newSelection.keySet().toArray(Integer[]::new));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Values are ordered by index.
+	 */
+	@Override
+	public List<T> getSelectedValues() {
+		List<T> values = new ArrayList<>(count);
+		for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+			values.add(itemAt(i));
+		}
+		return Collections.unmodifiableList(values);
+	}
+
+	/**
+	 * Overridden to avoid building the values list.
+	 */
+	@Override
+	public T getSelectedValue() {
+		return itemAt(selected.nextSetBit(0));
+	}
+
+	/**
+	 * Overridden to avoid building the values list.
+	 */
+	@Override
+	public T getLastSelectedValue() {
+		return itemAt(selected.length() - 1);
+	}
+
+	@Override
+	public boolean allowsMultipleSelection() {
+		return allowsMultipleSelection;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If it's set to false the selection is cleared.
+	 */
+	@Override
+	public void setAllowsMultipleSelection(boolean allowsMultipleSelection) {
+		if (!allowsMultipleSelection) clearSelection();
+		this.allowsMultipleSelection = allowsMultipleSelection;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return an unmodifiable copy of the items list
+	 */
+	public ObservableList<T> getItems() {
+		return FXCollections.unmodifiableObservableList(items.get());
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Listener notified when a range of indexes changes its selection state.
+	 */
+	@FunctionalInterface
+	public interface RangeListener {
+
+		/**
+		 * Called when the indexes from the given start (inclusive) to the given end (exclusive)
+		 * have been selected (true) or deselected (false).
+		 */
+		void onChanged(int from, int to, boolean selected);
+	}
+
+	/**
+	 * A modification applied to a copy of the selection by {@link #update(Modification)}.
+	 */
+	@FunctionalInterface
+	protected interface Modification {
+		void apply(BitSet bits);
+	}
+
+	/**
+	 * The map view of the selection, see {@link #getSelection()}.
+	 * <p>
+	 * Modifications are forwarded to the selection model.
+	 */
+	private class SelectionMap extends AbstractMap<Integer, T> implements ObservableMap<Integer, T> {
+		private final List<InvalidationListener> invalidationListeners = new ArrayList<>();
+		private final List<MapChangeListener<? super Integer, ? super T>> changeListeners = new ArrayList<>();
+		private Set<Entry<Integer, T>> entrySet;
+		private boolean ignoreListeners = false;
+
+		private void fireRange(int from, int to, boolean added) {
+			BitSetSelectionModel.this.fireRange(this, changeListeners, from, to, added);
+		}
+
+		private void fireInvalidation() {
+			for (InvalidationListener listener : List.copyOf(invalidationListeners)) {
+				listener.invalidated(this);
+			}
+		}
+
+		@Override
+		public int size() {
+			return count;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof Integer && isSelected((Integer) key);
+		}
+
+		@Override
+		public T get(Object key) {
+			return containsKey(key) ? itemAt((Integer) key) : null;
+		}
+
+		@Override
+		public T put(Integer key, T value) {
+			T old = get(key);
+			selectIndex(key);
+			return old;
+		}
+
+		@Override
+		public T remove(Object key) {
+			if (!containsKey(key)) return null;
+			T old = get(key);
+			deselectIndex((Integer) key);
+			return old;
+		}
+
+		@Override
+		public void clear() {
+			clearSelection();
+		}
+
+		@Override
+		public Set<Entry<Integer, T>> entrySet() {
+			if (entrySet == null) {
+				entrySet = new AbstractSet<>() {
+					@Override
+					public Iterator<Entry<Integer, T>> iterator() {
+						return new Iterator<>() {
+							private int next = selected.nextSetBit(0);
+							private int last = -1;
+
+							@Override
+							public boolean hasNext() {
+								return next >= 0;
+							}
+
+							@Override
+							public Entry<Integer, T> next() {
+								if (next < 0) throw new NoSuchElementException();
+								last = next;
+								next = selected.nextSetBit(next + 1);
+								return new SimpleImmutableEntry<>(last, itemAt(last));
+							}
+
+							@Override
+							public void remove() {
+								if (last < 0) throw new IllegalStateException();
+								deselectIndex(last);
+								last = -1;
+							}
+						};
+					}
+
+					@Override
+					public int size() {
+						return count;
+					}
+				};
+			}
+			return entrySet;
+		}
+
+		@Override
+		public void addListener(MapChangeListener<? super Integer, ? super T> listener) {
+			if (ignoreListeners) return;
+			changeListeners.add(listener);
+		}
+
+		@Override
+		public void removeListener(MapChangeListener<? super Integer, ? super T> listener) {
+			changeListeners.remove(listener);
+		}
+
+		@Override
+		public void addListener(InvalidationListener listener) {
+			invalidationListeners.add(listener);
+		}
+
+		@Override
+		public void removeListener(InvalidationListener listener) {
+			invalidationListeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Notifies the given {@link MapChangeListener}s of the given range, one change per index.
+	 * The changes are created for the given map, which is either the map view or the property.
+	 */
+	private void fireRange(ObservableMap<Integer, T> map, List<MapChangeListener<? super Integer, ? super T>> listeners, int from, int to, boolean added) {
+		if (listeners.isEmpty()) return;
+		for (int i = from; i < to; i++) {
+			MapChangeListener.Change<Integer, T> change = new SelectionChange(map, i, itemAt(i), added);
+			for (MapChangeListener<? super Integer, ? super T> listener : List.copyOf(listeners)) {
+				listener.onChanged(change);
+			}
+		}
+	}
+
+	/**
+	 * The property returned by {@link #selectionProperty()}, always wraps the map view.
+	 * <p>
+	 * The property manages its own listeners. The {@link MapChangeListener} that the property adds to the view is ignored,
+	 * otherwise every range change would be notified one index at a time. Instead, the model notifies the property once
+	 * per operation: invalidation and change listeners are called once (since the map instance never changes, the change
+	 * listeners receive the same map as old and new value, like JavaFX map properties do on content changes), while
+	 * {@link MapChangeListener}s receive one change per index, whose map is the property.
+	 * <p>
+	 * The size and empty properties are not supported.
+	 */
+	private class SelectionProperty extends SimpleMapProperty<Integer, T> {
+		private final List<InvalidationListener> invalidationListeners = new ArrayList<>();
+		private final List<ChangeListener<? super ObservableMap<Integer, T>>> changeListeners = new ArrayList<>();
+		private final List<MapChangeListener<? super Integer, ? super T>> mapListeners = new ArrayList<>();
+
+		SelectionProperty() {
+			super(BitSetSelectionModel.this, "selection");
+			SelectionMap map = (SelectionMap) getSelection();
+			map.ignoreListeners = true;
+			super.set(map);
+			map.ignoreListeners = false;
+		}
+
+		@Override
+		public void set(ObservableMap<Integer, T> newValue) {
+			if (newValue == null || newValue == getSelection()) return;
+			setSelection(newValue);
+		}
+
+		void fireRange(int from, int to, boolean added) {
+			BitSetSelectionModel.this.fireRange(this, mapListeners, from, to, added);
+		}
+
+		void invalidate() {
+			for (InvalidationListener listener : List.copyOf(invalidationListeners)) {
+				listener.invalidated(this);
+			}
+			ObservableMap<Integer, T> map = get();
+			for (ChangeListener<? super ObservableMap<Integer, T>> listener : List.copyOf(changeListeners)) {
+				listener.changed(this, map, map);
+			}
+		}
+
+		@Override
+		public void addListener(InvalidationListener listener) {
+			invalidationListeners.add(listener);
+		}
+
+		@Override
+		public void removeListener(InvalidationListener listener) {
+			invalidationListeners.remove(listener);
+		}
+
+		@Override
+		public void addListener(ChangeListener<? super ObservableMap<Integer, T>> listener) {
+			changeListeners.add(listener);
+		}
+
+		@Override
+		public void removeListener(ChangeListener<? super ObservableMap<Integer, T>> listener) {
+			changeListeners.remove(listener);
+		}
+
+		@Override
+		public void addListener(MapChangeListener<? super Integer, ? super T> listener) {
+			mapListeners.add(listener);
+		}
+
+		@Override
+		public void removeListener(MapChangeListener<? super Integer, ? super T> listener) {
+			mapListeners.remove(listener);
+		}
+	}
+
+	/**
+	 * A change of a single index, fired by the map view and the property.
+	 */
+	private class SelectionChange extends MapChangeListener.Change<Integer, T> {
+		private final int key;
+		private final T value;
+		private final boolean added;
+
+		public SelectionChange(ObservableMap<Integer, T> map, int key, T value, boolean added) {
+			super(map);
+			this.key = key;
+			this.value = value;
+			this.added = added;
+		}
+
+		@Override
+		public boolean wasAdded() {
+			return added;
+		}
+
+		@Override
+		public boolean wasRemoved() {
+			return !added;
+		}
+
+		@Override
+		public Integer getKey() {
+			return key;
+		}
+
+		@Override
+		public T getValueAdded() {
+			return added ? value : null;
+		}
+
+		@Override
+		public T getValueRemoved() {
+			return added ? null : value;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.selection;
+
+import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
+import javafx.collections.MapChangeListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatches the selection changes of an {@link IMultipleSelectionModel} to listeners registered for a specific index.
+ * <p></p>
+ * Cells which bind their selection state to the whole selection are invalidated every time the selection changes,
+ * so a single click causes every visible cell to re-evaluate its state. With a dispatcher instead, each cell subscribes
+ * to its own index and is notified only when that index is selected or deselected.
+ * <p>
+ * The dispatcher listens to the model's changes:
+ * <p> - For a {@link BitSetSelectionModel}, changes are received as ranges, see {@link BitSetSelectionModel#addRangeListener(BitSetSelectionModel.RangeListener)},
+ * and only the subscribed indexes in the ranges are notified
+ * <p> - For other models, changes are received as map changes from the {@link IMultipleSelectionModel#selectionProperty()}
+ * <p></p>
+ * Listeners may be notified even if the state of their index did not change (for example when the item at that index is replaced),
+ * so they should be idempotent.
+ */
+public class SelectionDispatcher {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final IMultipleSelectionModel<?> selectionModel;
+	private final Map<Integer, List<Listener>> listeners = new HashMap<>();
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public SelectionDispatcher(IMultipleSelectionModel<?> selectionModel) {
+		this.selectionModel = selectionModel;
+		if (selectionModel instanceof BitSetSelectionModel) {
+			((BitSetSelectionModel<?>) selectionModel).addRangeListener(this::dispatchRange);
+		} else {
+			selectionModel.selectionProperty().addListener((MapChangeListener) change -> dispatch((Integer) change.getKey()));
+		}
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Registers the given listener for the given index.
+	 */
+	public void subscribe(int index, Listener listener) {
+		listeners.computeIfAbsent(index, i -> new ArrayList<>(1)).add(listener);
+	}
+
+	/**
+	 * Removes the given listener for the given index.
+	 */
+	public void unsubscribe(int index, Listener listener) {
+		List<Listener> indexListeners = listeners.get(index);
+		if (indexListeners == null) return;
+		indexListeners.remove(listener);
+		if (indexListeners.isEmpty()) listeners.remove(index);
+	}
+
+	/**
+	 * @return whether the given index is currently selected
+	 */
+	public boolean isSelected(int index) {
+		if (selectionModel instanceof BitSetSelectionModel) {
+			return ((BitSetSelectionModel<?>) selectionModel).isSelected(index);
+		}
+		return selectionModel.getSelection().containsKey(index);
+	}
+
+	/**
+	 * Notifies the listeners of the given index of its current state.
+	 */
+	private void dispatch(int index) {
+		List<Listener> indexListeners = listeners.get(index);
+		if (indexListeners == null) return;
+		fire(indexListeners, isSelected(index));
+	}
+
+	/**
+	 * Notifies the listeners of the indexes in the given range of the given state.
+	 * <p>
+	 * If the range is bigger than the number of subscribed indexes, the subscribed indexes are scanned rather than the range.
+	 */
+	private void dispatchRange(int from, int to, boolean selected) {
+		if (listeners.isEmpty()) return;
+		if (to - from <= listeners.size()) {
+			for (int i = from; i < to; i++) {
+				List<Listener> indexListeners = listeners.get(i);
+				if (indexListeners != null) fire(indexListeners, selected);
+			}
+			return;
+		}
+
+		List<List<Listener>> toNotify = new ArrayList<>();
+		for (Map.Entry<Integer, List<Listener>> entry : listeners.entrySet()) {
+			int index = entry.getKey();
+			if (index >= from && index < to) toNotify.add(entry.getValue());
+		}
+		for (List<Listener> indexListeners : toNotify) {
+			fire(indexListeners, selected);
+		}
+	}
+
+	private void fire(List<Listener> indexListeners, boolean selected) {
+		for (Listener listener : List.copyOf(indexListeners)) {
+			listener.selectionChanged(selected);
+		}
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Listener notified when the selection state of an index changes.
+	 */
+	@FunctionalInterface
+	public interface Listener {
+		void selectionChanged(boolean selected);
+	}
+}
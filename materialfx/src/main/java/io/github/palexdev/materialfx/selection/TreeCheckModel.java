@@ -21,15 +21,13 @@
 import io.github.palexdev.materialfx.controls.MFXCheckTreeItem;
 import io.github.palexdev.materialfx.controls.base.AbstractMFXTreeItem;
 import io.github.palexdev.materialfx.selection.base.ITreeCheckModel;
-import io.github.palexdev.materialfx.utils.TreeItemStream;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.SimpleListProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.*;
 
 import static io.github.palexdev.materialfx.controls.MFXCheckTreeItem.CheckTreeItemEvent;
 
@@ -43,12 +41,21 @@
  * If you take a look at the MFXCheckTreeItem's skin, {@link io.github.palexdev.materialfx.skins.MFXCheckTreeItemSkin},
  * you can see that when the checkbox is fired, a CHECK_EVENT is fired and "travels" up to the root. Each item then calls
  * {@link #check(MFXCheckTreeItem, CheckTreeItemEvent)}.
+ * <p></p>
+ * To keep checks fast on big trees, the model keeps for each item the number of checked and indeterminate children,
+ * and an identity set of the checked items. When an item is checked/unchecked, its subtree is updated in a single pass,
+ * then the counters are used to update the ancestors, stopping as soon as one doesn't change state. All the items
+ * checked/unchecked by the operation are then published to {@link #getCheckedItems()} with a single change.
+ * This means that the ancestors are already updated when the CHECK_EVENT reaches them.
  */
 public class TreeCheckModel<T> extends TreeSelectionModel<T> implements ITreeCheckModel<T> {
 	//================================================================================
 	// Properties
 	//================================================================================
 	private final ListProperty<MFXCheckTreeItem<T>> checkedItems = new SimpleListProperty<>(FXCollections.observableArrayList());
+	private final Set<MFXCheckTreeItem<T>> checkedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<MFXCheckTreeItem<T>, Counters> counters = new WeakHashMap<>();
+	private boolean updating = false;
 
 	//================================================================================
 	// Constructors
@@ -56,6 +63,8 @@
 	public TreeCheckModel() {
 		super();
 		checkedItems.addListener((ListChangeListener<MFXCheckTreeItem<T>>) change -> {
+			if (updating) return;
+
 			List<MFXCheckTreeItem<T>> tmpRemoved = new ArrayList<>();
 			List<MFXCheckTreeItem<T>> tmpAdded = new ArrayList<>();
 
@@ -63,8 +72,16 @@ public TreeCheckModel() {
 				tmpRemoved.addAll(change.getRemoved());
 				tmpAdded.addAll(change.getAddedSubList());
 			}
-			tmpRemoved.forEach(item -> item.setChecked(false));
-			tmpAdded.forEach(item -> item.setChecked(true));
+			tmpRemoved.forEach(item -> {
+				item.setChecked(false);
+				checkedSet.remove(item);
+				invalidateParent(item);
+			});
+			tmpAdded.forEach(item -> {
+				item.setChecked(true);
+				checkedSet.add(item);
+				invalidateParent(item);
+			});
 		});
 	}
 
@@ -73,72 +90,138 @@ public TreeCheckModel() {
 	//================================================================================
 
 	/**
-	 * This method is called when the event argument passed to {@link #check(MFXCheckTreeItem, CheckTreeItemEvent)}
-	 * is null. It is used for example when you want the tree to start with one or more checked items like this:
-	 * <pre>
-	 *     {@code
-	 *         MFXCheckTreeItem<String> root = new MFXCheckTreeItem<>("ROOT");
-	 *         MFXCheckTreeItem<String> i1 = new MFXCheckTreeItem<>("I1");
-	 *         MFXCheckTreeItem<String> i1a = new MFXCheckTreeItem<>("I1A");
-	 *         MFXCheckTreeItem<String> i2 = new MFXCheckTreeItem<>("I1B");
-	 *
-	 *         i1.setChecked(true);
-	 *         i1a.setChecked(true);
-	 *         i2.setChecked(true);
-	 *     }
-	 * </pre>
-	 *
-	 * @param item the item to check
-	 * @see MFXCheckTreeItem
+	 * Checks or unchecks the given item and its whole subtree in a single pass.
+	 * <p>
+	 * Since every item in the subtree ends up in the same state, their counters can be set
+	 * without counting the children.
 	 */
-	private void check(MFXCheckTreeItem<T> item) {
-		if (item.isChecked()) {
-			checkedItems.remove(item);
-		} else {
-			checkedItems.add(item);
+	private void checkSubtree(MFXCheckTreeItem<T> item, boolean checked, Batch batch) {
+		Deque<MFXCheckTreeItem<T>> stack = new ArrayDeque<>();
+		stack.push(item);
+		while (!stack.isEmpty()) {
+			MFXCheckTreeItem<T> current = stack.pop();
+			mark(current, checked, batch);
+			current.setIndeterminate(false);
+
+			Counters c = countersOf(current);
+			c.checked = checked ? current.getItems().size() : 0;
+			c.indeterminate = 0;
+			c.valid = true;
+			for (AbstractMFXTreeItem<T> child : current.getItems()) {
+				stack.push((MFXCheckTreeItem<T>) child);
+			}
+		}
+	}
+
+	/**
+	 * Updates the ancestors of the given item after its state changed from the given one.
+	 * <p>
+	 * Each parent's counters are updated by the difference between the child's old and new state, then
+	 * the parent's state is computed from them: checked if all the children are checked, indeterminate if at least
+	 * one is checked or indeterminate, unchecked otherwise. The walk stops at the first parent whose state doesn't change.
+	 */
+	private void propagate(MFXCheckTreeItem<T> item, boolean wasChecked, boolean wasIndeterminate, Batch batch) {
+		MFXCheckTreeItem<T> child = item;
+		boolean oldChecked = wasChecked;
+		boolean oldIndeterminate = wasIndeterminate;
+		while (child.getItemParent() != null) {
+			MFXCheckTreeItem<T> parent = (MFXCheckTreeItem<T>) child.getItemParent();
+			Counters c = countersOf(parent);
+			if (c.valid) {
+				c.checked += delta(oldChecked, child.isChecked());
+				c.indeterminate += delta(oldIndeterminate, child.isIndeterminate());
+			} else {
+				c.count(parent);
+			}
+
+			boolean parentChecked = parent.isChecked();
+			boolean parentIndeterminate = parent.isIndeterminate();
+			boolean checked = c.checked == parent.getItems().size();
+			boolean indeterminate = !checked && (c.checked != 0 || c.indeterminate != 0);
+			if (checked == parentChecked && indeterminate == parentIndeterminate) break;
+
+			mark(parent, checked, batch);
+			parent.setIndeterminate(indeterminate);
+			child = parent;
+			oldChecked = parentChecked;
+			oldIndeterminate = parentIndeterminate;
 		}
 	}
 
 	/**
-	 * Adds all the passed items to the checkedItems list.
+	 * Checks/unchecks the given item, keeping track of it in the given batch if it was not
+	 * already in the checked items (or if it was, when unchecking).
 	 */
-	private void checkAll(List<MFXCheckTreeItem<T>> items) {
-		checkedItems.addAll(items);
+	private void mark(MFXCheckTreeItem<T> item, boolean checked, Batch batch) {
+		item.setChecked(checked);
+		if (checked) {
+			if (checkedSet.add(item)) batch.added.add(item);
+		} else {
+			if (checkedSet.remove(item)) batch.removed.add(item);
+		}
 	}
 
 	/**
-	 * Removes all the passed items from the checkedItems list.
+	 * Publishes the items of the given batch to the checked items list.
+	 * <p>
+	 * The removal uses the batch's identity set, so it's linear in the size of the list.
 	 */
-	private void uncheckAll(List<MFXCheckTreeItem<T>> items) {
-		checkedItems.removeAll(items);
+	private void publish(Batch batch) {
+		updating = true;
+		try {
+			if (!batch.removed.isEmpty()) checkedItems.removeAll(batch.removed);
+			if (!batch.added.isEmpty()) checkedItems.addAll(batch.added);
+		} finally {
+			updating = false;
+		}
 	}
 
 	/**
-	 * Counts all the checked children of the passed item.
+	 * Scans the subtree of the given item, checking the subtree of every checked item, and recomputes
+	 * all the counters bottom-up.
 	 */
-	private int checkedChildren(MFXCheckTreeItem<T> item) {
-		int cnt = 0;
+	private void scan(MFXCheckTreeItem<T> item, boolean forceChecked, Batch batch) {
+		boolean checked = forceChecked || item.isChecked();
+		if (checked) {
+			mark(item, true, batch);
+			item.setIndeterminate(false);
+		}
+
+		Counters c = countersOf(item);
+		c.checked = 0;
+		c.indeterminate = 0;
 		for (AbstractMFXTreeItem<T> treeItem : item.getItems()) {
-			MFXCheckTreeItem<T> cItem = (MFXCheckTreeItem<T>) treeItem;
-			if (cItem.isChecked()) {
-				cnt++;
-			}
+			MFXCheckTreeItem<T> child = (MFXCheckTreeItem<T>) treeItem;
+			scan(child, checked, batch);
+			if (child.isChecked()) c.checked++;
+			if (child.isIndeterminate()) c.indeterminate++;
 		}
-		return cnt;
+		c.valid = true;
 	}
 
 	/**
-	 * Counts all the indeterminate children of the passed item.
+	 * @return the counters of the given item, creating them if needed. The counters are invalidated
+	 * when the item's children change
 	 */
-	private int indeterminateChildren(MFXCheckTreeItem<T> item) {
-		int cnt = 0;
-		for (AbstractMFXTreeItem<T> treeItem : item.getItems()) {
-			MFXCheckTreeItem<T> cItem = (MFXCheckTreeItem<T>) treeItem;
-			if (cItem.isIndeterminate()) {
-				cnt++;
-			}
+	private Counters countersOf(MFXCheckTreeItem<T> item) {
+		Counters c = counters.get(item);
+		if (c == null) {
+			Counters newCounters = new Counters();
+			item.getItems().addListener((InvalidationListener) invalidated -> newCounters.valid = false);
+			counters.put(item, newCounters);
+			c = newCounters;
 		}
-		return cnt;
+		return c;
+	}
+
+	private void invalidateParent(MFXCheckTreeItem<T> item) {
+		if (item.getItemParent() == null) return;
+		Counters c = counters.get((MFXCheckTreeItem<T>) item.getItemParent());
+		if (c != null) c.valid = false;
+	}
+
+	private int delta(boolean oldState, boolean newState) {
+		return oldState == newState ? 0 : (newState ? 1 : -1);
 	}
 
 	//================================================================================
@@ -148,15 +231,14 @@ private int indeterminateChildren(MFXCheckTreeItem<T> item) {
 	/**
 	 * If you set some item to be checked before the tree is laid out then it's needed
 	 * to scan the tree and add all the checked items to the list.
+	 * <p>
+	 * The subtree of each checked item is checked too, all in a single pass.
 	 */
 	@Override
 	public void scanTree(MFXCheckTreeItem<T> item) {
-		TreeItemStream.flattenTree(item).forEach(treeItem -> {
-			MFXCheckTreeItem<T> cItem = (MFXCheckTreeItem<T>) treeItem;
-			if (cItem.isChecked() && !checkedItems.contains(cItem)) {
-				check(cItem, null);
-			}
-		});
+		Batch batch = new Batch();
+		scan(item, false, batch);
+		publish(batch);
 	}
 
 	/**
@@ -164,39 +246,41 @@ public void scanTree(MFXCheckTreeItem<T> item) {
 	 * the checkbox is fired. We need the event as a parameter to distinguish between the item
 	 * on which the CHECK_EVENT was fired and the parent items.
 	 * <p>
-	 * If the event is null we call the other {@link #check(MFXCheckTreeItem)} method.
+	 * If the event was fired on the given item, its subtree is checked (or unchecked if it's already checked)
+	 * and its ancestors are updated. For the parent items there's nothing left to do then.
+	 * <p>
+	 * If the event is null, the given item's subtree is checked. It is used for example when you want the tree
+	 * to start with one or more checked items like this:
+	 * <pre>
+	 *     {@code
+	 *         MFXCheckTreeItem<String> root = new MFXCheckTreeItem<>("ROOT");
+	 *         MFXCheckTreeItem<String> i1 = new MFXCheckTreeItem<>("I1");
+	 *         MFXCheckTreeItem<String> i1a = new MFXCheckTreeItem<>("I1A");
+	 *         MFXCheckTreeItem<String> i2 = new MFXCheckTreeItem<>("I1B");
+	 *
+	 *         i1.setChecked(true);
+	 *         i1a.setChecked(true);
+	 *         i2.setChecked(true);
+	 *     }
+	 * </pre>
 	 */
 	@Override
 	public void check(MFXCheckTreeItem<T> item, CheckTreeItemEvent<?> event) {
+		boolean checked;
 		if (event == null) {
-			List<MFXCheckTreeItem<T>> items = TreeItemStream.flattenTree(item).map(cItem -> (MFXCheckTreeItem<T>) cItem).collect(Collectors.toList());
-			checkAll(items);
-			return;
-		}
-
-		if (event.getItemRef() != null && event.getItemRef() == item) {
-			List<MFXCheckTreeItem<T>> items = TreeItemStream.flattenTree(item).map(cItem -> (MFXCheckTreeItem<T>) cItem).collect(Collectors.toList());
-			if (!item.isChecked() || item.isIndeterminate()) {
-				checkAll(items);
-			} else {
-				uncheckAll(items);
-			}
+			checked = true;
+		} else if (event.getItemRef() != null && event.getItemRef() == item) {
+			checked = !item.isChecked() || item.isIndeterminate();
+		} else {
 			return;
 		}
 
-		if (checkedChildren(item) == item.getItems().size()) {
-			item.setIndeterminate(false);
-			check(item);
-		} else if (indeterminateChildren(item) != 0) {
-			checkedItems.remove(item);
-			item.setIndeterminate(true);
-		} else if (checkedChildren(item) == 0) {
-			checkedItems.remove(item);
-			item.setIndeterminate(false);
-		} else {
-			checkedItems.remove(item);
-			item.setIndeterminate(true);
-		}
+		boolean wasChecked = item.isChecked();
+		boolean wasIndeterminate = item.isIndeterminate();
+		Batch batch = new Batch();
+		checkSubtree(item, checked, batch);
+		propagate(item, wasChecked, wasIndeterminate, batch);
+		publish(batch);
 	}
 
 	/**
@@ -209,7 +293,14 @@ public void clearChecked() {
 		}
 
 		checkedItems.forEach(item -> item.setChecked(false));
-		checkedItems.clear();
+		checkedSet.clear();
+		counters.values().forEach(c -> c.valid = false);
+		updating = true;
+		try {
+			checkedItems.clear();
+		} finally {
+			updating = false;
+		}
 	}
 
 	/**
@@ -219,4 +310,36 @@ public void clearChecked() {
 	public ListProperty<MFXCheckTreeItem<T>> getCheckedItems() {
 		return this.checkedItems;
 	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The number of checked and indeterminate children of an item.
+	 */
+	private static class Counters {
+		private int checked;
+		private int indeterminate;
+		private boolean valid;
+
+		private void count(MFXCheckTreeItem<?> item) {
+			checked = 0;
+			indeterminate = 0;
+			for (AbstractMFXTreeItem<?> treeItem : item.getItems()) {
+				MFXCheckTreeItem<?> child = (MFXCheckTreeItem<?>) treeItem;
+				if (child.isChecked()) checked++;
+				if (child.isIndeterminate()) indeterminate++;
+			}
+			valid = true;
+		}
+	}
+
+	/**
+	 * The items checked and unchecked by a single operation.
+	 */
+	private class Batch {
+		private final List<MFXCheckTreeItem<T>> added = new ArrayList<>();
+		private final Set<MFXCheckTreeItem<T>> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+	}
 }
@@ -21,6 +21,7 @@
 import javafx.beans.property.MapProperty;
 import javafx.collections.ObservableMap;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +92,23 @@
 	 */
 	void replaceSelection(T... items);
 
+	/**
+	 * Clears the selection and replaces it with the given indexes.
+	 * <p>
+	 * By default boxes the indexes and calls {@link #replaceSelection(Integer...)}, implementations
+	 * that store indexes as primitives should override this.
+	 */
+	default void replaceSelectionIndexes(int... indexes) {
+		replaceSelection(Arrays.stream(indexes).boxed().toArray(Integer[]::new));
+	}
+
+	/**
+	 * @return the selected indexes as a primitive array sorted in ascending order
+	 */
+	default int[] getSelectedIndexes() {
+		return getSelection().keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+	}
+
 	/**
 	 * @return the selection {@link ObservableMap}
 	 */
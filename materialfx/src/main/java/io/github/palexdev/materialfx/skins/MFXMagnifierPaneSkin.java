@@ -24,25 +24,30 @@
 import io.github.palexdev.materialfx.utils.AnimationUtils.PauseBuilder;
 import io.github.palexdev.materialfx.utils.AnimationUtils.TimelineBuilder;
 import io.github.palexdev.materialfx.utils.ScrollUtils;
-import io.github.palexdev.materialfx.utils.SwingFXUtils;
 import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
 import javafx.animation.Interpolator;
 import javafx.animation.PauseTransition;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.collections.ObservableList;
+import javafx.geometry.Bounds;
 import javafx.geometry.HPos;
 import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
 import javafx.geometry.VPos;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.SnapshotParameters;
-import javafx.scene.SnapshotResult;
 import javafx.scene.control.Label;
 import javafx.scene.control.SkinBase;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.HBox;
@@ -54,10 +59,7 @@
 import javafx.util.Duration;
 import javafx.util.StringConverter;
 
-import javax.imageio.ImageIO;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * This is the default skin implementation for {@link MFXMagnifierPane}.
@@ -76,6 +78,10 @@
  * at the center of the lens, for this reason the lens' positions must be shifted according to it's size and zoom level.
  * The lens' view is also a delicate "topic", since the lens is translated, the captured image must be adjusted too, always
  * taking into account the zoom level of course.
+ * <p></p>
+ * Mouse events only move the lens, the snapshot is taken at most once per pulse and into a reusable {@link WritableImage}.
+ * If {@link MFXMagnifierPane#cacheContentProperty()} is enabled, the lens' view is copied from a cached snapshot of the
+ * whole content instead, which is refreshed only when the content changes.
  */
 public class MFXMagnifierPaneSkin extends SkinBase<MFXMagnifierPane> {
 	//================================================================================
@@ -85,6 +91,18 @@ public class MFXMagnifierPaneSkin extends SkinBase<MFXMagnifierPane> {
 	private final MFXMagnifierLens lens;
 	private final ColorPicker picker;
 
+	private final SnapshotParameters params = new SnapshotParameters();
+	private final AnimationTimer snapshotTimer;
+	private WritableImage lensImage;
+	private WritableImage contentImage;
+	private Bounds contentBounds;
+	private int[] fill = new int[0];
+	private boolean contentDirty = true;
+	private final InvalidationListener boundsListener = invalidated -> invalidateContentCache();
+	private final ChangeListener<Boolean> layoutListener = (observable, oldValue, newValue) -> {
+		if (newValue) invalidateContentCache();
+	};
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -109,10 +127,19 @@ public MFXMagnifierPaneSkin(MFXMagnifierPane magnifier) {
 		Node content = magnifier.getContent();
 		if (content != null) {
 			getChildren().addAll(content, lensContainer, picker);
+			watchContent(null, content);
 		} else {
 			getChildren().addAll(lensContainer, picker);
 		}
 
+		snapshotTimer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				stop();
+				snapshot();
+			}
+		};
+
 		setBehavior();
 	}
 
@@ -126,7 +153,8 @@ public MFXMagnifierPaneSkin(MFXMagnifierPane magnifier) {
 	 * Responsible for adding the following handlers/listeners:
 	 * <p> - MOUSE_MOVED event: to update the {@link MFXMagnifierPane#positionProperty()}, see {@link #updatePosition(MouseEvent)}
 	 * <p> - SCROLL event: to update the {@link MFXMagnifierPane#zoomProperty()}, see {@link #updateZoom(ScrollEvent)}
-	 * <p> - A listener on the {@link MFXMagnifierPane#contentProperty()} to update the content
+	 * <p> - A listener on the {@link MFXMagnifierPane#contentProperty()} to update the content, see also {@link #watchContent(Node, Node)}
+	 * <p> - A listener on the {@link MFXMagnifierPane#cacheContentProperty()} to release or invalidate the content cache
 	 * <p> - A listener on the {@link MFXMagnifierPane#lensSizeProperty()} to update the lens' size and view
 	 * <p> - A listener on the {@link MFXMagnifierPane#zoomProperty()} to update the lens position and zoom
 	 * <p> - Two bindings to control the position of the color picker tool according to the lens position
@@ -147,6 +175,11 @@ private void setBehavior() {
 					children.add(0, newValue);
 				}
 			}
+			watchContent(oldValue, newValue);
+		});
+		magnifier.cacheContentProperty().addListener((observable, oldValue, newValue) -> {
+			if (!newValue) contentImage = null;
+			invalidateContentCache();
 		});
 
 		magnifier.lensSizeProperty().addListener(invalidated -> magnifier.requestLayout());
@@ -206,25 +239,128 @@ private void updatePosition(MouseEvent me) {
 	/**
 	 * Core method responsible for updating the lens position and its view.
 	 * <p>
-	 * After setting the lens translate X/Y properties, gets the content node.
-	 * It it's null exits, otherwise takes a screenshot of the content at the current
-	 * position and for the current lens size, the parameters for the snapshot are built by
-	 * {@link #snapshotParamsFor(PositionBean, double, double)}.
-	 * <p>
-	 * Once the snapshot is ready {@link MFXMagnifierLens#update(SnapshotResult)} is called.
+	 * After setting the lens translate X/Y properties, schedules a snapshot for the next pulse, see {@link #snapshot()}.
+	 * This way, no matter how many mouse events are received, the content is captured at most once per pulse.
 	 */
 	private void updateMagnifier() {
 		MFXMagnifierPane magnifier = getSkinnable();
 		PositionBean position = magnifier.getPosition();
 		lensContainer.setTranslateX(position.getX() - lensContainer.getWidth() / 2);
 		lensContainer.setTranslateY(position.getY() - lensContainer.getHeight() / 2);
+		snapshotTimer.start();
+	}
 
+	/**
+	 * Captures the portion of the content under the lens and updates the lens' view.
+	 * <p>
+	 * Gets the content node, if it's null exits. Otherwise, the view is captured into a reusable image of the lens size,
+	 * either by taking a snapshot of the content at the current position, with the parameters built by
+	 * {@link #snapshotParamsFor(PositionBean, double, double)}, or by copying it from the cached snapshot of the content,
+	 * see {@link #copyFromCache(double, double, int)}.
+	 * <p>
+	 * Once the view is ready {@link MFXMagnifierLens#setImage(Image)} is called.
+	 */
+	private void snapshot() {
+		MFXMagnifierPane magnifier = getSkinnable();
+		PositionBean position = magnifier.getPosition();
 		Node content = magnifier.getContent();
-		if (content == null) return;
+		if (content == null || position == null) return;
 
 		double size = magnifier.getLensSize();
-		SnapshotParameters params = snapshotParamsFor(position, size, size);
-		content.snapshot(lens::update, params, null);
+		int imageSize = (int) Math.ceil(size);
+		if (imageSize <= 0) return;
+		if (lensImage == null || (int) lensImage.getWidth() != imageSize) {
+			lensImage = new WritableImage(imageSize, imageSize);
+		}
+
+		Rectangle2D viewport = snapshotParamsFor(position, size, size).getViewport();
+		if (magnifier.isCacheContent()) {
+			copyFromCache(viewport.getMinX(), viewport.getMinY(), imageSize);
+		} else {
+			content.snapshot(params, lensImage);
+		}
+		lens.setImage(lensImage);
+	}
+
+	/**
+	 * Copies the portion of the cached content snapshot starting at the given coordinates (in the magnifier's
+	 * coordinate space) into the lens image. The cache is refreshed first if the content changed, and it's
+	 * reallocated if the content's size changed.
+	 * <p>
+	 * The areas outside the content are filled with the snapshot's fill color, like it happens
+	 * when taking a snapshot of the viewport directly.
+	 */
+	private void copyFromCache(double x, double y, int size) {
+		if (contentDirty || contentImage == null) {
+			Node content = getSkinnable().getContent();
+			Bounds bounds = content.getBoundsInParent();
+			if (contentBounds == null ||
+					bounds.getWidth() != contentBounds.getWidth() ||
+					bounds.getHeight() != contentBounds.getHeight()) {
+				contentImage = null;
+			}
+			contentBounds = bounds;
+			contentImage = content.snapshot(new SnapshotParameters(), contentImage);
+			contentDirty = false;
+		}
+
+		int argb = toArgb((Color) params.getFill());
+		if (fill.length != size * size || (fill.length > 0 && fill[0] != argb)) {
+			fill = new int[size * size];
+			Arrays.fill(fill, argb);
+		}
+		lensImage.getPixelWriter().setPixels(0, 0, size, size, PixelFormat.getIntArgbInstance(), fill, 0, size);
+
+		int srcX = (int) Math.floor(x - contentBounds.getMinX());
+		int srcY = (int) Math.floor(y - contentBounds.getMinY());
+		int fromX = Math.max(0, -srcX);
+		int fromY = Math.max(0, -srcY);
+		int toX = Math.min(size, (int) contentImage.getWidth() - srcX);
+		int toY = Math.min(size, (int) contentImage.getHeight() - srcY);
+		if (toX <= fromX || toY <= fromY) return;
+		lensImage.getPixelWriter().setPixels(
+				fromX, fromY, toX - fromX, toY - fromY,
+				contentImage.getPixelReader(), srcX + fromX, srcY + fromY
+		);
+	}
+
+	/**
+	 * Marks the cached snapshot of the content as outdated, it will be refreshed the next time the lens' view is updated.
+	 * <p>
+	 * This is called automatically when the content requests a layout or its bounds change, but changes that do not
+	 * affect the layout cannot be detected, in such cases this method should be called manually.
+	 * Has no effect if {@link MFXMagnifierPane#cacheContentProperty()} is disabled.
+	 */
+	public void invalidateContentCache() {
+		contentDirty = true;
+		MFXMagnifierPane magnifier = getSkinnable();
+		if (magnifier.isCacheContent() && magnifier.getPosition() != null) snapshotTimer.start();
+	}
+
+	/**
+	 * Moves the listeners used to invalidate the content cache from the old content to the new one.
+	 */
+	private void watchContent(Node oldContent, Node newContent) {
+		if (oldContent != null) {
+			oldContent.boundsInParentProperty().removeListener(boundsListener);
+			if (oldContent instanceof Parent) ((Parent) oldContent).needsLayoutProperty().removeListener(layoutListener);
+		}
+		if (newContent != null) {
+			newContent.boundsInParentProperty().addListener(boundsListener);
+			if (newContent instanceof Parent) ((Parent) newContent).needsLayoutProperty().addListener(layoutListener);
+		}
+		contentImage = null;
+		contentDirty = true;
+	}
+
+	/**
+	 * Converts the given color to an ARGB int, as expected by {@link PixelFormat#getIntArgbInstance()}.
+	 */
+	private int toArgb(Color color) {
+		return ((int) Math.round(color.getOpacity() * 255) << 24) |
+				((int) Math.round(color.getRed() * 255) << 16) |
+				((int) Math.round(color.getGreen() * 255) << 8) |
+				(int) Math.round(color.getBlue() * 255);
 	}
 
 	/**
@@ -258,7 +394,7 @@ private void updateZoom(ScrollEvent se) {
 	 */
 	private SnapshotParameters snapshotParamsFor(PositionBean positionBean, double width, double height) {
 		MFXMagnifierPane magnifier = getSkinnable();
-		SnapshotParameters sp = new SnapshotParameters();
+		SnapshotParameters sp = params;
 
 		double offset = (magnifier.getLensSize() / (magnifier.getZoom() - (magnifier.getZoom() - magnifier.getMinZoom())));
 		double xOffset = positionBean.getX() - offset;
@@ -284,6 +420,13 @@ protected void layoutChildren(double contentX, double contentY, double contentWi
 		if (magnifier.getPosition() != null) updateMagnifier();
 	}
 
+	@Override
+	public void dispose() {
+		snapshotTimer.stop();
+		watchContent(getSkinnable().getContent(), null);
+		super.dispose();
+	}
+
 	//================================================================================
 	// Magnifier Lens
 	//================================================================================
@@ -293,7 +436,8 @@ protected void layoutChildren(double contentX, double contentY, double contentWi
 	 * <p>
 	 * There are three components:
 	 * <p> 1) An {@link ImageView} responsible for showing the zoomed portion of the
-	 * magnifier's content. The image is specified by the {@link #imageProperty()}
+	 * magnifier's content. The image is specified by the {@link #imageProperty()}, and it's scaled by the
+	 * current zoom level without smoothing, so that the single pixels are visible
 	 * <p> 2) A custom cursor which easily allows the user to understand which is the current selected pixel
 	 * <p> 3) A label to show the current zoom level. The label is shown only when the zoom changes, and it is hidden
 	 * after a certain amount of time. See {@link MFXMagnifierPane#showZoomLabelProperty()} and {@link MFXMagnifierPane#hideZoomLabelAfterProperty()}.
@@ -307,7 +451,11 @@ class MFXMagnifierLens extends StackPane {
 		private final ObjectProperty<Image> image = new SimpleObjectProperty<>() {
 			@Override
 			public void set(Image newValue) {
-				super.set(newValue != null ? postProcess(newValue) : null);
+				if (newValue != null && newValue == get()) {
+					fireValueChangedEvent();
+					return;
+				}
+				super.set(newValue);
 			}
 		};
 		private final ImageView view;
@@ -325,7 +473,11 @@ public void set(Image newValue) {
 			magnifier.magnifierViewProperty().bind(image);
 
 			view = new ImageView();
+			view.setPreserveRatio(false);
+			view.setSmooth(false);
 			view.imageProperty().bind(image);
+			view.fitWidthProperty().bind(magnifier.lensSizeProperty().multiply(magnifier.zoomProperty()));
+			view.fitHeightProperty().bind(magnifier.lensSizeProperty().multiply(magnifier.zoomProperty()));
 
 			cursor = new Rectangle(1, 1, Color.TRANSPARENT);
 			cursor.setManaged(false);
@@ -369,54 +521,6 @@ public void set(Image newValue) {
 		// Methods
 		//================================================================================
 
-		/**
-		 * Updates the {@link #imageProperty()} of the lens with {@link SnapshotResult#getImage()}.
-		 * <p>
-		 * The image property will then automatically call {@link #postProcess(Image)}.
-		 */
-		private Void update(SnapshotResult snapshot) {
-			setImage(snapshot.getImage());
-			return null;
-		}
-
-		/**
-		 * This is actually a core method of the lens.
-		 * <p>
-		 * In JavaFX snapshots are anti-aliased by default and as far as I know there's no way to
-		 * prevent that.
-		 * <p>
-		 * For a magnifier/color picker tool this is very bad as when you zoom the image you won't be able to see
-		 * the single pixels, colors will appear mixed, the image blurry, it's a disaster for a tool that needs pixel precision.
-		 * <p></p>
-		 * This method fixes this by:
-		 * <p> 1) Converts the input image to a {@link java.awt.image.BufferedImage}
-		 * <p> 2) Writes the buffered image into a {@link ByteArrayOutputStream}
-		 * <p> 3) Creates a new JavaFX {@link Image} from the stream, with width and height computed
-		 * taking into account the current zoom level, and setting "preserveRatio" and "smooth" to false
-		 * <p></p>
-		 * This is a heavy performance operation, but it's the easiest and actually the fastest.
-		 * From some basic testing the operation can take from 2ms to 25ms(rarely) to complete, so reaching
-		 * 60fps is not an issue at all.
-		 */
-		@SuppressWarnings("ConstantConditions")
-		private Image postProcess(Image input) {
-			if (input == null) {
-				throw new NullPointerException("Cannot post process null input!");
-			}
-
-			MFXMagnifierPane magnifier = getSkinnable();
-			Image output = input;
-			try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-				double w = magnifier.getZoom() * input.getWidth();
-				double h = magnifier.getZoom() * input.getHeight();
-				ImageIO.write(SwingFXUtils.fromFXImage(input, null), "png", baos);
-				output = new Image(new ByteArrayInputStream(baos.toByteArray()), w, h, false, false);
-			} catch (IOException ex) {
-				ex.printStackTrace();
-			}
-			return output;
-		}
-
 		/**
 		 * Increments the zoom by {@link MFXMagnifierPane#zoomIncrementProperty()},
 		 * calls {@link #updateZoom(double)}.
@@ -508,7 +612,10 @@ public Image getImage() {
 		}
 
 		/**
-		 * Specifies the lens' view
+		 * Specifies the lens' view.
+		 * <p>
+		 * The skin reuses the same image and updates its pixels in place, for this reason setting the current
+		 * image again notifies the listeners anyway.
 		 */
 		public ObjectProperty<Image> imageProperty() {
 			return image;
@@ -116,8 +116,8 @@ private void addListeners() {
             animateIcon(sortState);
             if (sortState == SortState.UNSORTED) return;
 
-            Comparator<T> comparator = (sortState == SortState.DESCENDING) ? column.getComparator().reversed() : column.getComparator();
-            column.fireEvent(new MFXTableColumnEvent<>(MFXTableColumnEvent.SORTING_EVENT, column, comparator, sortState));
+            Comparator<T> comparator = (sortState == SortState.DESCENDING) ? column.getSortComparator().reversed() : column.getSortComparator();
+            column.fireEvent(new MFXTableColumnEvent<>(MFXTableColumnEvent.SORTING_EVENT, column, comparator, sortState, true));
         }, false, true);
     }
 
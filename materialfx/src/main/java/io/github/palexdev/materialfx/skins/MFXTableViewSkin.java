@@ -18,6 +18,8 @@
 
 package io.github.palexdev.materialfx.skins;
 
+import io.github.palexdev.materialfx.collections.SortChain;
+import io.github.palexdev.materialfx.collections.SortKey;
 import io.github.palexdev.materialfx.collections.TransformableList;
 import io.github.palexdev.materialfx.collections.TransformableListWrapper;
 import io.github.palexdev.materialfx.controls.*;
@@ -37,6 +39,9 @@
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This is the implementation of the {@code Skin} associated with every {@link MFXTableView}.
  * <p>
@@ -46,6 +51,8 @@
  * <p>
  * At the bottom of the table view there's a footer which by default has two icons to filter/clear filter. Can be changed by overriding
  * {@link #buildFooter()} or hidden(removed) by setting {@link MFXTableView#footerVisibleProperty()} to false.
+ * The default footer also shows a progress spinner while the items are being filtered/sorted asynchronously,
+ * see {@link TransformableList#setExecutor(java.util.concurrent.Executor)}.
  * <p></p>
  * The filter mechanism relies on the super flexible {@link MFXFilterPane} shown in a modal dialog.
  * <p></p>
@@ -66,7 +73,8 @@
 
 	private final MFXFilterPane<T> filterPane;
 	private final MFXStageDialog filterDialog;
-	private MFXTableColumn<T> sortedColumn;
+	private final List<MFXTableColumn<T>> sortedColumns = new ArrayList<>();
+	private boolean sorting = false;
 
 	//================================================================================
 	// Constructors
@@ -111,7 +119,7 @@ public MFXTableViewSkin(MFXTableView<T> tableView, SimpleVirtualFlow<T, MFXTable
 	/**
 	 * Specifies the behavior for the following changes/events:
 	 * <p> - Handles the focus on MOUSE_PRESSED
-	 * <p> - Handles the sorting on {@link MFXTableColumnEvent#SORTING_EVENT}
+	 * <p> - Handles the sorting on {@link MFXTableColumnEvent#SORTING_EVENT}, see {@link #updateComparator()}
 	 * <p> - Re-builds the cell when columns change
 	 * <p> - Handles the footer visibility
 	 */
@@ -121,32 +129,33 @@ private void addListeners() {
 
 		tableView.addEventFilter(MouseEvent.MOUSE_PRESSED, event -> tableView.requestFocus());
 		tableView.addEventFilter(MFXTableColumnEvent.SORTING_EVENT, event -> {
-			TransformableListWrapper<T> transformableList = tableView.getTransformableList();
+			if (sorting) return;
 			MFXTableColumn<T> column = event.getColumn();
-			if (sortedColumn != null && sortedColumn != column) {
-				sortedColumn.setSortState(SortState.UNSORTED);
-			}
-			switch (event.getSortState()) {
-				case UNSORTED: {
-					transformableList.setComparator(null, false);
-					break;
-				}
-				case ASCENDING: {
-					transformableList.setComparator(event.getComparator(), false);
-					break;
-				}
-				case DESCENDING: {
-					transformableList.setComparator(event.getComparator(), true);
-					break;
+			sorting = true;
+			try {
+				if (!event.isMultiSort()) {
+					for (MFXTableColumn<T> sortedColumn : sortedColumns) {
+						if (sortedColumn != column) sortedColumn.setSortState(SortState.UNSORTED);
+					}
+					sortedColumns.removeIf(sortedColumn -> sortedColumn != column);
 				}
+			} finally {
+				sorting = false;
+			}
+
+			if (event.getSortState() == SortState.UNSORTED) {
+				sortedColumns.remove(column);
+			} else if (!sortedColumns.contains(column)) {
+				sortedColumns.add(column);
 			}
-			sortedColumn = column;
+			updateComparator();
 		});
 
 		tableView.getTableColumns().addListener((InvalidationListener) invalidated -> {
 			for (MFXTableRow<T> row : rowsFlow.getCells().values()) {
 				row.buildCells();
 			}
+			if (sortedColumns.retainAll(tableView.getTableColumns())) updateComparator();
 		});
 
 		tableView.footerVisibleProperty().addListener((observable, oldValue, newValue) -> {
@@ -158,6 +167,30 @@ private void addListeners() {
 		});
 	}
 
+	/**
+	 * Builds a {@link SortChain} from the sorted columns, in the order they were sorted, and sets it as the
+	 * comparator of the table's {@link TransformableListWrapper}.
+	 * <p>
+	 * Each key is the column's {@link MFXTableColumn#sortKeyProperty()}, or its comparator wrapped with {@link SortKey#of(java.util.Comparator)}
+	 * if the key is not declared, reversed if the column is sorted in descending order. Since {@link SortKey}s
+	 * are equal when built from the same comparator, adding a column to the sort (SHIFT + click) only produces an
+	 * extension of the previous chain, which the list sorts without starting from scratch.
+	 */
+	protected void updateComparator() {
+		TransformableListWrapper<T> transformableList = getSkinnable().getTransformableList();
+		if (sortedColumns.isEmpty()) {
+			transformableList.setComparator(null, false);
+			return;
+		}
+
+		List<SortKey<T>> keys = new ArrayList<>(sortedColumns.size());
+		for (MFXTableColumn<T> column : sortedColumns) {
+			SortKey<T> key = column.getSortKey() != null ? column.getSortKey() : SortKey.of(column.getComparator());
+			keys.add(column.getSortState() == SortState.DESCENDING ? key.reversed() : key);
+		}
+		transformableList.setComparator(new SortChain<>(keys), keys.get(0).isDescending());
+	}
+
 	/**
 	 * Responsible for building the table's footer.
 	 */
@@ -181,12 +214,20 @@ protected StackPane buildFooter() {
 		});
 
 		filterPane.setOnFilter(event -> {
-			tableView.getTransformableList().setPredicate(filterPane.filter());
+			TransformableListWrapper<T> transformableList = tableView.getTransformableList();
+			transformableList.setPredicate(filterPane.filter(transformableList.getProjection()));
 			filterDialog.close();
 		});
 		filterPane.setOnReset(event -> filterPane.getActiveFilters().clear());
 
-		HBox container = new HBox(10, filterIcon, clearFilterIcon);
+		MFXProgressSpinner transformIndicator = new MFXProgressSpinner();
+		transformIndicator.getStyleClass().add("transform-indicator");
+		transformIndicator.setRadius(8);
+		transformIndicator.visibleProperty().bind(tableView.getTransformableList().transformingProperty());
+		transformIndicator.managedProperty().bind(transformIndicator.visibleProperty());
+
+		HBox container = new HBox(10, filterIcon, clearFilterIcon, transformIndicator);
+		container.setAlignment(Pos.CENTER_LEFT);
 		StackPane.setAlignment(container, Pos.CENTER_LEFT);
 
 		StackPane stackPane = new StackPane(container);
@@ -51,7 +51,8 @@ public class CSSFragment {
 	// Properties
 	//================================================================================
 	private static final Base64.Encoder enc = Base64.getEncoder();
-	private final String css;
+	private static final Base64.Decoder dec = Base64.getDecoder();
+	private String css;
 	private String converted;
 
 	public static final String DATA_URI_PREFIX = "data:base64,";
@@ -67,6 +68,20 @@ public CSSFragment(String css) {
 	// Static Methods
 	//================================================================================
 
+	/**
+	 * Creates a new {@code CSSFragment} from a Data URI previously produced by {@link #toDataUri()}.
+	 * <p>
+	 * The CSS is decoded from the URI only if requested, by {@link #toString()}, {@link #equals(Object)} or {@link #hashCode()}.
+	 * This is used by {@link UserAgentBuilder} to restore cached stylesheets without converting them again.
+	 */
+	public static CSSFragment fromDataUri(String dataUri) {
+		if (!dataUri.startsWith(DATA_URI_PREFIX))
+			throw new IllegalArgumentException("Not a CSS Data URI: " + dataUri.substring(0, Math.min(32, dataUri.length())));
+		CSSFragment fragment = new CSSFragment(null);
+		fragment.converted = dataUri;
+		return fragment;
+	}
+
 	/**
 	 * Applies the given CSS to the given {@link Parent}
 	 *
@@ -95,6 +110,16 @@ public String toDataUri() {
 		return converted;
 	}
 
+	/**
+	 * @return the CSS string of this fragment, decoding it from the Data URI if needed
+	 */
+	private String css() {
+		if (css == null && converted != null) {
+			css = new String(dec.decode(converted.substring(DATA_URI_PREFIX.length())), UTF_8);
+		}
+		return css;
+	}
+
 	/**
 	 * If this CSS fragment has not been applied yet to the given {@link Parent}, applies it
 	 * using {@link Parent#getStylesheets()}
@@ -159,17 +184,17 @@ public boolean equals(Object o) {
 		if (this == o) return true;
 		if (o == null || getClass() != o.getClass()) return false;
 		CSSFragment that = (CSSFragment) o;
-		return css.equals(that.css);
+		return Objects.equals(css(), that.css());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(css);
+		return Objects.hash(css());
 	}
 
 	@Override
 	public String toString() {
-		return css;
+		return css();
 	}
 
 	//================================================================================
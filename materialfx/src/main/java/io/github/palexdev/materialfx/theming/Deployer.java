@@ -20,17 +20,18 @@
 
 import io.github.palexdev.materialfx.theming.base.Theme;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.file.FileVisitResult;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -44,14 +45,19 @@
  * The base path for all deployments is at the OS' temp directory {@code System.getProperty("java.io.tmpdir")} in a
  * subdirectory named "themes-assets".
  * <p></p>
- * The deployment will always occur replacing any existing asset, this way we ensure that all assets are present,
- * unmodified/uncorrupted, while also avoiding costly checks on the filesystem.
+ * Deployments are content-addressed: the assets of a theme are extracted in a directory named after the SHA-256
+ * checksum of the assets zip, inside the theme's directory, {@link Theme#deployName()}. Once the extraction is complete,
+ * a manifest is written in the theme's directory, it contains the checksum and the list of the extracted files with their size.
+ * <p>
+ * This way, when a theme is deployed again, even by another process, the extraction is skipped if the manifest has the
+ * same checksum and all the listed files are present with the expected size. When the extraction is needed, the entries
+ * of big archives are extracted in parallel, and previous extractions for other checksums are removed.
  * <p></p>
  * Deployments are stored in a nested map of type: [String, Map[String, Path]].
  * <p>
  * The first key is given by {@link Theme#deployName()}, and allows to check which themes have already been deployed.
- * Keep in mind, that checks on which themes are deployed occur only on this cache in memory, for the same reason above,
- * we void checks on the filesystem.
+ * If a theme has not been deployed by the current process, the map is populated from the manifest, if present, the first
+ * time it's requested by {@link #getDeployed(Theme)}.
  * <p>
  * The internal map allows to associate each file in the zip to their path on the filesystem. The only note here is about
  * the key of these maps. The key is the path of the file in the zip, for example:
@@ -67,21 +73,18 @@
  *  - root.res
  *
  *  // As already said the base path is TMP_DIR/themes-assets
- *  // The structure on the disk will be as follows
- *  TMP_DIR/assets
- *  TMP_DIR/assets/images
- *  TMP_DIR/assets/images/image.png
- *  TMP_DIR/assets/res
- *  TMP_DIR/assets/res/res.tmp
- *  TMP_DIR/root.res
+ *  // The structure on the disk will be as follows (DIR is TMP_DIR/themes-assets/DEPLOY_NAME/CHECKSUM)
+ *  DIR/assets
+ *  DIR/assets/images
+ *  DIR/assets/images/image.png
+ *  DIR/assets/res
+ *  DIR/assets/res/res.tmp
+ *  DIR/root.res
  *
  *  // The structure in the cache map will be as follows
- *  TMP_DIR/assets
- *  TMP_DIR/assets/images
- *  "assets/images/image.png" -> TMP_DIR/assets/images/image.png
- *  TMP_DIR/assets/res
- *  "assets/res/res.tmp" -> TMP_DIR/assets/res/res.tmp
- *  "root.res" -> TMP_DIR/root.res
+ *  "assets/images/image.png" -> DIR/assets/images/image.png
+ *  "assets/res/res.tmp" -> DIR/assets/res/res.tmp
+ *  "root.res" -> DIR/root.res
  *  // Note that only files are stored in cache!
  * }
  * </pre>
@@ -101,7 +104,10 @@ public static Deployer instance() {
 	//================================================================================
 	// Properties
 	//================================================================================
-	private final Map<String, Map<String, Path>> cache = new HashMap<>();
+	private static final String MANIFEST = "manifest";
+	private static final int PARALLEL_THRESHOLD = 32;
+
+	private final Map<String, Deployment> cache = new ConcurrentHashMap<>();
 	private final Path tmpDir = Path.of(System.getProperty("java.io.tmpdir"), "themes-assets");
 
 	//================================================================================
@@ -115,53 +121,101 @@ private Deployer() {}
 
 	/**
 	 * Retrieves the given {@link Theme}'s assets using {@link Theme#assets()}, if the returned stream is not null
-	 * and is a valid zip file, extracts its contents at: {@code System.getProperty("java.io.tmpdir")/themes-assets}.
+	 * and is a valid zip file, extracts its contents at: {@code System.getProperty("java.io.tmpdir")/themes-assets/DEPLOY_NAME/CHECKSUM}.
 	 * <p>
 	 * The paths in the zip are preserved.
 	 * <p></p>
+	 * The checksum of the zip is computed while reading the stream, nothing is written on the disk. If the manifest of
+	 * the theme reports the same checksum and the extraction is intact, see {@link #readManifest(Path)}, nothing is extracted.
+	 * Otherwise, the assets are requested again and copied to a temporary zip file, the entries are extracted (in parallel
+	 * if there are many of them), the manifest is rewritten and older extractions are removed.
+	 * <p>
 	 * At the end the zip file is deleted.
 	 */
 	public void deploy(Theme theme) throws Exception {
-		if (!Files.isDirectory(tmpDir)) Files.createDirectories(tmpDir);
+		Path themeDir = tmpDir.resolve(theme.deployName());
+		if (!Files.isDirectory(themeDir)) Files.createDirectories(themeDir);
 
-		Path zipPath = null;
+		// Compute the checksum without copying the zip
+		String checksum;
 		try (InputStream in = theme.assets()) {
 			if (in == null) return;
-			Path destDir = tmpDir.resolve(theme.deployName());
-			if (!Files.isDirectory(destDir)) Files.createDirectories(destDir);
+			checksum = copy(in, OutputStream.nullOutputStream());
+		}
 
-			// Copy zip to file system
-			zipPath = destDir.resolve("assets.zip");
-			OutputStream out = Files.newOutputStream(zipPath);
-			in.transferTo(out);
+		// Reuse an intact extraction
+		Deployment existing = readManifest(themeDir);
+		if (existing != null && existing.checksum.equals(checksum)) {
+			cache.put(theme.deployName(), existing);
+			return;
+		}
+
+		// Copy zip to file system, the checksum is computed again in case the assets changed
+		Path zipPath = null;
+		try (InputStream in = theme.assets()) {
+			if (in == null) return;
+			zipPath = Files.createTempFile(themeDir, "assets", ".zip");
+			try (OutputStream out = Files.newOutputStream(zipPath)) {
+				checksum = copy(in, out);
+			}
 
 			// Unzip
+			Path destDir = themeDir.resolve(checksum);
+			Map<String, Path> deployed = new ConcurrentHashMap<>();
+			Map<String, Long> sizes = new ConcurrentHashMap<>();
 			try (ZipFile zf = new ZipFile(zipPath.toFile())) {
 				List<? extends ZipEntry> entries = zf.stream().collect(Collectors.toList());
 				for (ZipEntry entry : entries) {
-					unzip(theme, zf, entry, destDir);
+					if (entry.isDirectory()) Files.createDirectories(resolve(destDir, entry.getName()));
 				}
+				List<? extends ZipEntry> files = entries.stream()
+						.filter(entry -> !entry.isDirectory())
+						.collect(Collectors.toList());
+				(files.size() >= PARALLEL_THRESHOLD ? files.parallelStream() : files.stream()).forEach(entry -> {
+					try {
+						unzip(zf, entry, destDir, deployed, sizes);
+					} catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				});
 			}
-		} catch (IOException ex) {
-			throw new RuntimeException(ex);
+
+			Deployment deployment = new Deployment(checksum, destDir, new HashMap<>(deployed));
+			writeManifest(themeDir, deployment, sizes);
+			cache.put(theme.deployName(), deployment);
+			removeStale(themeDir, destDir);
+		} catch (UncheckedIOException ex) {
+			throw ex.getCause();
 		} finally {
-			if (zipPath != null) Files.delete(zipPath);
+			if (zipPath != null) Files.deleteIfExists(zipPath);
+		}
+	}
+
+	/**
+	 * Copies the given stream to the given output stream, computing its SHA-256 checksum.
+	 *
+	 * @return the checksum as an hex string
+	 */
+	private String copy(InputStream in, OutputStream out) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		try (DigestInputStream din = new DigestInputStream(in, digest)) {
+			din.transferTo(out);
 		}
+		return toHex(digest.digest());
 	}
 
 	/**
 	 * If the given {@link Theme} has already been deployed before, removes its entry from the cache map,
-	 * and for each stored {@link Path} attempts their removal.
+	 * and deletes its directory, including the manifest.
 	 *
-	 * @return true if the operation was successful or the cache didn't contain the entry, false otherwise
+	 * @return true if the operation was successful or there was nothing to delete, false otherwise
 	 */
 	public boolean clean(Theme theme) {
-		Map<String, Path> assets = cache.remove(theme.deployName());
-		if (assets == null) return true;
+		cache.remove(theme.deployName());
+		Path themeDir = tmpDir.resolve(theme.deployName());
+		if (!Files.isDirectory(themeDir)) return true;
 		try {
-			for (Path path : assets.values()) {
-				delete(path);
-			}
+			delete(themeDir);
 			return true;
 		} catch (Exception ignored) {
 			return false;
@@ -184,29 +238,140 @@ public boolean cleanAll() {
 	}
 
 	/**
-	 * @return the Map containing the deployed Paths on the filesystem by their path into the zip
+	 * @return the Map containing the deployed Paths on the filesystem by their path into the zip. If the theme has
+	 * not been deployed by this process, the map is loaded from the manifest left by a previous deployment, if any
 	 */
 	public Map<String, Path> getDeployed(Theme theme) {
-		return cache.get(theme.deployName());
+		Deployment deployment = getDeployment(theme);
+		return deployment != null ? deployment.files : null;
+	}
+
+	/**
+	 * @return the directory in which the given theme's assets have been extracted, null if it's not deployed
+	 */
+	public Path getDeployDir(Theme theme) {
+		Deployment deployment = getDeployment(theme);
+		return deployment != null ? deployment.dir : null;
+	}
+
+	private Deployment getDeployment(Theme theme) {
+		return cache.computeIfAbsent(theme.deployName(), name -> {
+			try {
+				return readManifest(tmpDir.resolve(name));
+			} catch (IOException ex) {
+				return null;
+			}
+		});
 	}
 
 	/**
-	 * Responsible for copying resources from the zip file to the filesystem as well as building the cache.
+	 * Responsible for copying a resource from the zip file to the filesystem and recording it in the given maps.
+	 * <p>
+	 * Entries whose path would end up outside the destination directory are ignored.
 	 */
-	private void unzip(Theme theme, ZipFile zf, ZipEntry entry, Path destDir) throws IOException {
+	private void unzip(ZipFile zf, ZipEntry entry, Path destDir, Map<String, Path> deployed, Map<String, Long> sizes) throws IOException {
 		String name = entry.getName();
-		Path target = destDir.resolve(name);
-		if (entry.isDirectory()) {
-			Files.createDirectories(target);
-		} else {
-			try (InputStream in = zf.getInputStream(entry)) {
-				Files.copy(in, target, REPLACE_EXISTING);
-				Map<String, Path> themeCache = cache.computeIfAbsent(theme.deployName(), t -> new HashMap<>());
-				themeCache.put(name, target);
+		Path target = resolve(destDir, name);
+		if (target == null) return;
+		Files.createDirectories(target.getParent());
+		try (InputStream in = zf.getInputStream(entry)) {
+			long size = Files.copy(in, target, REPLACE_EXISTING);
+			deployed.put(name, target);
+			sizes.put(name, size);
+		}
+	}
+
+	/**
+	 * Resolves the given zip entry's name against the given directory.
+	 *
+	 * @return the resolved path or null if it's outside the directory
+	 */
+	private Path resolve(Path destDir, String name) {
+		Path target = destDir.resolve(name).normalize();
+		return target.startsWith(destDir) ? target : null;
+	}
+
+	/**
+	 * Reads the manifest in the given theme's directory.
+	 * <p>
+	 * The first line of the manifest is the checksum of the extracted zip, every other line is a file in the
+	 * form: "SIZE NAME". Every file is checked to exist with the listed size.
+	 *
+	 * @return the deployment described by the manifest, or null if there's no manifest or the extraction is not intact
+	 */
+	private Deployment readManifest(Path themeDir) throws IOException {
+		Path manifest = themeDir.resolve(MANIFEST);
+		if (!Files.isRegularFile(manifest)) return null;
+
+		try (BufferedReader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+			String checksum = reader.readLine();
+			if (checksum == null || checksum.isBlank()) return null;
+			Path destDir = themeDir.resolve(checksum);
+			if (!Files.isDirectory(destDir)) return null;
+
+			Map<String, Path> files = new HashMap<>();
+			for (String line; (line = reader.readLine()) != null; ) {
+				int space = line.indexOf(' ');
+				if (space < 0) continue;
+				String name = line.substring(space + 1);
+				Path path = resolve(destDir, name);
+				if (path == null) return null;
+				try {
+					if (Files.size(path) != Long.parseLong(line.substring(0, space))) return null;
+				} catch (IOException | NumberFormatException ex) {
+					return null;
+				}
+				files.put(name, path);
 			}
+			return new Deployment(checksum, destDir, files);
+		}
+	}
+
+	/**
+	 * Writes the manifest for the given deployment in the given theme's directory.
+	 * <p>
+	 * The manifest is written to a temporary file first, then moved, so that it's never read partially written.
+	 */
+	private void writeManifest(Path themeDir, Deployment deployment, Map<String, Long> sizes) throws IOException {
+		StringBuilder sb = new StringBuilder(deployment.checksum).append("\n");
+		for (Map.Entry<String, Long> entry : new TreeMap<>(sizes).entrySet()) {
+			sb.append(entry.getValue()).append(' ').append(entry.getKey()).append("\n");
+		}
+		Path tmp = Files.createTempFile(themeDir, MANIFEST, ".tmp");
+		Files.writeString(tmp, sb, StandardCharsets.UTF_8);
+		try {
+			Files.move(tmp, themeDir.resolve(MANIFEST), REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException ex) {
+			Files.move(tmp, themeDir.resolve(MANIFEST), REPLACE_EXISTING);
 		}
 	}
 
+	/**
+	 * Attempts at removing the extractions in the given theme's directory other than the given current one.
+	 * Failures are ignored, as the files may be in use by another process.
+	 */
+	private void removeStale(Path themeDir, Path current) {
+		try (DirectoryStream<Path> dirs = Files.newDirectoryStream(themeDir, Files::isDirectory)) {
+			for (Path dir : dirs) {
+				if (!dir.equals(current)) {
+					try {
+						delete(dir);
+					} catch (IOException ignored) {
+					}
+				}
+			}
+		} catch (IOException ignored) {
+		}
+	}
+
+	private String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
 	/**
 	 * Utility method to delete a path whether it is a file or directory, in other words, what Java should have already had
 	 * in their java.io/java.nio mess.
@@ -226,4 +391,24 @@ public FileVisitResult postVisitDirectory(final Path dir, final IOException e) t
 			}
 		});
 	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The result of a deployment: the checksum of the zip, the directory in which it was extracted
+	 * and the extracted files by their path in the zip.
+	 */
+	private static class Deployment {
+		private final String checksum;
+		private final Path dir;
+		private final Map<String, Path> files;
+
+		private Deployment(String checksum, Path dir, Map<String, Path> files) {
+			this.checksum = checksum;
+			this.dir = dir;
+			this.files = files;
+		}
+	}
 }
@@ -26,12 +26,17 @@
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.module.ModuleDescriptor;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 /**
@@ -65,7 +70,7 @@
  * Now, let's talk about the <b>caveats</b>.
  * <p>
  * Before the final stylesheet can be feed to {@link CSSFragment}, it needs to be processed by
- * {@link Processor#preProcess(Theme, String, boolean)} and then by {@link Processor#postProcess(StringBuilder)}.
+ * {@link Processor#preProcess(Theme, String, boolean, StringBuilder)} and then by {@link Processor#postProcess(StringBuilder)}.
  * <p>
  * The {@link Processor} is a naive attempt at reading CSS files, for this reason it expects first and foremost well formatted,
  * uncompressed and beautified CSS files. Even in such conditions, there may be unconsidered/unimplemented cases that could
@@ -81,15 +86,20 @@
  * on which I installed Windows, so take into account that, I noticed the same average. Mileage may vary!
  * <p>
  * Such operations can be enabled/disabled with: {@link #setResolveAssets(boolean)}, {@link #setDeploy(boolean)}.
+ * <p></p>
+ * To avoid processing the same themes at every start of the application, the builder can store its output on the disk,
+ * see {@link #setCacheDir(Path)}.
  */
 public class UserAgentBuilder {
 	//================================================================================
 	// Properties
 	//================================================================================
+	private static String libraryVersion;
 	private final Set<Theme> themes = new LinkedHashSet<>();
 	private boolean resolveAssets = false;
 	private boolean deploy = false;
 	private boolean debug = false;
+	private Path cacheDir = null;
 
 	//================================================================================
 	// Constructors
@@ -128,24 +138,151 @@ public UserAgentBuilder themes(Collection<? extends Theme> themes) {
 	/**
 	 * Iterates over all the themes added through {@link #themes(Theme...)}. If {@link #isDeploy()} has been set to true
 	 * the theme is deployed by {@link Theme#deploy()}. Then the data is loaded with {@link #load(Theme)} and pre-processed,
-	 * by {@link Processor#preProcess(Theme, String, boolean)}. The processed data is added to a {@link StringBuilder}.
+	 * by {@link Processor#preProcess(Theme, String, boolean, StringBuilder)}, directly into a single {@link StringBuilder}.
 	 * <p>
 	 * After all the themes have been processed, the data in the {@link StringBuilder} is post-processed by
 	 * {@link Processor#postProcess(StringBuilder)} and finally a new {@link CSSFragment} object is created with the
 	 * processed data of the merged stylesheet.
+	 * <p></p>
+	 * If a {@link #getCacheDir()} has been set, the processing is skipped when the cache contains an entry for the
+	 * loaded themes, see {@link #cacheKey(List)}; in such case the {@link CSSFragment} is restored from the stored Data URI
+	 * with {@link CSSFragment#fromDataUri(String)}. Otherwise, the result is stored in the cache once built.
 	 */
 	public CSSFragment build() {
+		List<String> sources = new ArrayList<>(themes.size());
+		for (Theme theme : themes) {
+			if (isDeploy()) theme.deploy();
+			sources.add(load(theme));
+		}
+
+		Path cacheFile = null;
+		if (cacheDir != null) {
+			cacheFile = cacheDir.resolve(cacheKey(sources) + ".uri");
+			CSSFragment cached = readCache(cacheFile);
+			if (cached != null) return cached;
+		}
+
 		StringBuilder sb = new StringBuilder();
 		Processor processor = new Processor();
+		Iterator<String> it = sources.iterator();
 		for (Theme theme : themes) {
-			if (isDeploy()) theme.deploy();
-			String data = load(theme);
-			String preProcessed = processor.preProcess(theme, data, resolveAssets);
-			sb.append(preProcessed).append("\n\n");
+			processor.preProcess(theme, it.next(), resolveAssets, sb);
+			sb.append("\n\n");
 		}
 		String postProcess = processor.postProcess(sb);
 		if (isDebug()) saveOnDisk(postProcess);
-		return new CSSFragment(postProcess);
+		CSSFragment fragment = new CSSFragment(postProcess);
+		if (cacheFile != null) writeCache(cacheFile, fragment);
+		return fragment;
+	}
+
+	/**
+	 * Computes the name of the cache entry for the given loaded themes.
+	 * <p>
+	 * The name is the SHA-256 hash of: the library version (see {@link #libraryVersion()}), the builder's flags,
+	 * the directories in which the themes' assets are deployed (resolved paths end up in the output, see
+	 * {@link Deployer#getDeployDir(Theme)}) and the themes' names and contents.
+	 * So, any change to the themes or to the way they are processed leads to a new entry.
+	 */
+	protected String cacheKey(List<String> sources) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(libraryVersion().getBytes(StandardCharsets.UTF_8));
+			digest.update(new byte[]{(byte) (resolveAssets ? 1 : 0), (byte) (deploy ? 1 : 0)});
+			Iterator<String> it = sources.iterator();
+			for (Theme theme : themes) {
+				digest.update((byte) 0);
+				digest.update(theme.name().getBytes(StandardCharsets.UTF_8));
+				if (resolveAssets) {
+					digest.update((byte) 0);
+					digest.update(String.valueOf(Deployer.instance().getDeployDir(theme)).getBytes(StandardCharsets.UTF_8));
+				}
+				digest.update((byte) 0);
+				digest.update(it.next().getBytes(StandardCharsets.UTF_8));
+			}
+
+			return toHex(digest.digest());
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * @return the version of the library, used to compute the cache keys, see {@link #cacheKey(List)}
+	 * <p>
+	 * The version is read from the module descriptor, or from the jar's manifest when the library is on the classpath.
+	 * If neither is available, for example when running from the compiled classes, the SHA-256 hash of the builder's
+	 * and the processor's bytecode is used instead, so that changes to the way themes are processed are still detected.
+	 */
+	protected static String libraryVersion() {
+		if (libraryVersion != null) return libraryVersion;
+		String version = null;
+		ModuleDescriptor descriptor = UserAgentBuilder.class.getModule().getDescriptor();
+		if (descriptor != null) version = descriptor.rawVersion().orElse(null);
+		if (version == null) version = UserAgentBuilder.class.getPackage().getImplementationVersion();
+		if (version == null) {
+			try {
+				MessageDigest digest = MessageDigest.getInstance("SHA-256");
+				for (Class<?> klass : new Class<?>[]{UserAgentBuilder.class, Processor.class}) {
+					String name = klass.getName();
+					try (InputStream in = klass.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+						if (in != null) digest.update(in.readAllBytes());
+					}
+				}
+				version = "classes-" + toHex(digest.digest());
+			} catch (NoSuchAlgorithmException | IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+		libraryVersion = version;
+		return version;
+	}
+
+	/**
+	 * Converts the given bytes to a lowercase hexadecimal String.
+	 */
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Reads the given cache entry with a single read.
+	 * <p>
+	 * In case the entry doesn't exist or can't be read, returns null.
+	 */
+	protected CSSFragment readCache(Path cacheFile) {
+		if (!Files.isRegularFile(cacheFile)) return null;
+		try {
+			return CSSFragment.fromDataUri(Files.readString(cacheFile, StandardCharsets.UTF_8));
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the given {@link CSSFragment}, converted to a Data URI, in the given cache entry.
+	 * <p>
+	 * The data is first written to a temporary file which is then moved to the entry, so that concurrent
+	 * starts never read a partially written entry. Errors are printed to the stdout and ignored.
+	 */
+	protected void writeCache(Path cacheFile, CSSFragment fragment) {
+		try {
+			Files.createDirectories(cacheFile.getParent());
+			Path tmp = Files.createTempFile(cacheFile.getParent(), "uab-", ".tmp");
+			Files.writeString(tmp, fragment.toDataUri(), StandardCharsets.UTF_8);
+			try {
+				Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (Exception ex) {
+			ex.printStackTrace();
+		}
 	}
 
 	/**
@@ -235,6 +372,24 @@ public UserAgentBuilder setDebug(boolean debug) {
 		return this;
 	}
 
+	/**
+	 * @return the directory in which the builder's output is cached, null if caching is disabled
+	 */
+	public Path getCacheDir() {
+		return cacheDir;
+	}
+
+	/**
+	 * Sets the directory in which the builder's output is cached, null to disable caching (default).
+	 * <p>
+	 * Entries are never deleted by the builder, since each of them is tied to specific themes contents and
+	 * library version, old entries can be safely removed.
+	 */
+	public UserAgentBuilder setCacheDir(Path cacheDir) {
+		this.cacheDir = cacheDir;
+		return this;
+	}
+
 	//================================================================================
 	// Internal Classes
 	//================================================================================
@@ -271,7 +426,7 @@ enum Type {
 
 		/**
 		 * Given a {@link Theme} and its loaded stylesheet in the form of a single String, performs some modifications on
-		 * the data.
+		 * the data and appends the result to the given {@link StringBuilder}.
 		 * <p></p>
 		 * <p> - Comments are removed.
 		 * <p> - Imports are resolved and stored is a Set. The resolve is performed by {@link #resolveImport(Theme, String)}.
@@ -281,20 +436,32 @@ enum Type {
 		 * <p> - URLs are resolved by {@link #resolveResource(Theme, String)}. If the resource was found in the deployed
 		 * of the theme (see {@link Deployer}), then the URL directive is converted as follows (without quotes):
 		 * "url("PATH_ON_THE_DISK");". If the URL points to a network resource, then there's no need to convert it.
-		 *
-		 * @return the pre-processed theme's data
+		 * URL lines which don't separate the property from its value with ": " can't be resolved, they are copied as
+		 * they are.
+		 * <p> - An empty line is added after every line that closes a block.
+		 * <p></p>
+		 * The data is scanned only once, line by line, without splitting it. Each line is classified by looking at its
+		 * first and last non-whitespace characters, see {@link #typeOf(String, int, int)}. Lines which are not modified
+		 * are copied to the output directly from the data.
 		 */
-		public String preProcess(Theme theme, String data, boolean resolveAssets) {
-			String[] lines = data.split("\n");
-			StringBuilder sb = new StringBuilder();
+		public void preProcess(Theme theme, String data, boolean resolveAssets, StringBuilder out) {
 			boolean insideComment = false;
-			for (String line : lines) {
-				if (line.isBlank()) continue;
-				Type type = typeOf(line);
+			boolean blockClosed = false;
+			int length = data.length();
+			for (int start = 0; start < length; ) {
+				int end = data.indexOf('\n', start);
+				if (end < 0) end = length;
+				int lineStart = start;
+				start = end + 1;
+
+				int first = skipWhitespace(data, lineStart, end);
+				if (first == end) continue; /* Blank line */
+				int last = lastNonWhitespace(data, first, end);
+				Type type = typeOf(data, first, last);
 
 				/* Ignore comments */
 				if (type == Type.START_COMMENT) {
-					if (line.trim().endsWith("*/")) continue; /* One line comment */
+					if (endsWith(data, first, last, "*/")) continue; /* One line comment */
 					insideComment = true;
 					continue;
 				}
@@ -306,45 +473,64 @@ public String preProcess(Theme theme, String data, boolean resolveAssets) {
 
 				/* Resolved imports should be stored and added back by the post-processing */
 				if (type == Type.IMPORT && resolveAssets) {
+					String line = data.substring(lineStart, end);
 					Path path = resolveImport(theme, line);
 					if (path == null || !Files.exists(path)) {
 						System.err.println("Could not resolve import: " + line);
 						continue;
 					}
-					line = "@import \"file:///" + path.toString().replace("\\", "/") + "\";";
-					imports.add(line);
+					imports.add("@import \"file:///" + path.toString().replace("\\", "/") + "\";");
 					continue;
 				}
 
 				/* Resolve URLs */
 				if (type == Type.URL && resolveAssets) {
+					String line = data.substring(lineStart, end);
 					if (!isNetworkResource(line)) {
-						String[] split = line.split(": ");
-						Path path = resolveResource(theme, split[1]);
-						if (path == null || !Files.exists(path)) continue;
-						line = line.replaceAll("^(\\s+).+", "$1") + split[0] + ": url(" + path + ");";
+						int colon = line.indexOf(": ");
+						if (colon >= 0) {
+							int valueEnd = line.indexOf(": ", colon + 2);
+							String value = line.substring(colon + 2, valueEnd < 0 ? line.length() : valueEnd);
+							Path path = resolveResource(theme, value);
+							if (path == null || !Files.exists(path)) continue;
+							line = indentOf(line) + line.substring(0, colon) + ": url(" + path + ");";
+						} else {
+							System.err.println("Could not resolve URL: " + line);
+						}
 					}
+					if (blockClosed) out.append("\n");
+					out.append(line).append("\n");
+					blockClosed = line.endsWith("}");
+					continue;
 				}
 
-				if (sb.toString().endsWith("}\n")) sb.append("\n");
-				sb.append(line).append("\n");
+				/* Every other line is copied as it is */
+				if (blockClosed) out.append("\n");
+				out.append(data, lineStart, end).append("\n");
+				blockClosed = data.charAt(end - 1) == '}';
 			}
-			return sb.toString();
 		}
 
 		/**
 		 * Given the pre-processed data as a {@link StringBuilder} adds all the imports stored by
-		 * {@link #preProcess(Theme, String, boolean)} at the top.
+		 * {@link #preProcess(Theme, String, boolean, StringBuilder)} at the top.
+		 * <p>
+		 * The result is built in a new buffer, rather than inserting each import at the beginning of the data.
 		 *
 		 * @return the post-processed data as a String
 		 */
 		public String postProcess(StringBuilder data) {
-			int offset = 0;
+			if (imports.isEmpty()) return data.toString();
+
+			int length = data.length();
 			for (String imp : imports) {
-				data.insert(offset, imp + "\n");
-				offset += imp.length() + 1;
+				length += imp.length() + 1;
 			}
-			return data.toString();
+			StringBuilder sb = new StringBuilder(length);
+			for (String imp : imports) {
+				sb.append(imp).append("\n");
+			}
+			return sb.append(data).toString();
 		}
 
 		/**
@@ -388,15 +574,68 @@ private boolean isNetworkResource(String line) {
 		}
 
 		/**
-		 * Given the current CSS line being processed, determines its type.
+		 * Given the bounds of the current CSS line being processed, excluding leading and trailing whitespaces,
+		 * determines its type.
 		 */
-		private Type typeOf(String line) {
-			String trim = line.trim();
-			if (trim.startsWith("/*")) return Type.START_COMMENT;
-			if (trim.endsWith("*/")) return Type.END_COMMENT;
-			if (trim.startsWith("@import")) return Type.IMPORT;
-			if (trim.contains("url(")) return Type.URL;
+		private Type typeOf(String data, int first, int last) {
+			if (data.startsWith("/*", first)) return Type.START_COMMENT;
+			if (endsWith(data, first, last, "*/")) return Type.END_COMMENT;
+			if (data.startsWith("@import", first)) return Type.IMPORT;
+			for (int i = first; i + 4 <= last + 1; i++) {
+				if (data.startsWith("url(", i)) return Type.URL;
+			}
 			return Type.OTHER;
 		}
+
+		/**
+		 * @return whether the region of the given data which ends at the given (inclusive) index, and starts
+		 * at the given one, ends with the given suffix
+		 */
+		private boolean endsWith(String data, int first, int last, String suffix) {
+			int from = last + 1 - suffix.length();
+			return from >= first && data.startsWith(suffix, from);
+		}
+
+		/**
+		 * @return the index of the first character from the given start which is not a whitespace (as intended
+		 * by {@link String#trim()}), or the given end if there's none
+		 */
+		private int skipWhitespace(String data, int start, int end) {
+			while (start < end && data.charAt(start) <= ' ') start++;
+			return start;
+		}
+
+		/**
+		 * @return the index of the last character before the given end which is not a whitespace (as intended
+		 * by {@link String#trim()}). Expects a non-whitespace character at the given first index
+		 */
+		private int lastNonWhitespace(String data, int first, int end) {
+			int last = end - 1;
+			while (last > first && data.charAt(last) <= ' ') last--;
+			return last;
+		}
+
+		/**
+		 * Extracts the indentation of the given URL line, the result is the same as
+		 * {@code line.replaceAll("^(\\s+).+", "$1")}: the leading whitespaces followed by whatever follows a line terminator,
+		 * or the whole line if it doesn't start with a whitespace.
+		 */
+		private String indentOf(String line) {
+			int indent = 0;
+			while (indent < line.length() && isRegexWhitespace(line.charAt(indent))) indent++;
+			if (indent == 0 || indent == line.length()) return line;
+
+			for (int i = indent + 1; i < line.length(); i++) {
+				char c = line.charAt(i);
+				if (c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+					return line.substring(0, indent) + line.substring(i);
+				}
+			}
+			return line.substring(0, indent);
+		}
+
+		private boolean isRegexWhitespace(char c) {
+			return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+		}
 	}
 }
@@ -106,7 +106,9 @@ default void applyOn(Parent parent) {
 	}
 
 	/**
-	 * @return the stream to the theme's assets, these are expected to be contained in a zip file
+	 * @return the stream to the theme's assets, these are expected to be contained in a zip file.
+	 * The {@link Deployer} may invoke this more than once during a deployment, so a new stream should be returned
+	 * at every call
 	 */
 	default InputStream assets() {
 		return null;
@@ -143,9 +145,10 @@ default void clean() {
 	}
 
 	/**
-	 * @return whether the theme has been already deployed before by the {@link Deployer}. Beware, this is just a check
-	 * to see if the deployment is in the cache map. No checks are done on the file system as it would be too costly.
-	 * And this is true for {@link #deploy()} too, files will be extracted not matter if they are/are not on the disk
+	 * @return whether the theme has been already deployed by the {@link Deployer}, by this process or by a previous one.
+	 * If the deployment is not in the cache map, the manifest left on the disk is read, and its files are checked to exist
+	 * with the expected size, see {@link Deployer#getDeployed(Theme)}. Note that {@link #deploy()} skips the extraction
+	 * only if the deployed assets have the same checksum of the current ones
 	 */
 	default boolean isDeployed() {
 		return Deployer.instance().getDeployed(this) != null;
@@ -25,8 +25,7 @@
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.*;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -43,6 +42,32 @@ private static class ThrowableWrapper {
 		Throwable t;
 	}
 
+	/**
+	 * Builds a new executor backed by daemon threads with the given name, so that it doesn't prevent the JVM from exiting.
+	 * <p>
+	 * The pool has 2 core threads and at most 4, the core threads are allowed to time out after 5 seconds of inactivity,
+	 * so an idle executor doesn't keep any thread alive.
+	 * <p>
+	 * Used by MaterialFX for background work, see {@link LoaderUtils#executor()}.
+	 */
+	public static ThreadPoolExecutor newDaemonExecutor(String threadName) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				2,
+				4,
+				5,
+				TimeUnit.SECONDS,
+				new LinkedBlockingDeque<>(),
+				runnable -> {
+					Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+					thread.setName(threadName);
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	/**
 	 * Invokes a Runnable on the JavaFX Application Thread and waits for it to finish.
 	 *
@@ -18,8 +18,10 @@
 
 package io.github.palexdev.materialfx.utils;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -27,6 +29,9 @@
  * Helper class to process changes in {@link ObservableList}s.
  * <p>
  * It's capable of computing additions and removals.
+ * <p></p>
+ * To remap a big number of indexes, for example a selection, prefer {@link #remap(int[], ListChangeListener.Change)},
+ * which processes a whole {@link ListChangeListener.Change} in a single pass over a sorted primitive array.
  */
 public class ListChangeProcessor {
 	//================================================================================
@@ -41,6 +46,100 @@ public ListChangeProcessor(Set<Integer> indexes) {
 		this.indexes = indexes;
 	}
 
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Remaps the given indexes of a list according to the given change of that list.
+	 * <p>
+	 * The given array must be sorted in ascending order, it is not modified, the result is a new sorted array.
+	 * <p>
+	 * Additions, removals and replacements are processed in a single linear merge pass: since sub-changes are ordered,
+	 * the indexes and the sub-changes are scanned together, while keeping track of the shift caused by the
+	 * previous sub-changes. This way the cost is O(indexes + sub-changes) and no index is boxed.
+	 * <p>
+	 * Removed indexes are dropped. For replacements, the first min(removed, added) indexes are kept in place, since
+	 * they represent items that have been set, while the others are dropped.
+	 * <p>
+	 * Permutations are applied to the indexes, which are then sorted again. Updates do not affect indexes.
+	 * <p>
+	 * The change is reset before and after being processed.
+	 */
+	public static int[] remap(int[] indexes, ListChangeListener.Change<?> change) {
+		boolean structural = false;
+		boolean permutation = false;
+		change.reset();
+		while (change.next()) {
+			if (change.wasPermutated()) {
+				permutation = true;
+			} else if (!change.wasUpdated()) {
+				structural = true;
+			}
+		}
+		change.reset();
+
+		int[] result;
+		if (structural) {
+			result = shift(indexes, change);
+		} else if (permutation) {
+			result = permute(indexes, change);
+		} else {
+			result = indexes.clone();
+		}
+		change.reset();
+		return result;
+	}
+
+	/**
+	 * Linear merge pass of {@link #remap(int[], ListChangeListener.Change)} for additions, removals and replacements.
+	 * <p>
+	 * The 'from' index of each sub-change refers to the list after the previous sub-changes have been applied,
+	 * so it's converted back to the original coordinates by subtracting the accumulated shift.
+	 */
+	private static int[] shift(int[] indexes, ListChangeListener.Change<?> change) {
+		int[] out = new int[indexes.length];
+		int n = 0;
+		int i = 0;
+		int shift = 0;
+		while (change.next()) {
+			if (change.wasPermutated() || change.wasUpdated()) continue;
+
+			int from = change.getFrom();
+			int removed = change.getRemovedSize();
+			int added = change.getAddedSize();
+			int oldFrom = from - shift;
+			int oldEnd = oldFrom + removed;
+			int kept = change.wasReplaced() ? Math.min(removed, added) : 0;
+
+			while (i < indexes.length && indexes[i] < oldFrom) out[n++] = indexes[i++] + shift;
+			while (i < indexes.length && indexes[i] < oldEnd) {
+				int offset = indexes[i++] - oldFrom;
+				if (offset < kept) out[n++] = from + offset;
+			}
+			shift += added - removed;
+		}
+		while (i < indexes.length) out[n++] = indexes[i++] + shift;
+		return n == out.length ? out : Arrays.copyOf(out, n);
+	}
+
+	/**
+	 * Permutation pass of {@link #remap(int[], ListChangeListener.Change)}.
+	 */
+	private static int[] permute(int[] indexes, ListChangeListener.Change<?> change) {
+		int[] out = indexes.clone();
+		while (change.next()) {
+			if (!change.wasPermutated()) continue;
+			int from = change.getFrom();
+			int to = change.getTo();
+			for (int i = 0; i < out.length; i++) {
+				if (out[i] >= from && out[i] < to) out[i] = change.getPermutation(out[i]);
+			}
+		}
+		Arrays.sort(out);
+		return out;
+	}
+
 	//================================================================================
 	// Methods
 	//================================================================================
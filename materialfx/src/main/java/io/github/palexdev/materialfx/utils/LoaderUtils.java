@@ -31,24 +31,7 @@
  * Utils class to load FXML views.
  */
 public class LoaderUtils {
-	private static final ThreadPoolExecutor executor;
-
-	static {
-		executor = new ThreadPoolExecutor(
-				2,
-				4,
-				5,
-				TimeUnit.SECONDS,
-				new LinkedBlockingDeque<>(),
-				runnable -> {
-					Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-					thread.setName("MFXLoaderThread");
-					thread.setDaemon(true);
-					return thread;
-				}
-		);
-		executor.allowCoreThreadTimeOut(true);
-	}
+	private static final ThreadPoolExecutor executor = ExecutionUtils.newDaemonExecutor("MFXLoaderThread");
 
 	private LoaderUtils() {
 	}
@@ -79,6 +62,13 @@ public static Future<Parent> submit(Callable<Parent> task) {
 		return executor.submit(task);
 	}
 
+	/**
+	 * @return the executor used by {@link #submit(Callable)}
+	 */
+	public static Executor executor() {
+		return executor;
+	}
+
 	/**
 	 * Creates a new FXMLLoader with location {@link MFXLoaderBean#getFxmlFile()} and
 	 * controller {@link MFXLoaderBean#getControllerFactory()} (if not null) and loads the fxml file.
@@ -20,23 +20,21 @@
 
 import io.github.palexdev.materialfx.beans.properties.functional.SupplierProperty;
 import io.github.palexdev.materialfx.enums.LoaderCacheLevel;
+import io.github.palexdev.materialfx.enums.ViewLoadPolicy;
 import io.github.palexdev.materialfx.utils.LoaderUtils;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.CacheHint;
+import javafx.scene.Group;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.layout.StackPane;
 import javafx.util.Callback;
 
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -52,6 +50,12 @@
  * which should be the identifier of the view, you can also use {@link LoaderUtils#generateKey(URL)} to automatically generate a key.
  * <p></p>
  * Once every view has been added you can start the loader with either {@link #start()} or {@link #startWith(ExecutorService)}.
+ * These load the views one at a time. To load them concurrently, use {@link #startConcurrent()} or {@link #startConcurrent(Executor)}.
+ * <p>
+ * Views are loaded by priority, {@link MFXLoaderBean#setPriority(int)}, the default view always comes first. A view can also
+ * depend on other views, {@link MFXLoaderBean#setDependencies(String...)}, which are loaded before it. Finally, each view
+ * has a {@link ViewLoadPolicy} which specifies whether it's loaded at start, in background afterwards or on demand
+ * by {@link #loadView(String)}.
  * <p>
  * After all views have been loaded the {@link #onLoaded(List)} method is called, see also {@link #setOnLoadedAction(Consumer)}.
  * <p></p>
@@ -87,6 +91,14 @@ public void set(Supplier<FXMLLoader> newValue) {
 	private final AtomicInteger loadedCount = new AtomicInteger(0);
 	private Consumer<List<MFXLoaderBean>> onLoadedAction;
 	private LoaderCacheLevel cacheLevel = LoaderCacheLevel.SCENE_CACHE;
+	private Consumer<MFXLoaderBean> onViewLoadedAction;
+	private int cacheBatchSize = 8;
+
+	private Executor executor;
+	private final Queue<MFXLoaderBean> ready = new ConcurrentLinkedQueue<>();
+	private final Map<MFXLoaderBean, Throwable> errors = new ConcurrentHashMap<>();
+	private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+	private final Deque<MFXLoaderBean> idleQueue = new ArrayDeque<>();
 
 	//================================================================================
 	// Constructors
@@ -105,7 +117,8 @@ public MFXLoader(Consumer<List<MFXLoaderBean>> onLoadedAction) {
 
 	/**
 	 * Starts the loading process by collecting all the views from the map
-	 * that are still not loaded. Then for each {@link MFXLoaderBean} builds
+	 * that are still not loaded and are not {@link ViewLoadPolicy#LAZY}, in the order given by {@link #loadOrder(Collection)}.
+	 * Then for each {@link MFXLoaderBean} builds
 	 * the {@link Callable} used to load the FXML root, see {@link #buildTask(MFXLoaderBean)},
 	 * and sends it to the {@link LoaderUtils}'s executor, to load the view uses
 	 * {@link Future#get()}.
@@ -116,9 +129,7 @@ public MFXLoader(Consumer<List<MFXLoaderBean>> onLoadedAction) {
 	 * is given by {@link Map#values()} (wrapped in an ArrayList).
 	 */
 	public void start() {
-		List<MFXLoaderBean> toLoad = viewMap.values().stream()
-				.filter(bean -> !bean.isLoaded())
-				.collect(Collectors.toList());
+		List<MFXLoaderBean> toLoad = loadOrder(withPolicy(ViewLoadPolicy.EAGER, ViewLoadPolicy.IDLE));
 		for (MFXLoaderBean bean : toLoad) {
 			try {
 				Callable<Parent> task = buildTask(bean);
@@ -140,9 +151,7 @@ public void start() {
 	 * {@link ExecutorService}.
 	 */
 	public void startWith(ExecutorService executorService) {
-		List<MFXLoaderBean> toLoad = viewMap.values().stream()
-				.filter(bean -> !bean.isLoaded())
-				.collect(Collectors.toList());
+		List<MFXLoaderBean> toLoad = loadOrder(withPolicy(ViewLoadPolicy.EAGER, ViewLoadPolicy.IDLE));
 		for (MFXLoaderBean bean : toLoad) {
 			try {
 				Callable<Parent> task = buildTask(bean);
@@ -159,6 +168,213 @@ public void startWith(ExecutorService executorService) {
 		onLoaded(new ArrayList<>(viewMap.values()));
 	}
 
+	/**
+	 * Calls {@link #startConcurrent(Executor)} with the {@link LoaderUtils}'s executor.
+	 */
+	public CompletableFuture<List<MFXLoaderBean>> startConcurrent() {
+		return startConcurrent(LoaderUtils.executor());
+	}
+
+	/**
+	 * Starts the loading process by submitting the tasks for all the {@link ViewLoadPolicy#EAGER} views that are still
+	 * not loaded at once, by priority, see {@link #request(MFXLoaderBean)}.
+	 * <p>
+	 * The FXML files are loaded concurrently on the given {@link Executor}, this means that the views and their
+	 * controllers must not require the JavaFX thread to be built. Once a view is loaded, it's queued to be cached on the
+	 * JavaFX thread, see {@link #cacheParents(List)}, views are cached in batches of at most {@link #getCacheBatchSize()},
+	 * so that the JavaFX thread is not blocked for too long.
+	 * <p>
+	 * For each view, the time spent loading and caching is stored in the bean, see {@link MFXLoaderBean#getParseTime()}
+	 * and {@link MFXLoaderBean#getCacheTime()}, then the {@link #setOnViewLoadedAction(Consumer)} is invoked.
+	 * Views that failed to load are not marked as loaded.
+	 * <p>
+	 * Once all the eager views have been processed, {@link #onLoaded(List)} is called on the JavaFX thread, and the returned
+	 * future is completed with the same list. Then, the {@link ViewLoadPolicy#IDLE} views are loaded in background,
+	 * one at a time, so that views requested by {@link #loadView(String)} don't wait for them.
+	 * {@link ViewLoadPolicy#LAZY} views are loaded only when requested.
+	 */
+	public CompletableFuture<List<MFXLoaderBean>> startConcurrent(Executor executor) {
+		this.executor = executor;
+		List<MFXLoaderBean> eager = loadOrder(withPolicy(ViewLoadPolicy.EAGER));
+		List<MFXLoaderBean> idle = loadOrder(withPolicy(ViewLoadPolicy.IDLE));
+
+		CompletableFuture<List<MFXLoaderBean>> result = new CompletableFuture<>();
+		CompletableFuture<?>[] futures = eager.stream()
+				.map(this::request)
+				.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(futures).whenComplete((unused, ex) -> runOnFx(() -> {
+			List<MFXLoaderBean> beans = new ArrayList<>(viewMap.values());
+			onLoaded(beans);
+			result.complete(beans);
+
+			idleQueue.addAll(idle);
+			requestNextIdle();
+		}));
+		return result;
+	}
+
+	/**
+	 * Requests the view with the given identifier, loading it (and its dependencies) if not already loaded or requested.
+	 * <p>
+	 * This is the way to load {@link ViewLoadPolicy#LAZY} views, but works for any view, requested views are loaded
+	 * before the {@link ViewLoadPolicy#IDLE} ones still waiting. If the loader has not been started by
+	 * {@link #startConcurrent(Executor)}, the {@link LoaderUtils}'s executor is used.
+	 *
+	 * @return a future completed on the JavaFX thread with the loaded root, or exceptionally if the view or one of its
+	 * dependencies could not be loaded
+	 * @throws IllegalArgumentException if there's no view for the given identifier
+	 */
+	public CompletableFuture<Parent> loadView(String viewName) {
+		MFXLoaderBean bean = viewMap.get(viewName);
+		if (bean == null) {
+			throw new IllegalArgumentException("No view found for name: " + viewName);
+		}
+		loadOrder(List.of(bean));
+		return request(bean);
+	}
+
+	/**
+	 * Requests the given view. If it has already been requested, returns the same future.
+	 * <p>
+	 * Otherwise, requests its dependencies, and once they have been loaded submits the task to load the view to the executor.
+	 * The loaded view is then cached on the JavaFX thread and the future completed, see {@link #cacheParents(List)}.
+	 * If any dependency fails, the view is not loaded and the future completes exceptionally, the view can then be requested again.
+	 */
+	private synchronized CompletableFuture<Parent> request(MFXLoaderBean bean) {
+		if (bean.getFuture() != null) return bean.getFuture();
+
+		CompletableFuture<Parent> future = new CompletableFuture<>();
+		bean.setFuture(future);
+		if (bean.isLoaded()) {
+			future.complete(bean.getRoot());
+			return future;
+		}
+		if (executor == null) executor = LoaderUtils.executor();
+
+		CompletableFuture<?>[] dependencies = bean.getDependencies().stream()
+				.map(viewMap::get)
+				.map(this::request)
+				.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(dependencies).whenComplete((unused, ex) -> {
+			if (ex != null) {
+				runOnFx(() -> {
+					// Reset the future so that the view can be requested again, as for load errors
+					if (bean.getFuture() == future) bean.setFuture(null);
+					future.completeExceptionally(ex);
+				});
+				return;
+			}
+			Callable<Parent> task = buildTask(bean);
+			executor.execute(() -> {
+				long start = System.nanoTime();
+				try {
+					task.call();
+				} catch (Exception taskEx) {
+					taskEx.printStackTrace();
+					bean.setRoot(null);
+					errors.put(bean, taskEx);
+				}
+				bean.setParseTime(System.nanoTime() - start);
+				ready.add(bean);
+				if (drainScheduled.compareAndSet(false, true)) Platform.runLater(this::drain);
+			});
+		});
+		return future;
+	}
+
+	/**
+	 * Requests the next {@link ViewLoadPolicy#IDLE} view, the following one is requested once it has been loaded.
+	 */
+	private void requestNextIdle() {
+		MFXLoaderBean bean = idleQueue.pollFirst();
+		if (bean == null) return;
+		request(bean).whenComplete((root, ex) -> requestNextIdle());
+	}
+
+	/**
+	 * Caches at most {@link #getCacheBatchSize()} of the loaded views, then completes their futures.
+	 * If there are more views waiting, another run is scheduled.
+	 */
+	private void drain() {
+		drainScheduled.set(false);
+		List<MFXLoaderBean> batch = new ArrayList<>();
+		MFXLoaderBean bean;
+		while (batch.size() < Math.max(1, cacheBatchSize) && (bean = ready.poll()) != null) {
+			batch.add(bean);
+		}
+		cacheParents(batch);
+
+		for (MFXLoaderBean loaded : batch) {
+			Throwable ex = errors.remove(loaded);
+			if (ex != null) {
+				// Reset the future so that the view can be requested again
+				CompletableFuture<Parent> future = loaded.getFuture();
+				loaded.setFuture(null);
+				future.completeExceptionally(ex);
+			} else {
+				loaded.getFuture().complete(loaded.getRoot());
+			}
+		}
+
+		if (!ready.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+			Platform.runLater(this::drain);
+		}
+	}
+
+	/**
+	 * @return the views in the map with the given policies that are still not loaded
+	 */
+	private List<MFXLoaderBean> withPolicy(ViewLoadPolicy... policies) {
+		List<ViewLoadPolicy> accepted = Arrays.asList(policies);
+		return viewMap.values().stream()
+				.filter(bean -> !bean.isLoaded() && accepted.contains(bean.getLoadPolicy()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Sorts the given views by priority, the default view first, then makes sure that every view comes after its
+	 * dependencies, which are added if not already present and still not loaded.
+	 *
+	 * @throws IllegalArgumentException if a dependency refers to a view not in the map
+	 * @throws IllegalStateException    if the dependencies are circular
+	 */
+	private List<MFXLoaderBean> loadOrder(Collection<MFXLoaderBean> beans) {
+		List<MFXLoaderBean> sorted = new ArrayList<>(beans);
+		sorted.sort(Comparator.comparing(MFXLoaderBean::isDefaultView).reversed()
+				.thenComparing(Comparator.comparingInt(MFXLoaderBean::getPriority).reversed()));
+
+		Set<MFXLoaderBean> order = new LinkedHashSet<>();
+		Set<MFXLoaderBean> visiting = new HashSet<>();
+		for (MFXLoaderBean bean : sorted) {
+			visit(bean, order, visiting);
+		}
+		return new ArrayList<>(order);
+	}
+
+	private void visit(MFXLoaderBean bean, Set<MFXLoaderBean> order, Set<MFXLoaderBean> visiting) {
+		if (bean.isLoaded() || order.contains(bean)) return;
+		if (!visiting.add(bean)) {
+			throw new IllegalStateException("Circular dependency detected for view: " + bean.getViewName());
+		}
+		for (String name : bean.getDependencies()) {
+			MFXLoaderBean dependency = viewMap.get(name);
+			if (dependency == null) {
+				throw new IllegalArgumentException("View " + bean.getViewName() + " depends on unknown view: " + name);
+			}
+			visit(dependency, order, visiting);
+		}
+		visiting.remove(bean);
+		order.add(bean);
+	}
+
+	private void runOnFx(Runnable action) {
+		if (Platform.isFxApplicationThread()) {
+			action.run();
+		} else {
+			Platform.runLater(action);
+		}
+	}
+
 	/**
 	 * Adds the given view to the views map.
 	 */
@@ -190,14 +406,21 @@ public MFXLoader addView(String viewName, URL fxmlFile, Callback<Class<?>, Objec
 
 	/**
 	 * @return a view for the given identifier, or null if no view is found
+	 * <p>
+	 * If the loader has been started by {@link #startConcurrent(Executor)} and the view is {@link ViewLoadPolicy#LAZY},
+	 * the first access also requests it, see {@link #loadView(String)}.
 	 */
 	public MFXLoaderBean getView(String viewName) {
-		return viewMap.getOrDefault(viewName, null);
+		MFXLoaderBean bean = viewMap.getOrDefault(viewName, null);
+		if (bean != null && executor != null && bean.getLoadPolicy() == ViewLoadPolicy.LAZY && !bean.isLoaded()) {
+			loadView(viewName);
+		}
+		return bean;
 	}
 
 	/**
 	 * This method is called once all the views have been loaded by {@link #start()} or
-	 * {@link #startWith(ExecutorService)}.
+	 * {@link #startWith(ExecutorService)}, or once all the eager views have been loaded by {@link #startConcurrent(Executor)}.
 	 * <p>
 	 * This simple methods is just responsible for executing the action specified by the user, {@link #setOnLoadedAction(Consumer)},
 	 * if not null.
@@ -253,6 +476,49 @@ private void cacheParent(Parent parent) {
 		pane.layout();
 	}
 
+	/**
+	 * Batched version of {@link #cacheParent(Parent)} used by {@link #startConcurrent(Executor)}, must be called on the
+	 * JavaFX thread.
+	 * <p>
+	 * All the loaded views of the given beans are added to a single dummy {@link Scene}, then CSS and layout are computed
+	 * for each of them, measuring the time spent. At the end they are removed from the scene, the given beans are marked as
+	 * loaded and the {@link #setOnViewLoadedAction(Consumer)} is invoked for each of them.
+	 */
+	private void cacheParents(List<MFXLoaderBean> beans) {
+		Group group = null;
+		if (cacheLevel != LoaderCacheLevel.NONE) {
+			group = new Group();
+			for (MFXLoaderBean bean : beans) {
+				if (bean.getRoot() != null) group.getChildren().add(bean.getRoot());
+			}
+			new Scene(group);
+		}
+
+		for (MFXLoaderBean bean : beans) {
+			Parent parent = bean.getRoot();
+			if (parent == null) continue;
+
+			long start = System.nanoTime();
+			if (group != null) {
+				if (cacheLevel == LoaderCacheLevel.SCENE_JAVAFX_CACHE) {
+					parent.setCache(true);
+					parent.setCacheHint(CacheHint.SPEED);
+				}
+				parent.applyCss();
+				parent.autosize();
+				parent.layout();
+			}
+			bean.setCacheTime(System.nanoTime() - start);
+			bean.setLoaded(true);
+			loadedCount.incrementAndGet();
+		}
+		if (group != null) group.getChildren().clear();
+
+		if (onViewLoadedAction != null) {
+			beans.forEach(onViewLoadedAction);
+		}
+	}
+
 	//================================================================================
 	// Getters/Setters
 	//================================================================================
@@ -286,6 +552,33 @@ public MFXLoader setOnLoadedAction(Consumer<List<MFXLoaderBean>> onLoadedAction)
 		return this;
 	}
 
+	public Consumer<MFXLoaderBean> getOnViewLoadedAction() {
+		return onViewLoadedAction;
+	}
+
+	/**
+	 * Sets the action to perform every time a view has been loaded and cached by {@link #startConcurrent(Executor)}.
+	 * <p>
+	 * The action is invoked on the JavaFX thread, also for the views that failed to load, in such case the bean
+	 * is not marked as loaded.
+	 */
+	public MFXLoader setOnViewLoadedAction(Consumer<MFXLoaderBean> onViewLoadedAction) {
+		this.onViewLoadedAction = onViewLoadedAction;
+		return this;
+	}
+
+	public int getCacheBatchSize() {
+		return cacheBatchSize;
+	}
+
+	/**
+	 * Sets the maximum number of views cached on the JavaFX thread at once by {@link #startConcurrent(Executor)}.
+	 */
+	public MFXLoader setCacheBatchSize(int cacheBatchSize) {
+		this.cacheBatchSize = cacheBatchSize;
+		return this;
+	}
+
 	public LoaderCacheLevel getCacheLevel() {
 		return cacheLevel;
 	}
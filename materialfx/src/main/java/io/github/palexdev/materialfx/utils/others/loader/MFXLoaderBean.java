@@ -18,11 +18,15 @@
 
 package io.github.palexdev.materialfx.utils.others.loader;
 
+import io.github.palexdev.materialfx.enums.ViewLoadPolicy;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.util.Callback;
 
 import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -52,6 +56,12 @@ public class MFXLoaderBean {
 	private boolean defaultView = false;
 	private boolean loaded = false;
 	private Supplier<Node> beanToNodeMapper;
+	private int priority = 0;
+	private List<String> dependencies = Collections.emptyList();
+	private ViewLoadPolicy loadPolicy = ViewLoadPolicy.EAGER;
+	private CompletableFuture<Parent> future;
+	private long parseTime = -1;
+	private long cacheTime = -1;
 
 	//================================================================================
 	// Constructors
@@ -173,6 +183,106 @@ public MFXLoaderBean setBeanToNodeMapper(Supplier<Node> beanToNodeMapper) {
 		return this;
 	}
 
+	/**
+	 * @return the priority of the view, views with higher priority are loaded first
+	 */
+	public int getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Sets the priority of the view, views with higher priority are loaded first.
+	 * The default view is always loaded first.
+	 */
+	public MFXLoaderBean setPriority(int priority) {
+		this.priority = priority;
+		return this;
+	}
+
+	/**
+	 * @return the names of the views that must be loaded before this one
+	 */
+	public List<String> getDependencies() {
+		return dependencies;
+	}
+
+	/**
+	 * Sets the names of the views that must be loaded before this one.
+	 */
+	public MFXLoaderBean setDependencies(String... dependencies) {
+		this.dependencies = List.of(dependencies);
+		return this;
+	}
+
+	/**
+	 * @return when the view should be loaded, see {@link ViewLoadPolicy}
+	 */
+	public ViewLoadPolicy getLoadPolicy() {
+		return loadPolicy;
+	}
+
+	/**
+	 * Sets when the view should be loaded, see {@link ViewLoadPolicy}.
+	 */
+	public MFXLoaderBean setLoadPolicy(ViewLoadPolicy loadPolicy) {
+		this.loadPolicy = loadPolicy;
+		return this;
+	}
+
+	/**
+	 * @return the future of the view's load request, null if it has not been requested yet.
+	 * Package private, handled by the loader
+	 */
+	CompletableFuture<Parent> getFuture() {
+		return future;
+	}
+
+	/**
+	 * Sets the future of the view's load request.
+	 * <p>
+	 * Package private, handled by the loader.
+	 */
+	MFXLoaderBean setFuture(CompletableFuture<Parent> future) {
+		this.future = future;
+		return this;
+	}
+
+	/**
+	 * @return the time in nanoseconds spent loading the FXML file, -1 if the view has not been loaded
+	 * by {@link MFXLoader#startConcurrent(java.util.concurrent.Executor)}
+	 */
+	public long getParseTime() {
+		return parseTime;
+	}
+
+	/**
+	 * Sets the time spent loading the FXML file.
+	 * <p>
+	 * Package private, handled by the loader.
+	 */
+	MFXLoaderBean setParseTime(long parseTime) {
+		this.parseTime = parseTime;
+		return this;
+	}
+
+	/**
+	 * @return the time in nanoseconds spent on the JavaFX thread to cache the view, -1 if the view has not been loaded
+	 * by {@link MFXLoader#startConcurrent(java.util.concurrent.Executor)}
+	 */
+	public long getCacheTime() {
+		return cacheTime;
+	}
+
+	/**
+	 * Sets the time spent on the JavaFX thread to cache the view.
+	 * <p>
+	 * Package private, handled by the loader.
+	 */
+	MFXLoaderBean setCacheTime(long cacheTime) {
+		this.cacheTime = cacheTime;
+		return this;
+	}
+
 	//================================================================================
 	// Builder
 	//================================================================================
@@ -198,6 +308,21 @@ public Builder setBeanToNodeMapper(Supplier<Node> beanToNodeMapper) {
 			return this;
 		}
 
+		public Builder setPriority(int priority) {
+			bean.setPriority(priority);
+			return this;
+		}
+
+		public Builder setDependencies(String... dependencies) {
+			bean.setDependencies(dependencies);
+			return this;
+		}
+
+		public Builder setLoadPolicy(ViewLoadPolicy loadPolicy) {
+			bean.setLoadPolicy(loadPolicy);
+			return this;
+		}
+
 		public MFXLoaderBean get() {
 			return bean;
 		}
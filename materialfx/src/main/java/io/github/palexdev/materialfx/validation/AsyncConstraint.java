@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.validation;
+
+import io.github.palexdev.materialfx.controls.MFXTextField;
+import io.github.palexdev.materialfx.i18n.I18N;
+import io.github.palexdev.materialfx.utils.ExecutionUtils;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.BooleanExpression;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.util.Duration;
+
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * A {@link Constraint} whose condition is evaluated asynchronously by a {@link Check}, for checks that would
+ * block the JavaFX thread, like "the username is not taken" or lookups on a remote registry.
+ * <p></p>
+ * The constraint observes a source value (for example the text of a {@link MFXTextField}), and every time it changes
+ * a new evaluation is scheduled after the {@link #getDelay()}, so that rapid edits only trigger one check.
+ * The check is then executed on the {@link #getExecutor()}, and the result is applied on the JavaFX thread.
+ * <p>
+ * When a new evaluation starts, the previous one is cancelled: if it didn't start yet it's not executed at all,
+ * otherwise its result is discarded.
+ * <p></p>
+ * While an evaluation is scheduled or running the constraint is {@link #pendingProperty() pending} and its condition
+ * is false, so that the {@link MFXValidator} is not valid until the check completes, see {@link MFXValidator#pendingProperty()}.
+ * In this state the {@link #getMessage()} is the {@link #getPendingMessage()}.
+ * <p>
+ * If the check fails with an exception the constraint is considered invalid, the exception can be retrieved
+ * with {@link #getError()}.
+ * <p></p>
+ * The check can be replaced at any time with {@link #setCheck(Check)}, for example with a local stub when testing.
+ *
+ * @param <T> the type of the observed value
+ */
+public class AsyncConstraint<T> extends Constraint {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private static final Executor defaultExecutor = ExecutionUtils.newDaemonExecutor("MFXConstraintThread");
+
+	private final ObservableValue<T> source;
+	private Check<T> check;
+	private Executor executor = defaultExecutor;
+	private String pendingMessage = I18N.getOrDefault("asyncConstraint.pending");
+
+	private final ReadOnlyBooleanWrapper checked = new ReadOnlyBooleanWrapper(false);
+	private final ReadOnlyBooleanWrapper pending = new ReadOnlyBooleanWrapper(false);
+	private final PauseTransition debounce = new PauseTransition(Duration.millis(300));
+	private final InvalidationListener sourceListener = invalidated -> schedule();
+	private CompletableFuture<Boolean> inFlight;
+	private Throwable error;
+	private long generation = 0;
+	private boolean started = false;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+
+	/**
+	 * Calls {@link #AsyncConstraint(Severity, String, ObservableValue, Check)} with {@link Severity#ERROR}.
+	 */
+	public AsyncConstraint(String message, ObservableValue<T> source, Check<T> check) {
+		this(Severity.ERROR, message, source, check);
+	}
+
+	/**
+	 * Creates a new constraint which observes the given source and validates it with the given check.
+	 * <p>
+	 * The constraint starts pending, the first evaluation is deferred until the constraint is used, that is
+	 * when the condition is requested by {@link #getCondition()} (for example when the constraint is added to a
+	 * {@link MFXValidator}) or by {@link #isValid()}. This way, the constraint can be configured first,
+	 * for example with {@link #setExecutor(Executor)}.
+	 */
+	public AsyncConstraint(Severity severity, String message, ObservableValue<T> source, Check<T> check) {
+		this.source = Objects.requireNonNull(source, "The source cannot be null!");
+		this.check = Objects.requireNonNull(check, "The check cannot be null!");
+		setSeverity(severity);
+		setMessage(message);
+		setCondition(Bindings.createBooleanBinding(
+				() -> checked.get() && !pending.get(),
+				checked, pending
+		));
+
+		debounce.setOnFinished(event -> evaluate());
+		source.addListener(sourceListener);
+		pending.set(true);
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * @return a new {@code AsyncConstraint} with ERROR severity which validates the text of the given field
+	 */
+	public static AsyncConstraint<String> of(String message, MFXTextField field, Check<String> check) {
+		return new AsyncConstraint<>(message, field.textProperty(), check);
+	}
+
+	/**
+	 * @return a new {@code AsyncConstraint} with the given severity which validates the text of the given field
+	 */
+	public static AsyncConstraint<String> of(Severity severity, String message, MFXTextField field, Check<String> check) {
+		return new AsyncConstraint<>(severity, message, field.textProperty(), check);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Called when the source changes. Marks the constraint as pending, cancels the current evaluation
+	 * and schedules a new one after the {@link #getDelay()}.
+	 * <p>
+	 * If the delay is zero the evaluation starts immediately.
+	 */
+	protected void schedule() {
+		started = true;
+		cancel();
+		pending.set(true);
+		if (debounce.getDuration().lessThanOrEqualTo(Duration.ZERO)) {
+			evaluate();
+			return;
+		}
+		debounce.playFromStart();
+	}
+
+	/**
+	 * Starts a new evaluation of the current source value immediately, cancelling the current one.
+	 * <p>
+	 * The check is executed on the {@link #getExecutor()}, the result is applied on the JavaFX thread only
+	 * if no other evaluation started in the meantime.
+	 */
+	public void evaluate() {
+		started = true;
+		cancel();
+		long job = generation;
+		T value = source.getValue();
+		Check<T> check = this.check;
+		pending.set(true);
+		inFlight = CompletableFuture.supplyAsync(() -> {
+			try {
+				return check.test(value);
+			} catch (Exception ex) {
+				throw new CompletionException(ex);
+			}
+		}, executor);
+		inFlight.whenComplete((result, ex) -> {
+			if (ex instanceof CancellationException) return;
+			Platform.runLater(() -> {
+				if (job != generation) return;
+				inFlight = null;
+				error = ex instanceof CompletionException ? ex.getCause() : ex;
+				checked.set(ex == null && Boolean.TRUE.equals(result));
+				pending.set(false);
+			});
+		});
+	}
+
+	/**
+	 * Stops the debounce timer and cancels the current evaluation, if any.
+	 * <p>
+	 * Note that this doesn't reset the pending state, a new evaluation is expected to follow.
+	 */
+	protected void cancel() {
+		generation++;
+		debounce.stop();
+		if (inFlight != null) {
+			inFlight.cancel(false);
+			inFlight = null;
+		}
+	}
+
+	/**
+	 * Stops observing the source and cancels the current evaluation.
+	 * <p>
+	 * The constraint is left in its last state, a disposed constraint should be removed from the validator.
+	 */
+	public void dispose() {
+		source.removeListener(sourceListener);
+		cancel();
+		pending.set(false);
+	}
+
+	/**
+	 * Starts the first evaluation if it didn't start yet.
+	 */
+	private void start() {
+		if (!started) evaluate();
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Starts the first evaluation if needed.
+	 */
+	@Override
+	public BooleanExpression getCondition() {
+		start();
+		return super.getCondition();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Starts the first evaluation if needed, note that the result is not available until it completes.
+	 */
+	@Override
+	public boolean isValid() {
+		start();
+		return super.isValid();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * While {@link #isPending()}, returns the {@link #getPendingMessage()} instead.
+	 */
+	@Override
+	public String getMessage() {
+		return isPending() ? pendingMessage : super.getMessage();
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the observed value
+	 */
+	public ObservableValue<T> getSource() {
+		return source;
+	}
+
+	/**
+	 * @return the check used to validate the source value
+	 */
+	public Check<T> getCheck() {
+		return check;
+	}
+
+	/**
+	 * Sets the check used to validate the source value, then starts a new evaluation
+	 * (unless the first one has not started yet).
+	 */
+	public AsyncConstraint<T> setCheck(Check<T> check) {
+		this.check = Objects.requireNonNull(check, "The check cannot be null!");
+		if (started) evaluate();
+		return this;
+	}
+
+	/**
+	 * @return the executor on which the check is executed
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Sets the executor on which the check is executed.
+	 * <p>
+	 * By default, a shared pool of daemon threads is used.
+	 * <p>
+	 * If an evaluation is running, it's restarted on the new executor.
+	 */
+	public AsyncConstraint<T> setExecutor(Executor executor) {
+		this.executor = Objects.requireNonNull(executor, "The executor cannot be null!");
+		if (inFlight != null) evaluate();
+		return this;
+	}
+
+	/**
+	 * @return the time to wait after the last change of the source before starting an evaluation
+	 */
+	public Duration getDelay() {
+		return debounce.getDuration();
+	}
+
+	/**
+	 * Sets the time to wait after the last change of the source before starting an evaluation, 300ms by default.
+	 */
+	public AsyncConstraint<T> setDelay(Duration delay) {
+		debounce.setDuration(delay);
+		return this;
+	}
+
+	/**
+	 * @return the message returned by {@link #getMessage()} while the constraint is pending.
+	 * By default, it's the localized "asyncConstraint.pending" string, see {@link I18N}
+	 */
+	public String getPendingMessage() {
+		return pendingMessage;
+	}
+
+	/**
+	 * Sets the message returned by {@link #getMessage()} while the constraint is pending.
+	 */
+	public AsyncConstraint<T> setPendingMessage(String pendingMessage) {
+		this.pendingMessage = pendingMessage;
+		return this;
+	}
+
+	/**
+	 * @return the exception thrown by the last check, null if it completed normally
+	 */
+	public Throwable getError() {
+		return error;
+	}
+
+	public boolean isPending() {
+		return pending.get();
+	}
+
+	/**
+	 * Specifies whether an evaluation is scheduled or running.
+	 */
+	public ReadOnlyBooleanProperty pendingProperty() {
+		return pending.getReadOnlyProperty();
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Functional interface to define the asynchronous check of an {@link AsyncConstraint}.
+	 * <p>
+	 * The check is executed off the JavaFX thread, so it must not access the scene graph.
+	 */
+	@FunctionalInterface
+	public interface Check<T> {
+
+		/**
+		 * @return whether the given value is valid
+		 * @throws Exception if the check cannot be completed, in which case the constraint is considered invalid
+		 */
+		boolean test(T value) throws Exception;
+	}
+}
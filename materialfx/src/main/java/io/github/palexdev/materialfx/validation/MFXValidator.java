@@ -20,17 +20,17 @@
 
 import io.github.palexdev.materialfx.enums.ChainMode;
 import io.github.palexdev.materialfx.utils.others.observables.When;
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.BooleanExpression;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
 import java.util.function.BiConsumer;
 
 /**
@@ -47,6 +47,13 @@
  * You have two ways of querying the validator's state:
  * <p> One is to simply query the {@link #validProperty()}
  * <p> The other is to call {@link #validate()}
+ * <p></p>
+ * The validator keeps the state of each constraint, and re-evaluates only the constraints whose condition has been
+ * invalidated. The list of invalid constraints is also cached until the next change.
+ * <p>
+ * By default, the validator is updated as soon as a constraint or a dependency changes. When many constraints change
+ * at once (for example when loading a record in a form), the validator can be set to {@link #setDeferred(boolean)} mode,
+ * in which changes are collected and the validator is updated only once per pulse, or when {@link #flush()} is called.
  */
 public class MFXValidator {
 	//================================================================================
@@ -55,16 +62,34 @@ public class MFXValidator {
 	private final ObservableList<Constraint> constraints = FXCollections.observableArrayList();
 	private final ObservableList<MFXValidator> dependencies = FXCollections.observableArrayList();
 	private final ReadOnlyBooleanWrapper valid = new ReadOnlyBooleanWrapper(true);
+	private final ReadOnlyBooleanWrapper pending = new ReadOnlyBooleanWrapper(false);
 	private BiConsumer<Boolean, List<Constraint>> onUpdated;
 	private boolean sortBySeverity = true;
 	private boolean failFast = false;
 
+	private final Map<Constraint, InvalidationListener> listeners = new IdentityHashMap<>();
+	private final Map<Constraint, Boolean> states = new IdentityHashMap<>();
+	private final Set<Constraint> dirty = Collections.newSetFromMap(new IdentityHashMap<>());
+	private List<Constraint> invalidCache;
+	private boolean updatePending = false;
+	private boolean deferred = false;
+	private boolean flushScheduled = false;
+
 	//================================================================================
 	// Constructors
 	//================================================================================
 	public MFXValidator() {
-		constraints.addListener((InvalidationListener) invalidated -> update());
-		dependencies.addListener((InvalidationListener) invalidated -> update());
+		constraints.addListener((ListChangeListener<? super Constraint>) change -> {
+			while (change.next()) {
+				for (Constraint removed : change.getRemoved()) {
+					states.remove(removed);
+					dirty.remove(removed);
+				}
+				dirty.addAll(change.getAddedSubList());
+			}
+			changed();
+		});
+		dependencies.addListener((InvalidationListener) invalidated -> changed());
 	}
 
 	//================================================================================
@@ -75,13 +100,17 @@ public MFXValidator() {
 	 * Adds the given {@link Constraint} to the validator's constraint list.
 	 * <p>
 	 * Also adds an {@link InvalidationListener} to the constraint's condition
-	 * to trigger the {@link #update()} method when it changes. This is needed
-	 * to automatically update the {@link #validProperty()}.
-	 * <p></p>
-	 * The listener is build using the new {@link When} construct.
+	 * which marks the constraint to be re-evaluated and triggers an update of the validator.
+	 * This is needed to automatically update the {@link #validProperty()}.
 	 */
 	public MFXValidator constraint(Constraint constraint) {
-		When.onInvalidated(constraint.getCondition()).then(value -> update()).listen();
+		InvalidationListener listener = invalidated -> {
+			dirty.add(constraint);
+			changed();
+		};
+		InvalidationListener old = listeners.put(constraint, listener);
+		if (old != null) constraint.getCondition().removeListener(old);
+		constraint.getCondition().addListener(listener);
 		constraints.add(constraint);
 		return this;
 	}
@@ -103,12 +132,12 @@ public MFXValidator constraint(String message, BooleanExpression condition) {
 	/**
 	 * Removes the given {@link Constraint} from the validator.
 	 * <p>
-	 * Also invokes {@link When#disposeFor(ObservableValue)} on the
-	 * constraint's condition (see {@link #constraint(Constraint)} and {@link When}).
+	 * Also removes the listener from the constraint's condition (see {@link #constraint(Constraint)}).
 	 */
 	public MFXValidator removeConstraint(Constraint constraint) {
 		if (constraints.remove(constraint)) {
-			When.disposeFor(constraint.getCondition());
+			InvalidationListener listener = listeners.remove(constraint);
+			if (listener != null) constraint.getCondition().removeListener(listener);
 		}
 		return this;
 	}
@@ -117,11 +146,12 @@ public MFXValidator removeConstraint(Constraint constraint) {
 	 * Adds the given {@link MFXValidator} dependency to this validator.
 	 * <p>
 	 * Also adds an {@link InvalidationListener} to the dependency {@link #validProperty()}
-	 * to trigger the {@link #update()} method when it changes. This is needed to automatically update
+	 * and {@link #pendingProperty()} to trigger an update when they change. This is needed to automatically update
 	 * the {@link #validProperty()}
 	 */
 	public MFXValidator dependsOn(MFXValidator validator) {
-		When.onInvalidated(validator.validProperty()).then(value -> update()).listen();
+		When.onInvalidated(validator.validProperty()).then(value -> changed()).listen();
+		When.onInvalidated(validator.pendingProperty()).then(value -> changed()).listen();
 		dependencies.add(validator);
 		return this;
 	}
@@ -130,11 +160,12 @@ public MFXValidator dependsOn(MFXValidator validator) {
 	 * Removes the given validator dependency from this validator.
 	 * <p>
 	 * Also calls {@link When#disposeFor(ObservableValue)} on the dependency's
-	 * valid property (see {@link #dependsOn(MFXValidator)} and {@link When}).
+	 * valid and pending properties (see {@link #dependsOn(MFXValidator)} and {@link When}).
 	 */
 	public MFXValidator removeDependency(MFXValidator validator) {
 		if (dependencies.remove(validator)) {
 			When.disposeFor(validator.validProperty());
+			When.disposeFor(validator.pendingProperty());
 		}
 		return this;
 	}
@@ -153,21 +184,45 @@ public MFXValidator removeDependency(MFXValidator validator) {
 	 * the first one. This applies to both dependencies and constraints.
 	 * In this case the sorting is ignored of course since the list
 	 * will always contain at most one constraint.
+	 * <p></p>
+	 * Pending changes of this validator and of its dependencies are applied first, see {@link #flush()}. The invalid constraints of this validator are
+	 * cached until the next change, so calling this method repeatedly is cheap.
 	 */
 	public List<Constraint> validate() {
+		flush();
 		List<Constraint> invalidConstraints = new ArrayList<>();
 		for (MFXValidator dependency : dependencies) {
+			dependency.flush();
 			if (!dependency.isValid()) {
-				if (failFast) return List.of(dependency.validate().get(0));
-				invalidConstraints.addAll(dependency.validate());
+				List<Constraint> invalid = dependency.validate();
+				if (failFast) {
+					invalidConstraints.add(invalid.get(0));
+					return invalidConstraints;
+				}
+				invalidConstraints.addAll(invalid);
 			}
 		}
-		for (Constraint constraint : constraints) {
-			if (!constraint.isValid()) {
-				invalidConstraints.add(constraint);
-				if (failFast) return invalidConstraints;
+		if (failFast) {
+			for (Constraint constraint : constraints) {
+				if (!isValid(constraint)) {
+					invalidConstraints.add(constraint);
+					return invalidConstraints;
+				}
 			}
+			return invalidConstraints;
 		}
+
+		if (invalidCache == null) {
+			List<Constraint> invalid = new ArrayList<>();
+			for (Constraint constraint : constraints) {
+				if (!isValid(constraint)) invalid.add(constraint);
+			}
+			if (sortBySeverity) invalid.sort(Comparator.comparing(Constraint::getSeverity));
+			invalidCache = invalid;
+		}
+		if (invalidConstraints.isEmpty()) return new ArrayList<>(invalidCache);
+
+		invalidConstraints.addAll(invalidCache);
 		if (sortBySeverity) invalidConstraints.sort(Comparator.comparing(Constraint::getSeverity));
 		return invalidConstraints;
 	}
@@ -175,7 +230,10 @@ public List<Constraint> validate() {
 	/**
 	 * This is the method responsible for updating the validator' state.
 	 * Despite being public it should not be necessary to call it automatically as the
-	 * constraints and the dependencies automatically trigger this method.
+	 * constraints and the dependencies automatically trigger an update.
+	 * <p>
+	 * Unlike automatic updates, which only re-evaluate the constraints whose condition changed,
+	 * this re-evaluates all the constraints.
 	 * <p>
 	 * Note that constraints are evaluated in order of insertion and according to their
 	 * {@link Constraint#getChainMode()}, so be careful with OR modes.
@@ -183,17 +241,81 @@ public List<Constraint> validate() {
 	 * At the end invokes {@link #onUpdated()}.
 	 */
 	public void update() {
+		dirty.addAll(constraints);
+		revalidate();
+	}
+
+	/**
+	 * If there are pending changes, updates the validator' state now rather than waiting for the next pulse.
+	 * <p>
+	 * Does nothing if the validator is not in {@link #isDeferred()} mode, since changes are applied immediately.
+	 */
+	public void flush() {
+		if (updatePending) revalidate();
+	}
+
+	/**
+	 * Called when a constraint, a dependency or the lists change. Invalidates the cached invalid constraints,
+	 * then updates the validator' state immediately, or once in the next pulse if the validator is {@link #isDeferred()}.
+	 */
+	private void changed() {
+		invalidCache = null;
+		updatePending = true;
+		if (!deferred) {
+			revalidate();
+			return;
+		}
+		if (flushScheduled) return;
+		flushScheduled = true;
+		Platform.runLater(() -> {
+			flushScheduled = false;
+			flush();
+		});
+	}
+
+	/**
+	 * Re-evaluates the constraints whose condition changed, then chains the cached states of all
+	 * constraints and dependencies to compute the validator' state.
+	 * <p></p>
+	 * At the end invokes {@link #onUpdated()}.
+	 */
+	private void revalidate() {
+		updatePending = false;
+		if (!dirty.isEmpty()) {
+			invalidCache = null;
+			for (Constraint constraint : dirty) {
+				states.put(constraint, constraint.isValid());
+			}
+			dirty.clear();
+		}
+
 		boolean valid = true;
+		boolean pending = false;
 		for (MFXValidator dependency : dependencies) {
 			valid = valid && dependency.isValid();
+			pending = pending || dependency.isPending();
 		}
 		for (Constraint constraint : constraints) {
-			valid = ChainMode.chain(constraint.getChainMode(), valid, constraint.isValid());
+			valid = ChainMode.chain(constraint.getChainMode(), valid, isValid(constraint));
+			if (constraint instanceof AsyncConstraint) pending = pending || ((AsyncConstraint<?>) constraint).isPending();
 		}
 		setValid(valid);
+		this.pending.set(pending);
 		onUpdated();
 	}
 
+	/**
+	 * @return the cached state of the given constraint, evaluates it if not cached yet
+	 */
+	private boolean isValid(Constraint constraint) {
+		Boolean state = states.get(constraint);
+		if (state == null) {
+			state = constraint.isValid();
+			states.put(constraint, state);
+		}
+		return state;
+	}
+
 	/**
 	 * Calls {@link #validate()} then chains all the invalid constraints' messages
 	 * into a String.
@@ -240,6 +362,18 @@ protected void setValid(boolean valid) {
 		this.valid.set(valid);
 	}
 
+	public boolean isPending() {
+		return pending.get();
+	}
+
+	/**
+	 * Specifies whether any of the {@link AsyncConstraint}s of this validator, or of its dependencies,
+	 * is still being evaluated. While pending the validator is not valid, but its state is not final yet.
+	 */
+	public ReadOnlyBooleanProperty pendingProperty() {
+		return pending.getReadOnlyProperty();
+	}
+
 	/**
 	 * @return the action to perform after an {@link #update()}
 	 * @see #setOnUpdated(BiConsumer)
@@ -271,6 +405,7 @@ public boolean isSortBySeverity() {
 	 */
 	public MFXValidator setSortBySeverity(boolean sortBySeverity) {
 		this.sortBySeverity = sortBySeverity;
+		invalidCache = null;
 		return this;
 	}
 
@@ -288,4 +423,24 @@ public MFXValidator setFailFast(boolean failFast) {
 		this.failFast = failFast;
 		return this;
 	}
+
+	/**
+	 * @return whether changes are collected and applied once per pulse
+	 */
+	public boolean isDeferred() {
+		return deferred;
+	}
+
+	/**
+	 * Sets whether changes to constraints and dependencies should be collected and applied once per pulse,
+	 * instead of updating the validator at every change. Pending changes can be applied immediately with {@link #flush()}.
+	 * <p>
+	 * Note that in this mode the {@link #validProperty()} is updated later, {@link #validate()} always flushes
+	 * pending changes though.
+	 */
+	public MFXValidator setDeferred(boolean deferred) {
+		this.deferred = deferred;
+		if (!deferred) flush();
+		return this;
+	}
 }